@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.exception;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.List;
+
+/**
+ * Defines the exception returned when a batch creator fails after some of the
+ * batch's items have already been created. The items are created in the order
+ * of the request's members, so the created items correspond to the first
+ * members of the request.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ProviderType
+public class PartialBatchCreationException extends Exception {
+
+	public PartialBatchCreationException(
+		List<?> createdItems, int itemsCount, Exception exception) {
+
+		super(
+			"The first " + createdItems.size() + " of " + itemsCount +
+				" items were created before the batch creation failed",
+			exception);
+
+		_createdItems = createdItems;
+		_itemsCount = itemsCount;
+	}
+
+	/**
+	 * Returns the items created before the batch creation failed, in the order
+	 * of the request's members.
+	 *
+	 * @return the created items
+	 * @review
+	 */
+	public List<?> getCreatedItems() {
+		return _createdItems;
+	}
+
+	/**
+	 * Returns the number of items the batch contained.
+	 *
+	 * @return the number of items the batch contained
+	 * @review
+	 */
+	public int getItemsCount() {
+		return _itemsCount;
+	}
+
+	private final transient List<?> _createdItems;
+	private final int _itemsCount;
+
+}
\ No newline at end of file
@@ -16,7 +16,15 @@ package com.liferay.apio.architect.file;
 
 import aQute.bnd.annotation.ConsumerType;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Optional;
 
 /**
  * @author Javier Gamarra
@@ -29,22 +37,71 @@ public class BinaryFile {
 		_inputStream = inputStream;
 		_size = size;
 		_mimeType = mimeType;
+
+		_path = null;
+	}
+
+	/**
+	 * Creates a binary file backed by a file in the file system. Writers can
+	 * use its path to send the file, or a part of it, without copying it
+	 * through an intermediate buffer.
+	 *
+	 * @param path the path of the file
+	 * @param mimeType the file's MIME type
+	 * @review
+	 */
+	public BinaryFile(Path path, String mimeType) {
+		_path = path;
+		_mimeType = mimeType;
+
+		File file = path.toFile();
+
+		_size = file.length();
+
+		_inputStream = null;
 	}
 
+	/**
+	 * Returns the file's content. If the binary file is backed by a path, a
+	 * new stream is opened on each call.
+	 *
+	 * @return the file's content
+	 */
 	public InputStream getInputStream() {
-		return _inputStream;
+		if (_path == null) {
+			return _inputStream;
+		}
+
+		try {
+			return Files.newInputStream(_path);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
 	}
 
 	public String getMimeType() {
 		return _mimeType;
 	}
 
+	/**
+	 * Returns the path of the file backing this binary file, if it was created
+	 * from a path; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the file's path, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Path> getPathOptional() {
+		return Optional.ofNullable(_path);
+	}
+
 	public long getSize() {
 		return _size;
 	}
 
 	private final InputStream _inputStream;
 	private final String _mimeType;
+	private final Path _path;
 	private final long _size;
 
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Provides the information needed by Apio Architect to construct a valid {@link
+ * Page}, counting the collection's total number of elements only if it's
+ * written. The count isn't computed if the client asked to omit it.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @review
+ */
+@ConsumerType
+public class DeferredCountPageItems<T> extends PageItems<T> {
+
+	public DeferredCountPageItems(
+		Collection<T> items, Supplier<Integer> totalCountSupplier) {
+
+		super(items, Optional.empty(), null, false);
+
+		_totalCountSupplier = totalCountSupplier;
+	}
+
+	public DeferredCountPageItems(
+		Collection<T> items, Supplier<Integer> totalCountSupplier,
+		String nextCursor) {
+
+		super(items, Optional.empty(), nextCursor, true);
+
+		_totalCountSupplier = totalCountSupplier;
+	}
+
+	/**
+	 * Returns the total number of elements in the collection. The count is
+	 * computed the first time this method is called.
+	 *
+	 * @return the total number of elements in the collection
+	 */
+	@Override
+	public Optional<Integer> getTotalCountOptional() {
+		if (_totalCount == null) {
+			_totalCount = _totalCountSupplier.get();
+		}
+
+		return Optional.ofNullable(_totalCount);
+	}
+
+	private Integer _totalCount;
+	private final Supplier<Integer> _totalCountSupplier;
+
+}
\ No newline at end of file
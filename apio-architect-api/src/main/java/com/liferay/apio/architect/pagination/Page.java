@@ -35,6 +35,17 @@ import java.util.Optional;
 @ProviderType
 public interface Page<T> {
 
+	/**
+	 * Returns the opaque cursor of the page, if the page was requested with
+	 * one and the resource paginated it with cursors. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getCursorOptional();
+
 	/**
 	 * Returns the page's items.
 	 *
@@ -50,12 +61,25 @@ public interface Page<T> {
 	public int getItemsPerPage();
 
 	/**
-	 * Returns the number of the collection's last page.
+	 * Returns the number of the collection's last page. If the total number of
+	 * elements in the collection wasn't computed, this method returns the
+	 * number of the last page known to exist: the next page's number if this
+	 * page is full, or this page's number otherwise.
 	 *
 	 * @return the number of the collection's last page
 	 */
 	public int getLastPageNumber();
 
+	/**
+	 * Returns the opaque cursor of the next page, if present. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the next page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getNextCursorOptional();
+
 	/**
 	 * Returns the list of operations for the page.
 	 *
@@ -86,12 +110,23 @@ public interface Page<T> {
 	public String getResourceName();
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the total number of elements in the collection, or {@code 0} if
+	 * the total number of elements wasn't computed.
 	 *
 	 * @return the total number of elements in the collection
 	 */
 	public int getTotalCount();
 
+	/**
+	 * Returns the total number of elements in the collection, if it was
+	 * computed. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the total number of elements in the collection, if computed;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Integer> getTotalCountOptional();
+
 	/**
 	 * Returns {@code true} if another page follows this page in the collection.
 	 *
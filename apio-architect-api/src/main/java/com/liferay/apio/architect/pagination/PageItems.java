@@ -17,6 +17,7 @@ package com.liferay.apio.architect.pagination;
 import aQute.bnd.annotation.ConsumerType;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Provides the information needed by Apio Architect to construct a valid {@link
@@ -29,8 +30,34 @@ import java.util.Collection;
 public class PageItems<T> {
 
 	public PageItems(Collection<T> items, int totalCount) {
-		_items = items;
-		_totalCount = totalCount;
+		this(items, Optional.of(totalCount), null, false);
+	}
+
+	/**
+	 * Creates the items of a page requested with cursor pagination, when the
+	 * collection's total number of elements is also known.
+	 *
+	 * @param items the page's items
+	 * @param totalCount the total number of elements in the collection
+	 * @param nextCursor the opaque cursor of the next page, or {@code null} if
+	 *        this is the collection's last page
+	 * @review
+	 */
+	public PageItems(Collection<T> items, int totalCount, String nextCursor) {
+		this(items, Optional.of(totalCount), nextCursor, true);
+	}
+
+	/**
+	 * Creates the items of a page requested with cursor pagination, without
+	 * counting the collection's total number of elements.
+	 *
+	 * @param items the page's items
+	 * @param nextCursor the opaque cursor of the next page, or {@code null} if
+	 *        this is the collection's last page
+	 * @review
+	 */
+	public PageItems(Collection<T> items, String nextCursor) {
+		this(items, Optional.empty(), nextCursor, true);
 	}
 
 	/**
@@ -43,15 +70,68 @@ public class PageItems<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the opaque cursor of the next page, if present. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the next page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getNextCursorOptional() {
+		return _nextCursorOptional;
+	}
+
+	/**
+	 * Returns the total number of elements in the collection, or {@code 0} if
+	 * the total number of elements wasn't computed.
 	 *
 	 * @return the total number of elements in the collection
 	 */
 	public int getTotalCount() {
-		return _totalCount;
+		Optional<Integer> optional = getTotalCountOptional();
+
+		return optional.orElse(0);
+	}
+
+	/**
+	 * Returns the total number of elements in the collection, if it was
+	 * computed. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the total number of elements in the collection, if computed;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Integer> getTotalCountOptional() {
+		return _totalCountOptional;
+	}
+
+	/**
+	 * Returns {@code true} if the resource paginated these items with cursors,
+	 * even if there isn't a next page. Returns {@code false} if the items were
+	 * paginated by page number, in which case the requested cursor, if any, is
+	 * ignored.
+	 *
+	 * @return {@code true} if the items were paginated with cursors; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public boolean isCursorPaginated() {
+		return _cursorPaginated;
+	}
+
+	PageItems(
+		Collection<T> items, Optional<Integer> totalCountOptional,
+		String nextCursor, boolean cursorPaginated) {
+
+		_items = items;
+		_totalCountOptional = totalCountOptional;
+		_nextCursorOptional = Optional.ofNullable(nextCursor);
+		_cursorPaginated = cursorPaginated;
 	}
 
+	private final boolean _cursorPaginated;
 	private final Collection<T> _items;
-	private final int _totalCount;
+	private final Optional<String> _nextCursorOptional;
+	private final Optional<Integer> _totalCountOptional;
 
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ package com.liferay.apio.architect.pagination;
 
 import aQute.bnd.annotation.ProviderType;
 
+import java.util.Optional;
+
 /**
  * Defines pagination for a collection endpoint. An instance of this class is
  * handed to resources that handle pagination parameters.
@@ -28,6 +30,23 @@ import aQute.bnd.annotation.ProviderType;
 @ProviderType
 public interface Pagination {
 
+	/**
+	 * Returns the opaque cursor of the requested page, if the page was
+	 * requested with one. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * Resources that support cursor pagination should return the items that
+	 * follow this cursor, and the next page's cursor in the {@link PageItems},
+	 * instead of using the page's start and end positions. An empty cursor
+	 * requests the first page in cursor mode.
+	 * </p>
+	 *
+	 * @return the requested page's cursor, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getCursorOptional();
+
 	/**
 	 * Returns the position of the requested page's last element.
 	 *
@@ -56,4 +75,15 @@ public interface Pagination {
 	 */
 	public int getStartPosition();
 
+	/**
+	 * Returns {@code true} if the client asked to omit the collection's total
+	 * number of elements. Resources can use this to skip counting the
+	 * elements, since the count won't be written.
+	 *
+	 * @return {@code true} if the total number of elements should be omitted;
+	 *         {@code false} otherwise
+	 * @review
+	 */
+	public boolean isTotalCountOmitted();
+
 }
\ No newline at end of file
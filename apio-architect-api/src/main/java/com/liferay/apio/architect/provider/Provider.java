@@ -23,6 +23,11 @@ import javax.servlet.http.HttpServletRequest;
  * Developers can then provide these instances in the methods added with any of
  * the route builders.
  *
+ * <p>
+ * By default, the instance is created at most once per request and reused for
+ * the rest of it.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @param  <T> the type of the instance to provide
  */
@@ -37,4 +42,17 @@ public interface Provider<T> {
 	 */
 	public T createContext(HttpServletRequest httpServletRequest);
 
+	/**
+	 * Returns {@code true} if the instance created for a request can be reused
+	 * for the rest of that request. If this method returns {@code false}, a new
+	 * instance is created every time one is needed.
+	 *
+	 * @return {@code true} if the instance can be reused during the request;
+	 *         {@code false} otherwise
+	 * @review
+	 */
+	public default boolean isCacheable() {
+		return true;
+	}
+
 }
\ No newline at end of file
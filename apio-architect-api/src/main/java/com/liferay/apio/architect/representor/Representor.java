@@ -19,6 +19,8 @@ import aQute.bnd.annotation.ProviderType;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.related.RelatedCollection;
 
+import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -45,6 +47,18 @@ public interface Representor<T> extends BaseRepresentor<T> {
 	 */
 	public Object getIdentifier(T model);
 
+	/**
+	 * Returns the date in which the model was last modified, if the
+	 * representor has a last modified function. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  model the model instance
+	 * @return the model's last modified date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Date> getLastModifiedOptional(T model);
+
 	/**
 	 * Returns the related collections.
 	 *
@@ -53,6 +67,17 @@ public interface Representor<T> extends BaseRepresentor<T> {
 	public Stream<RelatedCollection<? extends Identifier>>
 		getRelatedCollections();
 
+	/**
+	 * Returns the model's version, if the representor has a version function.
+	 * Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  model the model instance
+	 * @return the model's version, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getVersionOptional(T model);
+
 	/**
 	 * Creates generic representations of your domain models that Apio
 	 * hypermedia writers can understand.
@@ -96,6 +121,20 @@ public interface Representor<T> extends BaseRepresentor<T> {
 			Class<? extends Identifier<S>> identifierClass,
 			Function<T, S> identifierFunction);
 
+		/**
+		 * Provides a function that can be used to obtain the date in which a
+		 * model was last modified. This date is sent in the {@code
+		 * Last-Modified} header and used to answer {@code If-Modified-Since}
+		 * requests.
+		 *
+		 * @param  lastModifiedFunction the function used to obtain the date
+		 *         in which a model was last modified
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T> addLastModified(
+			Function<T, Date> lastModifiedFunction);
+
 		/**
 		 * Adds information about a related collection.
 		 *
@@ -107,6 +146,19 @@ public interface Representor<T> extends BaseRepresentor<T> {
 		public <S extends Identifier> FirstStep<T> addRelatedCollection(
 			String key, Class<S> itemIdentifierClass);
 
+		/**
+		 * Provides a function that can be used to obtain a model's version.
+		 * The version must change every time the model's representation
+		 * changes. It's used to create the {@code ETag} header and answer
+		 * {@code If-None-Match} requests without writing the representation.
+		 *
+		 * @param  versionFunction the function used to obtain a model's
+		 *         version
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T> addVersion(Function<T, String> versionFunction);
+
 	}
 
 	@ProviderType
@@ -17,6 +17,8 @@ package com.liferay.apio.architect.routes;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasAddingPermissionFunction;
@@ -29,7 +31,9 @@ import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Holds information about the routes supported for a {@link
@@ -50,6 +54,30 @@ import java.util.Optional;
 @ProviderType
 public interface CollectionRoutes<T, S> {
 
+	/**
+	 * Returns the function used to obtain the page asynchronously, if the
+	 * endpoint was added through the {@link CollectionRoutes.Builder} with an
+	 * asynchronous getter. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain the page asynchronously, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncGetPageFunction<T>> getAsyncGetPageFunctionOptional();
+
+	/**
+	 * Returns the function that is used to create several collection items at
+	 * once, if the endpoint was added through the {@link
+	 * CollectionRoutes.Builder} and the function therefore exists. Returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to create several collection items, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<BatchCreateItemFunction<T>>
+		getBatchCreateItemFunctionOptional();
+
 	/**
 	 * Returns the function that is used to create a collection item, if the
 	 * endpoint was added through the {@link CollectionRoutes.Builder} and the
@@ -87,6 +115,97 @@ public interface CollectionRoutes<T, S> {
 	@ProviderType
 	public interface Builder<T, S> {
 
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter. The request's thread is released while the returned
+		 * {@code CompletionStage} completes.
+		 *
+		 * @param  throwableBiFunction the function that calculates the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<Pagination, A, CompletionStage<PageItems<T>>>
+				throwableBiFunction,
+			Class<A> aClass);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with no
+		 * extra parameters. The request's thread is released while the
+		 * returned {@code CompletionStage} completes.
+		 *
+		 * @param  throwableFunction the function that calculates the page
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addAsyncGetter(
+			ThrowableFunction<Pagination, CompletionStage<PageItems<T>>>
+				throwableFunction);
+
+		/**
+		 * Adds a route to a batch creator function that has one extra
+		 * parameter. The request's body is read completely before the batch
+		 * creator is called. Its members are then converted with the form and
+		 * handed to the batch creator in fixed-size chunks, so each call
+		 * receives a bounded number of items.
+		 *
+		 * <p>
+		 * The chunks are created in order, and each chunk should be created
+		 * atomically by the batch creator. The chunks aren't rolled back if a
+		 * later chunk fails: if the first chunk fails, its exception is
+		 * returned; otherwise, a {@link
+		 * com.liferay.apio.architect.exception.PartialBatchCreationException}
+		 * containing the items of the previous chunks is returned, so the
+		 * client learns how many of the first members were created.
+		 * </p>
+		 *
+		 * @param  throwableBiFunction the batch creator function
+		 * @param  aClass the class of the batch creator function's second
+		 *         parameter
+		 * @param  hasAddingPermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item of this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, R> Builder<T, S> addBatchCreator(
+			ThrowableBiFunction<List<R>, A, List<T>> throwableBiFunction,
+			Class<A> aClass,
+			HasAddingPermissionFunction hasAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
+		/**
+		 * Adds a route to a batch creator function that has no extra
+		 * parameters. The request's body is read completely before the batch
+		 * creator is called. Its members are then converted with the form and
+		 * handed to the batch creator in fixed-size chunks, so each call
+		 * receives a bounded number of items.
+		 *
+		 * <p>
+		 * The chunks are created in order, and each chunk should be created
+		 * atomically by the batch creator. The chunks aren't rolled back if a
+		 * later chunk fails: if the first chunk fails, its exception is
+		 * returned; otherwise, a {@link
+		 * com.liferay.apio.architect.exception.PartialBatchCreationException}
+		 * containing the items of the previous chunks is returned, so the
+		 * client learns how many of the first members were created.
+		 * </p>
+		 *
+		 * @param  throwableFunction the batch creator function
+		 * @param  hasAddingPermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item of this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public <R> Builder<T, S> addBatchCreator(
+			ThrowableFunction<List<R>, List<T>> throwableFunction,
+			HasAddingPermissionFunction hasAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
 		/**
 		 * Adds a route to a creator function that has one extra parameter.
 		 *
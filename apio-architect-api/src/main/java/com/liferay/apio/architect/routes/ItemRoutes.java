@@ -17,6 +17,8 @@ package com.liferay.apio.architect.routes;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
@@ -35,7 +37,10 @@ import com.liferay.apio.architect.function.throwable.ThrowablePentaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Holds information about the routes supported for an {@link
@@ -56,6 +61,29 @@ import java.util.Optional;
 @ProviderType
 public interface ItemRoutes<T, S> {
 
+	/**
+	 * Returns the function used to obtain the item asynchronously, if the
+	 * endpoint was added through the {@link ItemRoutes.Builder} with an
+	 * asynchronous getter. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain the item asynchronously, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncGetItemFunction<T, S>> getAsyncItemFunctionOptional();
+
+	/**
+	 * Returns the function used to obtain several items at once, if the
+	 * endpoint was added through the {@link ItemRoutes.Builder} and the
+	 * function therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain several items at once, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<BatchGetItemFunction<T, S>>
+		getBatchItemFunctionOptional();
+
 	/**
 	 * Returns the function used to delete the item, if the endpoint was added
 	 * through the {@link ItemRoutes.Builder} and the function therefore exists.
@@ -107,6 +135,123 @@ public interface ItemRoutes<T, S> {
 	@ProviderType
 	public interface Builder<T, S> {
 
+		/**
+		 * Adds a route to an asynchronous item function with one extra
+		 * parameter. The request's thread is released while the returned
+		 * {@code CompletionStage} completes.
+		 *
+		 * <p>
+		 * The item is also available synchronously (for example, to embed it
+		 * in other resources), by waiting for the {@code CompletionStage}.
+		 * </p>
+		 *
+		 * @param  throwableBiFunction the function that calculates the item
+		 * @param  aClass the class of the item function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<S, A, CompletionStage<T>> throwableBiFunction,
+			Class<A> aClass);
+
+		/**
+		 * Adds a route to an asynchronous item function with no extra
+		 * parameters. The request's thread is released while the returned
+		 * {@code CompletionStage} completes.
+		 *
+		 * @param  throwableFunction the function that calculates the item
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addAsyncGetter(
+			ThrowableFunction<S, CompletionStage<T>> throwableFunction);
+
+		/**
+		 * Adds a route to a function that gets several items at once, with one
+		 * extra parameter. The function receives the collection of requested
+		 * identifiers and must return the found models mapped by their
+		 * identifiers. Identifiers without a model should be left out of the
+		 * map.
+		 *
+		 * <p>
+		 * This function is used when several items of the same type must be
+		 * obtained in the same request (for example, the related models of
+		 * every item in a page), so a single backend call can replace one
+		 * getter call per item.
+		 * </p>
+		 *
+		 * @param  throwableBiFunction the function that calculates the items
+		 * @param  aClass the class of the function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addBatchGetter(
+			ThrowableBiFunction<Collection<S>, A, Map<S, T>>
+				throwableBiFunction,
+			Class<A> aClass);
+
+		/**
+		 * Adds a route to a function that gets several items at once, with no
+		 * extra parameters. The function receives the collection of requested
+		 * identifiers and must return the found models mapped by their
+		 * identifiers. Identifiers without a model should be left out of the
+		 * map.
+		 *
+		 * @param  throwableFunction the function that calculates the items
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addBatchGetter(
+			ThrowableFunction<Collection<S>, Map<S, T>> throwableFunction);
+
+		/**
+		 * Adds a route to a function that gets several items at once, with
+		 * four extra parameters.
+		 *
+		 * @param  throwablePentaFunction the function that calculates the items
+		 * @param  aClass the class of the function's second parameter
+		 * @param  bClass the class of the function's third parameter
+		 * @param  cClass the class of the function's fourth parameter
+		 * @param  dClass the class of the function's fifth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C, D> Builder<T, S> addBatchGetter(
+			ThrowablePentaFunction<Collection<S>, A, B, C, D, Map<S, T>>
+				throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass);
+
+		/**
+		 * Adds a route to a function that gets several items at once, with
+		 * three extra parameters.
+		 *
+		 * @param  throwableTetraFunction the function that calculates the items
+		 * @param  aClass the class of the function's second parameter
+		 * @param  bClass the class of the function's third parameter
+		 * @param  cClass the class of the function's fourth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C> Builder<T, S> addBatchGetter(
+			ThrowableTetraFunction<Collection<S>, A, B, C, Map<S, T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass);
+
+		/**
+		 * Adds a route to a function that gets several items at once, with two
+		 * extra parameters.
+		 *
+		 * @param  throwableTriFunction the function that calculates the items
+		 * @param  aClass the class of the function's second parameter
+		 * @param  bClass the class of the function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B> Builder<T, S> addBatchGetter(
+			ThrowableTriFunction<Collection<S>, A, B, Map<S, T>>
+				throwableTriFunction,
+			Class<A> aClass, Class<B> bClass);
+
 		/**
 		 * Adds a route to an item function with one extra parameter.
 		 *
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.routes;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasNestedAddingPermissionFunction;
@@ -30,6 +31,7 @@ import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Holds information about the routes supported for a {@link
@@ -52,6 +54,18 @@ import java.util.Optional;
 @ProviderType
 public interface NestedCollectionRoutes<T, S, U> {
 
+	/**
+	 * Returns the function used to obtain the page asynchronously, if the
+	 * endpoint was added through the {@link NestedCollectionRoutes.Builder}
+	 * with an asynchronous getter. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain the page asynchronously, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<AsyncNestedGetPageFunction<T, U>>
+		getAsyncNestedGetPageFunctionOptional();
+
 	/**
 	 * Returns the form that is used to create a collection item, if it was
 	 * added through the {@link NestedCollectionRoutes.Builder}. Returns {@code
@@ -98,6 +112,34 @@ public interface NestedCollectionRoutes<T, S, U> {
 	@ProviderType
 	public interface Builder<T, S, U> {
 
+		/**
+		 * Adds a route to an asynchronous collection page function with no
+		 * extra parameters. The request's thread is released while the
+		 * returned {@code CompletionStage} completes.
+		 *
+		 * @param  biFunction the function that calculates the page
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S, U> addAsyncGetter(
+			ThrowableBiFunction<Pagination, U, CompletionStage<PageItems<T>>>
+				biFunction);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter. The request's thread is released while the returned
+		 * {@code CompletionStage} completes.
+		 *
+		 * @param  triFunction the function that calculates the page
+		 * @param  aClass the class of the page function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S, U> addAsyncGetter(
+			ThrowableTriFunction
+				<Pagination, U, A, CompletionStage<PageItems<T>>> triFunction,
+			Class<A> aClass);
+
 		/**
 		 * Adds a route to a creator function that has no extra parameters.
 		 *
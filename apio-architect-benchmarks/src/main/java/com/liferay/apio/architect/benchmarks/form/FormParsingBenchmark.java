@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks.form;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.impl.internal.form.FormImpl.BuilderImpl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of parsing a request body with a {@link Form} that
+ * has date, number and boolean fields and lists.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class FormParsingBenchmark {
+
+	@Benchmark
+	public Map<String, Object> parse() {
+		return _form.get(_body);
+	}
+
+	@Setup
+	public void setUp() {
+		BuilderImpl<Map<String, Object>> builder = new BuilderImpl<>(
+			Arrays.asList("f", "s"), __ -> null);
+
+		_form = builder.title(
+			__ -> "title"
+		).description(
+			__ -> "description"
+		).constructor(
+			HashMap::new
+		).addRequiredBoolean(
+			"boolean", _put("boolean")
+		).addRequiredBooleanList(
+			"booleans", _put("booleans")
+		).addRequiredDate(
+			"date", _put("date")
+		).addRequiredDateList(
+			"dates", _put("dates")
+		).addRequiredDouble(
+			"double", _put("double")
+		).addRequiredDoubleList(
+			"doubles", _put("doubles")
+		).addRequiredLong(
+			"long", _put("long")
+		).addRequiredLongList(
+			"longs", _put("longs")
+		).build();
+
+		Map<String, String> values = new HashMap<>();
+
+		values.put("boolean", "true");
+		values.put("date", "2016-06-15T09:00Z");
+		values.put("double", "42.5");
+		values.put("long", "42");
+
+		Map<String, List<String>> valueLists = new HashMap<>();
+
+		valueLists.put("booleans", Arrays.asList("true", "false", "true"));
+		valueLists.put(
+			"dates",
+			Arrays.asList(
+				"2016-06-15T09:00Z", "2017-01-01T00:00Z", "2018-12-31T23:59Z"));
+		valueLists.put("doubles", Arrays.asList("1.5", "2.25", "-3.125"));
+		valueLists.put("longs", Arrays.asList("1", "22", "-333"));
+
+		_body = Body.create(
+			key -> Optional.ofNullable(values.get(key)),
+			key -> Optional.ofNullable(valueLists.get(key)));
+	}
+
+	private static <V> BiConsumer<Map<String, Object>, V> _put(String key) {
+		return (map, value) -> map.put(key, value);
+	}
+
+	private Body _body;
+	private Form<Map<String, Object>> _form;
+
+}
\ No newline at end of file
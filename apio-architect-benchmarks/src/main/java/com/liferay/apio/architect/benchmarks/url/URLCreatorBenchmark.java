@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks.url;
+
+import com.liferay.apio.architect.impl.internal.url.ApplicationURL;
+import com.liferay.apio.architect.impl.internal.url.URLCreator;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.UriBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the URLs built by {@link URLCreator} with the same URLs built with
+ * a {@link UriBuilder}, as {@code URLCreator} used to do.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class URLCreatorBenchmark {
+
+	@Benchmark
+	public String createSingleURL() {
+		return URLCreator.createSingleURL(_applicationURL, _path);
+	}
+
+	@Benchmark
+	public String createSingleURLWithUriBuilder() {
+		return UriBuilder.fromUri(
+			_applicationURL.get()
+		).path(
+			"/p/" + _path.asURI()
+		).build(
+		).toString();
+	}
+
+	private final ApplicationURL _applicationURL =
+		() -> "http://localhost:8080/o/api";
+	private final Path _path = new Path("people", "42");
+
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks.writer;
+
+import com.liferay.apio.architect.impl.internal.documentation.Documentation;
+import com.liferay.apio.architect.impl.internal.message.json.DocumentationMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.ld.JSONLDDocumentationMessageMapper;
+import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.impl.internal.routes.CollectionRoutesImpl;
+import com.liferay.apio.architect.impl.internal.routes.ItemRoutesImpl;
+import com.liferay.apio.architect.impl.internal.routes.NestedCollectionRoutesImpl;
+import com.liferay.apio.architect.impl.internal.writer.DocumentationWriter;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.test.util.representor.MockRepresentorCreator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link DocumentationWriter} with different
+ * numbers of resources. JSON-LD is the only media type with a {@link
+ * DocumentationMessageMapper}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class DocumentationWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		Map<String, CollectionRoutes> collectionRoutesMap = new HashMap<>();
+		Map<String, ItemRoutes> itemRoutesMap = new HashMap<>();
+		Map<String, NestedCollectionRoutes> nestedCollectionRoutesMap =
+			new HashMap<>();
+		Map<String, Representor> representorMap = new HashMap<>();
+
+		for (int i = 0; i < resourceCount; i++) {
+			String name = "root" + i;
+
+			CollectionRoutes.Builder<String, Object> collectionBuilder =
+				new CollectionRoutesImpl.BuilderImpl<>(
+					name, null,
+					__ -> {
+					},
+					__ -> null);
+
+			collectionRoutesMap.put(name, collectionBuilder.build());
+
+			ItemRoutes.Builder itemBuilder = new ItemRoutesImpl.BuilderImpl<>(
+				name, null,
+				__ -> {
+				},
+				__ -> null);
+
+			itemRoutesMap.put(name, itemBuilder.build());
+
+			NestedCollectionRoutes.Builder nestedBuilder =
+				new NestedCollectionRoutesImpl.BuilderImpl<>(
+					name, null, __ -> null,
+					__ -> {
+					},
+					__ -> null);
+
+			nestedCollectionRoutesMap.put(name, nestedBuilder.build());
+
+			representorMap.put(
+				name, MockRepresentorCreator.createRootModelRepresentor(false));
+		}
+
+		_documentation = new Documentation(
+			() -> Optional.of(() -> "Title"),
+			() -> Optional.of(() -> "Description"), () -> representorMap,
+			() -> collectionRoutesMap, () -> itemRoutesMap,
+			() -> nestedCollectionRoutesMap);
+		_documentationMessageMapper = new JSONLDDocumentationMessageMapper();
+		_requestInfo = WriterBenchmarkUtil.getRequestInfo(0, false);
+	}
+
+	@Benchmark
+	public String write() {
+		DocumentationWriter documentationWriter = DocumentationWriter.create(
+			builder -> builder.documentation(
+				_documentation
+			).documentationMessageMapper(
+				_documentationMessageMapper
+			).requestInfo(
+				_requestInfo
+			).build());
+
+		return documentationWriter.write();
+	}
+
+	@Param({"1", "10", "50"})
+	public int resourceCount;
+
+	private Documentation _documentation;
+	private DocumentationMessageMapper _documentationMessageMapper;
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks.writer;
+
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.impl.internal.message.json.FormMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.ld.JSONLDFormMessageMapper;
+import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.impl.internal.writer.FormWriter;
+import com.liferay.apio.architect.test.util.form.MockFormCreator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link FormWriter}. JSON-LD is the only media
+ * type with a {@link FormMessageMapper}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class FormWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_form = MockFormCreator.createForm("f", "s");
+		_formMessageMapper = new JSONLDFormMessageMapper();
+		_requestInfo = WriterBenchmarkUtil.getRequestInfo(0, false);
+	}
+
+	@Benchmark
+	public String write() {
+		FormWriter formWriter = FormWriter.create(
+			builder -> builder.form(
+				_form
+			).formMessageMapper(
+				_formMessageMapper
+			).requestInfo(
+				_requestInfo
+			).build());
+
+		return formWriter.write();
+	}
+
+	private Form _form;
+	private FormMessageMapper _formMessageMapper;
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks.writer;
+
+import com.liferay.apio.architect.impl.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.impl.internal.writer.PageWriter;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the sequential and the parallel item rendering of {@link
+ * PageWriter}. A parallelism of {@code 0} renders the items sequentially.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class ParallelPageWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_page = WriterBenchmarkUtil.createPage(pageSize);
+		_pageMessageMapper = WriterBenchmarkUtil.getPageMessageMapper(
+			"application/ld+json");
+		_requestInfo = WriterBenchmarkUtil.getRequestInfo(embedDepth, false);
+
+		if (parallelism > 0) {
+			_forkJoinPool = new ForkJoinPool(parallelism);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (_forkJoinPool != null) {
+			_forkJoinPool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public String write() throws IOException {
+		PageWriter<RootModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				MockWriterUtil::getRepresentorOptional
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				MockWriterUtil::getSingleModel
+			).parallelItemRendering(
+				_forkJoinPool, 0
+			).build());
+
+		StringWriter stringWriter = new StringWriter();
+
+		pageWriter.write(stringWriter);
+
+		return stringWriter.toString();
+	}
+
+	@Param({"0", "2"})
+	public int embedDepth;
+
+	@Param({"100", "500"})
+	public int pageSize;
+
+	@Param({"0", "2", "4"})
+	public int parallelism;
+
+	private ForkJoinPool _forkJoinPool;
+	private Page<RootModel> _page;
+	private PageMessageMapper<RootModel> _pageMessageMapper;
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks.writer;
+
+import static com.liferay.apio.architect.operation.HTTPMethod.POST;
+import static com.liferay.apio.architect.test.util.form.MockFormCreator.createForm;
+
+import com.liferay.apio.architect.impl.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.hal.HALPageMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.hal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.ld.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.impl.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.impl.internal.operation.OperationImpl;
+import com.liferay.apio.architect.impl.internal.pagination.PageImpl;
+import com.liferay.apio.architect.impl.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Provides the fixtures shared by the writer benchmarks. Every fixture is
+ * built from the {@link RootModel} hierarchy of the test utilities, so the
+ * benchmarks write the same documents the message mapper tests validate.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class WriterBenchmarkUtil {
+
+	/**
+	 * Returns a page of {@link RootModel} items with the provided size.
+	 *
+	 * @param  pageSize the number of items in the page
+	 * @return the page
+	 */
+	public static Page<RootModel> createPage(int pageSize) {
+		List<RootModel> items = new ArrayList<>(pageSize);
+
+		for (int i = 0; i < pageSize; i++) {
+			String id = String.valueOf(i);
+
+			items.add(() -> id);
+		}
+
+		PageItems<RootModel> pageItems = new PageItems<>(
+			items, pageSize * 10);
+
+		List<Operation> operations = Collections.singletonList(
+			new OperationImpl(createForm("c", "p"), POST, "create-operation"));
+
+		return new PageImpl<>(
+			"root", pageItems, new PaginationImpl(pageSize, 2),
+			new Path("name", "id"), operations);
+	}
+
+	/**
+	 * Returns the {@link PageMessageMapper} for a media type.
+	 *
+	 * @param  mediaType the media type
+	 * @return the page message mapper
+	 */
+	public static PageMessageMapper<RootModel> getPageMessageMapper(
+		String mediaType) {
+
+		if (mediaType.equals("application/hal+json")) {
+			return new BenchmarkHALPageMessageMapper();
+		}
+
+		if (mediaType.equals("application/json")) {
+			return new PlainJSONPageMessageMapper<>();
+		}
+
+		return new JSONLDPageMessageMapper<>();
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} that embeds the related models up to the
+	 * provided depth and, if {@code sparseFields} is {@code true}, only
+	 * selects a few fields of every model.
+	 *
+	 * @param  embedDepth the number of levels of related models to embed
+	 * @param  sparseFields whether to select only the sparse fields
+	 * @return the request info
+	 */
+	public static RequestInfo getRequestInfo(
+		int embedDepth, boolean sparseFields) {
+
+		List<String> embeddedPaths = Arrays.asList(
+			"embedded1", "embedded1.embedded");
+
+		Set<String> embedded = new HashSet<>(
+			embeddedPaths.subList(0, Math.min(embedDepth, 2)));
+
+		Predicate<String> fieldsPredicate = _getFieldsPredicate(sparseFields);
+
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> "localhost"
+			).applicationURL(
+				() -> "localhost/o/api"
+			).embedded(
+				embedded::contains
+			).fields(
+				__ -> fieldsPredicate
+			).language(
+				Locale::getDefault
+			).build());
+	}
+
+	/**
+	 * Returns the {@link SingleModelMessageMapper} for a media type.
+	 *
+	 * @param  mediaType the media type
+	 * @return the single model message mapper
+	 */
+	public static SingleModelMessageMapper<RootModel>
+		getSingleModelMessageMapper(String mediaType) {
+
+		if (mediaType.equals("application/hal+json")) {
+			return new HALSingleModelMessageMapper<>();
+		}
+
+		if (mediaType.equals("application/json")) {
+			return new PlainJSONSingleModelMessageMapper<>();
+		}
+
+		return new JSONLDSingleModelMessageMapper<>();
+	}
+
+	private WriterBenchmarkUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static Predicate<String> _getFieldsPredicate(boolean sparseFields) {
+		if (!sparseFields) {
+			return field -> true;
+		}
+
+		Set<String> fields = new HashSet<>(
+			Arrays.asList("embedded1", "number1", "string", "string1"));
+
+		return fields::contains;
+	}
+
+	private static class BenchmarkHALPageMessageMapper
+		extends HALPageMessageMapper<RootModel> {
+
+		public BenchmarkHALPageMessageMapper() {
+			representableManager = new RepresentableManager() {
+
+				@Override
+				public <T> Optional<Representor<T>> getRepresentorOptional(
+					String name) {
+
+					Optional<Representor<?>> optional =
+						MockWriterUtil.getRepresentorOptional(name);
+
+					return optional.map(Unsafe::unsafeCast);
+				}
+
+				@Override
+				public Map<String, Representor> getRepresentors() {
+					return Collections.emptyMap();
+				}
+
+			};
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.exception.mapper.internal;
+
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.exception.PartialBatchCreationException;
+import com.liferay.apio.architect.exception.mapper.ExceptionMapper;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Converts a {@code PartialBatchCreationException} to its {@link APIError}
+ * representation. The error's status is the status of the exception that made
+ * the batch creation fail, and its description tells how many of the batch's
+ * items were created.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component
+public class PartialBatchCreationExceptionMapper
+	implements ExceptionMapper<PartialBatchCreationException> {
+
+	@Override
+	public APIError map(PartialBatchCreationException exception) {
+		Throwable cause = exception.getCause();
+
+		if (cause instanceof WebApplicationException) {
+			WebApplicationException webApplicationException =
+				(WebApplicationException)cause;
+
+			Response response = webApplicationException.getResponse();
+
+			return new APIError(
+				exception, "Batch partially created",
+				exception.getMessage() + ": " + cause.getMessage(),
+				"batch-partially-created", response.getStatus());
+		}
+
+		return new APIError(
+			exception, "Batch partially created", exception.getMessage(),
+			"batch-partially-created", 500);
+	}
+
+}
\ No newline at end of file
@@ -16,14 +16,17 @@ package com.liferay.apio.architect.impl.internal.date;
 
 import com.liferay.apio.architect.functional.Try;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 
 import java.util.Date;
-import java.util.TimeZone;
 
 /**
  * Provides functions for transforming dates to/from ISO-8061 date strings.
+ * Dates are always transformed in UTC with minute precision, using a shared
+ * thread-safe formatter.
  *
  * <p>
  * This class shouldn't be instantiated.
@@ -42,13 +45,13 @@ public class DateTransformer {
 	 *         object otherwise
 	 */
 	public static Try<Date> asDate(String string) {
-		TimeZone timeZone = TimeZone.getTimeZone("UTC");
-
-		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
-
-		dateFormat.setTimeZone(timeZone);
-
-		return Try.fromFallible(() -> dateFormat.parse(string));
+		return Try.fromFallible(
+			() -> LocalDateTime.parse(string, _dateTimeFormatter)
+		).map(
+			localDateTime -> localDateTime.toInstant(ZoneOffset.UTC)
+		).map(
+			Date::from
+		);
 	}
 
 	/**
@@ -58,17 +61,20 @@ public class DateTransformer {
 	 * @return the ISO-8061 date string
 	 */
 	public static String asString(Date date) {
-		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+		Instant instant = Instant.ofEpochMilli(date.getTime());
 
-		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
-
-		dateFormat.setTimeZone(timeZone);
-
-		return dateFormat.format(date);
+		return _dateTimeFormatter.format(instant);
 	}
 
 	private DateTransformer() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final DateTimeFormatter _dateTimeFormatter =
+		DateTimeFormatter.ofPattern(
+			"yyyy-MM-dd'T'HH:mm'Z'"
+		).withZone(
+			ZoneOffset.UTC
+		);
+
 }
\ No newline at end of file
@@ -29,6 +29,11 @@ import javax.ws.rs.core.Response;
  * inside endpoints.
  *
  * <p>
+ * The supplied exceptions don't fill in their stack trace, since they describe
+ * routine request errors that are always mapped to a response.
+ * </p>
+ *
+ * <p>
  * This class shouldn't be instantiated.
  * </p>
  *
@@ -53,7 +58,7 @@ public class ExceptionSupplierUtil {
 
 		Response response = Response.status(METHOD_NOT_ALLOWED).build();
 
-		return () -> new NotAllowedException(message, response);
+		return () -> new StacklessNotAllowedException(message, response);
 	}
 
 	/**
@@ -64,12 +69,46 @@ public class ExceptionSupplierUtil {
 	 * @return a supplier of {@code NotFoundException}
 	 */
 	public static Supplier<NotFoundException> notFound(String... path) {
-		return () -> new NotFoundException(
-			"No endpoint found at path " + String.join("/", path));
+		String message = "No endpoint found at path " + String.join("/", path);
+
+		return () -> new StacklessNotFoundException(message);
 	}
 
 	private ExceptionSupplierUtil() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static class StacklessNotAllowedException
+		extends NotAllowedException {
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+		private StacklessNotAllowedException(
+			String message, Response response) {
+
+			super(message, response);
+		}
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
+	private static class StacklessNotFoundException extends NotFoundException {
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+		private StacklessNotFoundException(String message) {
+			super(message);
+		}
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
 }
\ No newline at end of file
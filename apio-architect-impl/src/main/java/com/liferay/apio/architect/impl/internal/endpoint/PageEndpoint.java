@@ -29,6 +29,8 @@ import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 
 /**
@@ -50,6 +52,21 @@ public interface PageEndpoint<T> {
 	@POST
 	public Try<SingleModel<T>> addCollectionItem(Body body);
 
+	/**
+	 * Adds several new items to the resource specified by {@code name}, from
+	 * the members of a JSON array. This occurs via a POST request to the
+	 * resource's {@code batch} endpoint.
+	 *
+	 * @param  body the request's body
+	 * @return the page with the new items, or an exception if an error
+	 *         occurred
+	 * @review
+	 */
+	@Consumes(APPLICATION_JSON)
+	@Path("/batch")
+	@POST
+	public Try<Page<T>> addCollectionItems(Body body);
+
 	/**
 	 * Adds a new {@link SingleModel} to the nested resource specified. This
 	 * occurs via a POST request to the nested resource.
@@ -78,6 +95,20 @@ public interface PageEndpoint<T> {
 	public Response deleteCollectionItem(@PathParam("id") String id)
 		throws Exception;
 
+	/**
+	 * Resumes the {@code AsyncResponse} with the {@link SingleModel} for the
+	 * specified resource, once its getter completes. The request thread is
+	 * released while a getter added with {@code addAsyncGetter} is running.
+	 *
+	 * @param  id the resource's ID
+	 * @param  asyncResponse the suspended response
+	 * @review
+	 */
+	@GET
+	@Path("{id}")
+	public void getCollectionItemSingleModel(
+		@PathParam("id") String id, @Suspended AsyncResponse asyncResponse);
+
 	/**
 	 * Returns the {@link SingleModel} for the specified resource.
 	 *
@@ -85,10 +116,19 @@ public interface PageEndpoint<T> {
 	 * @return the {@link SingleModel} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
+	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id);
+
+	/**
+	 * Resumes the {@code AsyncResponse} with the collection {@link Page} for
+	 * the specified resource, once its getter completes. The request thread is
+	 * released while a getter added with {@code addAsyncGetter} is running.
+	 *
+	 * @param  asyncResponse the suspended response
+	 * @review
+	 */
 	@GET
-	@Path("{id}")
-	public Try<SingleModel<T>> getCollectionItemSingleModelTry(
-		@PathParam("id") String id);
+	@Path("/")
+	public void getCollectionPage(@Suspended AsyncResponse asyncResponse);
 
 	/**
 	 * Returns the collection {@link Page} for the specified resource.
@@ -96,10 +136,24 @@ public interface PageEndpoint<T> {
 	 * @return the collection {@link Page} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
-	@GET
-	@Path("/")
 	public Try<Page<T>> getCollectionPageTry();
 
+	/**
+	 * Resumes the {@code AsyncResponse} with a nested collection {@link Page}
+	 * for the specified resource, once its getter completes. The request thread
+	 * is released while a getter added with {@code addAsyncGetter} is running.
+	 *
+	 * @param  id the parent resource's ID
+	 * @param  nestedName the nested resource's name
+	 * @param  asyncResponse the suspended response
+	 * @review
+	 */
+	@GET
+	@Path("{id}/{nestedName}")
+	public void getNestedCollectionPage(
+		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
+		@Suspended AsyncResponse asyncResponse);
+
 	/**
 	 * Returns a nested collection {@link Page} for the specified resource.
 	 *
@@ -108,10 +162,8 @@ public interface PageEndpoint<T> {
 	 * @return the nested collection {@link Page} for the specified resource, or
 	 *         an exception if an error occurred
 	 */
-	@GET
-	@Path("{id}/{nestedName}")
 	public Try<Page<T>> getNestedCollectionPageTry(
-		@PathParam("id") String id, @PathParam("nestedName") String nestedName);
+		String id, String nestedName);
 
 	/**
 	 * Updates the specified collection item.
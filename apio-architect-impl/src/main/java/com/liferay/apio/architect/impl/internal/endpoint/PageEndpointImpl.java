@@ -20,9 +20,14 @@ import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
 import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 import static javax.ws.rs.core.Response.noContent;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
@@ -39,12 +44,18 @@ import com.liferay.apio.architect.uri.Path;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.Response;
 
 /**
@@ -88,6 +99,20 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	@Override
+	public Try<Page<T>> addCollectionItems(Body body) {
+		return Try.fromOptional(
+			_collectionRoutesSupplier::get, notFound(_name)
+		).mapOptional(
+			CollectionRoutes::getBatchCreateItemFunctionOptional,
+			notAllowed(POST, _name, "batch")
+		).map(
+			function -> function.apply(_httpServletRequest)
+		).flatMap(
+			function -> function.apply(body)
+		);
+	}
+
 	@Override
 	public Try<SingleModel<T>> addNestedCollectionItem(
 		String id, String nestedName, Body body) {
@@ -137,11 +162,63 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		return noContent().build();
 	}
 
+	@Override
+	public void getCollectionItemSingleModel(
+		String id, AsyncResponse asyncResponse) {
+
+		Optional<AsyncGetItemFunction<T, S>> optional =
+			_itemRoutesSupplier.get(
+			).flatMap(
+				ItemRoutes::getAsyncItemFunctionOptional
+			);
+
+		Try<CompletionStage<SingleModel<T>>> completionStageTry = optional.map(
+			function -> Try.fromFallible(
+				() -> _identifierFunction.apply(new Path(_name, id))
+			).flatMap(
+				function.apply(_httpServletRequest)::apply
+			)
+		).orElseGet(
+			() -> getCollectionItemSingleModelTry(
+				id
+			).map(
+				CompletableFuture::completedFuture
+			)
+		);
+
+		_resume(
+			asyncResponse, completionStageTry,
+			singleModelTry ->
+				new GenericEntity<Try<SingleModel<T>>>(singleModelTry) {});
+	}
+
 	@Override
 	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id) {
 		return _singleModelFunction.apply(id);
 	}
 
+	@Override
+	public void getCollectionPage(AsyncResponse asyncResponse) {
+		Optional<AsyncGetPageFunction<T>> optional =
+			_collectionRoutesSupplier.get(
+			).flatMap(
+				CollectionRoutes::getAsyncGetPageFunctionOptional
+			);
+
+		Try<CompletionStage<Page<T>>> completionStageTry = optional.map(
+			function -> function.apply(_httpServletRequest)
+		).orElseGet(
+			() -> getCollectionPageTry(
+			).map(
+				CompletableFuture::completedFuture
+			)
+		);
+
+		_resume(
+			asyncResponse, completionStageTry,
+			pageTry -> new GenericEntity<Try<Page<T>>>(pageTry) {});
+	}
+
 	@Override
 	public Try<Page<T>> getCollectionPageTry() {
 		return Try.fromOptional(
@@ -153,6 +230,44 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	@Override
+	public void getNestedCollectionPage(
+		String id, String nestedName, AsyncResponse asyncResponse) {
+
+		Optional<AsyncNestedGetPageFunction<T, Object>> optional =
+			_nestedCollectionRoutesFunction.apply(
+				nestedName
+			).flatMap(
+				NestedCollectionRoutes::getAsyncNestedGetPageFunctionOptional
+			);
+
+		Try<CompletionStage<Page<T>>> completionStageTry = optional.map(
+			function -> function.apply(
+				_httpServletRequest
+			).apply(
+				new Path(_name, id)
+			)
+		).map(
+			pageFunction -> getCollectionItemSingleModelTry(
+				id
+			).mapOptional(
+				_getIdentifierFunction(nestedName), notFound(id, nestedName)
+			).flatMap(
+				pageFunction::apply
+			)
+		).orElseGet(
+			() -> getNestedCollectionPageTry(
+				id, nestedName
+			).map(
+				CompletableFuture::completedFuture
+			)
+		);
+
+		_resume(
+			asyncResponse, completionStageTry,
+			pageTry -> new GenericEntity<Try<Page<T>>>(pageTry) {});
+	}
+
 	@Override
 	public Try<Page<T>> getNestedCollectionPageTry(
 		String id, String nestedName) {
@@ -206,6 +321,57 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	/**
+	 * Resumes the response once the completion stage completes. If it doesn't
+	 * complete within a minute, the response is resumed with a {@code
+	 * ServiceUnavailableException}, so suspended requests never wait forever
+	 * for a getter.
+	 */
+	private static <U> void _resume(
+		AsyncResponse asyncResponse, Try<CompletionStage<U>> completionStageTry,
+		Function<Try<U>, GenericEntity<Try<U>>> genericEntityFunction) {
+
+		completionStageTry.voidFold(
+			exception -> asyncResponse.resume(
+				genericEntityFunction.apply(Try.fail(exception))),
+			completionStage -> {
+				asyncResponse.setTimeoutHandler(
+					timedOutAsyncResponse -> timedOutAsyncResponse.resume(
+						genericEntityFunction.apply(
+							Try.fail(new ServiceUnavailableException()))));
+
+				asyncResponse.setTimeout(_ASYNC_TIMEOUT_SECONDS, SECONDS);
+
+				completionStage.whenComplete(
+					(u, throwable) -> {
+						Try<U> uTry;
+
+						if (throwable == null) {
+							uTry = Try.success(u);
+						}
+						else {
+							uTry = Try.fail(_unwrap(throwable));
+						}
+
+						asyncResponse.resume(genericEntityFunction.apply(uTry));
+					});
+			});
+	}
+
+	private static Exception _unwrap(Throwable throwable) {
+		if ((throwable instanceof CompletionException) &&
+			(throwable.getCause() != null)) {
+
+			throwable = throwable.getCause();
+		}
+
+		if (throwable instanceof Exception) {
+			return (Exception)throwable;
+		}
+
+		return new CompletionException(throwable);
+	}
+
 	private Predicate<RelatedCollection<?>>
 		_getFilterRelatedCollectionPredicate(String nestedName) {
 
@@ -245,6 +411,8 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	private static final long _ASYNC_TIMEOUT_SECONDS = 60;
+
 	private final Supplier<Optional<CollectionRoutes<T, S>>>
 		_collectionRoutesSupplier;
 	private final HttpServletRequest _httpServletRequest;
@@ -23,6 +23,7 @@ import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.impl.internal.documentation.Documentation;
 import com.liferay.apio.architect.impl.internal.url.ApplicationURL;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.ManagerCache;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.representable.IdentifierClassManager;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.representable.RepresentableManager;
@@ -34,6 +35,8 @@ import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.nio.charset.StandardCharsets;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -88,31 +91,16 @@ public class RootEndpointImpl implements RootEndpoint {
 
 	@Override
 	public Response home() {
-		List<String> resourceNames =
-			_collectionRouterManager.getResourceNames();
-
 		ApplicationURL applicationURL = _providerManager.provideMandatory(
 			_httpServletRequest, ApplicationURL.class);
 
-		JsonObject resourcesJsonObject = new JsonObject();
-
-		resourceNames.forEach(
-			name -> {
-				String url = applicationURL.get() + "/p/" + name;
-
-				JsonObject jsonObject = new JsonObject();
-
-				jsonObject.addProperty("href", url);
-
-				resourcesJsonObject.add(name, jsonObject);
-			});
-
-		JsonObject rootJsonObject = new JsonObject();
+		String url = applicationURL.get();
 
-		rootJsonObject.add("resources", resourcesJsonObject);
+		byte[] bytes = ManagerCache.INSTANCE.getRenderedDocument(
+			"home\n" + url, () -> _renderHome(url));
 
 		return Response.ok(
-			rootJsonObject.toString()
+			bytes
 		).type(
 			MediaType.valueOf("application/json")
 		).build();
@@ -155,6 +143,32 @@ public class RootEndpointImpl implements RootEndpoint {
 		return _providerManager.provideOptional(_httpServletRequest, clazz);
 	}
 
+	private byte[] _renderHome(String applicationURL) {
+		List<String> resourceNames =
+			_collectionRouterManager.getResourceNames();
+
+		JsonObject resourcesJsonObject = new JsonObject();
+
+		resourceNames.forEach(
+			name -> {
+				String url = applicationURL + "/p/" + name;
+
+				JsonObject jsonObject = new JsonObject();
+
+				jsonObject.addProperty("href", url);
+
+				resourcesJsonObject.add(name, jsonObject);
+			});
+
+		JsonObject rootJsonObject = new JsonObject();
+
+		rootJsonObject.add("resources", resourcesJsonObject);
+
+		String string = rootJsonObject.toString();
+
+		return string.getBytes(StandardCharsets.UTF_8);
+	}
+
 	@Reference
 	private CollectionRouterManager _collectionRouterManager;
 
@@ -24,20 +24,23 @@ import com.liferay.apio.architect.form.FieldType;
 import com.liferay.apio.architect.form.FormField;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.impl.internal.alias.form.FieldFormBiConsumer;
-import com.liferay.apio.architect.impl.internal.date.DateTransformer;
 import com.liferay.apio.architect.uri.Path;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.ws.rs.BadRequestException;
@@ -530,9 +533,7 @@ public class FormUtil {
 		Body body, String key, boolean required,
 		Consumer<List<Boolean>> consumer) {
 
-		_getListField(
-			body, key, required, consumer,
-			stream -> stream.map(Boolean::valueOf));
+		_getListField(body, key, required, consumer, Boolean::valueOf);
 	}
 
 	private static void _getDate(
@@ -560,15 +561,20 @@ public class FormUtil {
 
 		_getListField(
 			body, key, required, consumer,
-			(Stream<String> stream) -> stream.map(
-				Try::success
-			).map(
-				(Try<String> stringTry) -> stringTry.flatMap(
-					DateTransformer::asDate
-				).orElseThrow(
-					() -> new BadRequestException(message)
-				)
-			));
+			string -> {
+				Try<Date> dateTry = asDate(string);
+
+				return dateTry.orElseThrow(
+					() -> new BadRequestException(message));
+			});
+	}
+
+	private static int _getDigitsStart(String value) {
+		if ((value.length() > 1) && (value.charAt(0) == '-')) {
+			return 1;
+		}
+
+		return 0;
 	}
 
 	private static void _getDouble(
@@ -644,21 +650,22 @@ public class FormUtil {
 
 	private static <T> void _getListField(
 		Body body, String key, boolean required, Consumer<List<T>> consumer,
-		Function<Stream<String>, Stream<T>> function) {
+		Function<String, T> function) {
 
 		Optional<List<String>> optional = body.getValueListOptional(key);
 
-		optional.map(
-			List::stream
-		).map(
-			function
-		).map(
-			stream -> stream.collect(Collectors.toList())
-		).ifPresent(
-			consumer
-		);
+		if (optional.isPresent()) {
+			List<String> strings = optional.get();
 
-		if (!optional.isPresent() && required) {
+			List<T> list = new ArrayList<>(strings.size());
+
+			for (String string : strings) {
+				list.add(function.apply(string));
+			}
+
+			consumer.accept(list);
+		}
+		else if (required) {
 			throw new BadRequestException("Field \"" + key + "\" is required");
 		}
 	}
@@ -682,19 +689,8 @@ public class FormUtil {
 
 		_getValueField(
 			body, key, required,
-			value -> Try.success(
-				value
-			).map(
-				NumberFormat.getInstance()::parse
-			).map(
-				function::apply
-			).voidFold(
-				__ -> {
-					throw new BadRequestException(
-						"Field \"" + key + "\" should be a number");
-				},
-				consumer::accept
-			));
+			value -> consumer.accept(
+				function.apply(_parseNumber(key, value))));
 	}
 
 	private static <T extends Number> void _getNumberList(
@@ -703,19 +699,7 @@ public class FormUtil {
 
 		_getListField(
 			body, key, required, consumer,
-			(Stream<String> stream) -> stream.map(
-				Try::success
-			).map(
-				(Try<String> stringTry) -> stringTry.map(
-					NumberFormat.getInstance()::parse
-				).map(
-					function::apply
-				)
-			).map(
-				tTry -> tTry.orElseThrow(
-					() -> new BadRequestException(
-						"Field \"" + key + "\" should be a number"))
-			));
+			value -> function.apply(_parseNumber(key, value)));
 	}
 
 	private static void _getString(
@@ -751,8 +735,108 @@ public class FormUtil {
 		).toString();
 	}
 
+	private static boolean _isDecimal(String value) {
+		int index = value.indexOf('.');
+
+		if (index == -1) {
+			return false;
+		}
+
+		if (_isDigits(value, _getDigitsStart(value), index) &&
+			_isDigits(value, index + 1, value.length())) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean _isDigits(String value, int start, int end) {
+		if (start >= end) {
+			return false;
+		}
+
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+
+			if ((c < '0') || (c > '9')) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean _isLong(String value) {
+		return _isDigits(value, _getDigitsStart(value), value.length());
+	}
+
+	/**
+	 * Returns {@code true} if the locale's {@code NumberFormat} parses plain
+	 * integer and decimal inputs like the primitive parsers do: with ASCII
+	 * digits, {@code '-'} as minus sign, {@code '.'} as decimal separator and
+	 * {@code ','} as grouping separator.
+	 */
+	private static boolean _isPlainNumberFormat(Locale locale) {
+		NumberFormat numberFormat = NumberFormat.getInstance(locale);
+
+		if (!(numberFormat instanceof DecimalFormat)) {
+			return false;
+		}
+
+		DecimalFormat decimalFormat = (DecimalFormat)numberFormat;
+
+		DecimalFormatSymbols decimalFormatSymbols =
+			decimalFormat.getDecimalFormatSymbols();
+
+		if ((decimalFormatSymbols.getDecimalSeparator() == '.') &&
+			(decimalFormatSymbols.getGroupingSeparator() == ',') &&
+			(decimalFormatSymbols.getMinusSign() == '-') &&
+			(decimalFormatSymbols.getZeroDigit() == '0')) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Parses a number, using the primitive {@code long} and {@code double}
+	 * parsers for plain integer and decimal inputs if the default locale's
+	 * {@code NumberFormat} would parse them the same way, and falling back to
+	 * the slower locale-aware {@code NumberFormat} for everything else,
+	 * including integers that overflow a {@code long}.
+	 */
+	private static Number _parseNumber(String key, String value) {
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+
+		boolean plainNumberFormat = _plainNumberFormats.computeIfAbsent(
+			locale, FormUtil::_isPlainNumberFormat);
+
+		if (plainNumberFormat && _isDecimal(value)) {
+			return Double.parseDouble(value);
+		}
+
+		return Try.success(
+			value
+		).filter(
+			string -> plainNumberFormat && _isLong(string)
+		).map(
+			string -> (Number)Long.parseLong(string)
+		).recoverWith(
+			__ -> Try.fromFallible(
+				() -> NumberFormat.getInstance(locale).parse(value))
+		).orElseThrow(
+			() -> new BadRequestException(
+				"Field \"" + key + "\" should be a number")
+		);
+	}
+
 	private FormUtil() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final Map<Locale, Boolean> _plainNumberFormats =
+		new ConcurrentHashMap<>();
+
 }
\ No newline at end of file
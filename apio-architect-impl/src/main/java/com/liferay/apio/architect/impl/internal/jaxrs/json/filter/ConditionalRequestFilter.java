@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.impl.internal.unsafe.Unsafe.unsafeCast;
+
+import static javax.ws.rs.HttpMethod.GET;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static javax.ws.rs.core.Response.Status.OK;
+
+import com.liferay.apio.architect.functional.Try.Success;
+import com.liferay.apio.architect.impl.internal.version.VersionUtil;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.io.IOException;
+
+import java.util.Date;
+import java.util.Optional;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.UriInfo;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Adds the {@code ETag} header to {@link SingleModel} and {@link Page}
+ * responses whose representor provides a version function, and the {@code
+ * Last-Modified} header to {@code SingleModel} responses whose representor
+ * provides a last modified function. Conditional {@code GET} requests are
+ * answered with a {@code 304 Not Modified} (or {@code 412 Precondition
+ * Failed}) response.
+ *
+ * <p>
+ * Response filters run before the message body writers, so a {@code 304}
+ * response is sent without serializing the entity.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	}
+)
+public class ConditionalRequestFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (!GET.equals(containerRequestContext.getMethod()) ||
+			(containerResponseContext.getStatus() != OK.getStatusCode())) {
+
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Success)) {
+			return;
+		}
+
+		Success<?> success = (Success<?>)entity;
+
+		Object value = success.getValue();
+
+		if (value instanceof SingleModel) {
+			SingleModel<Object> singleModel = unsafeCast(value);
+
+			Optional<Representor<Object>> optional =
+				_representableManager.getRepresentorOptional(
+					singleModel.getResourceName());
+
+			optional.ifPresent(
+				representor -> _evaluatePreconditions(
+					containerRequestContext, containerResponseContext,
+					VersionUtil.getVersionOptional(singleModel, representor),
+					VersionUtil.getLastModifiedOptional(
+						singleModel, representor)));
+		}
+		else if (value instanceof Page) {
+			Page<Object> page = unsafeCast(value);
+
+			Optional<Representor<Object>> optional =
+				_representableManager.getRepresentorOptional(
+					page.getResourceName());
+
+			optional.ifPresent(
+				representor -> _evaluatePreconditions(
+					containerRequestContext, containerResponseContext,
+					VersionUtil.getVersionOptional(page, representor),
+					Optional.empty()));
+		}
+	}
+
+	private static void _evaluatePreconditions(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext,
+		Optional<String> versionOptional, Optional<Date> lastModifiedOptional) {
+
+		if (!versionOptional.isPresent() && !lastModifiedOptional.isPresent()) {
+			return;
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		EntityTag entityTag = versionOptional.map(
+			version -> VersionUtil.createEntityTag(
+				version, String.valueOf(uriInfo.getRequestUri()),
+				containerRequestContext.getHeaderString(ACCEPT),
+				containerRequestContext.getHeaderString(ACCEPT_LANGUAGE))
+		).orElse(
+			null
+		);
+
+		Date lastModified = lastModifiedOptional.orElse(null);
+
+		Request request = containerRequestContext.getRequest();
+
+		ResponseBuilder responseBuilder;
+
+		if ((entityTag != null) && (lastModified != null)) {
+			responseBuilder = request.evaluatePreconditions(
+				lastModified, entityTag);
+		}
+		else if (entityTag != null) {
+			responseBuilder = request.evaluatePreconditions(entityTag);
+		}
+		else {
+			responseBuilder = request.evaluatePreconditions(lastModified);
+		}
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		if (entityTag != null) {
+			headers.putSingle(ETAG, entityTag);
+		}
+
+		if (lastModified != null) {
+			headers.putSingle(LAST_MODIFIED, lastModified);
+		}
+
+		if (responseBuilder != null) {
+			Response response = responseBuilder.build();
+
+			headers.remove(CONTENT_TYPE);
+
+			containerResponseContext.setEntity(null);
+			containerResponseContext.setStatus(response.getStatus());
+		}
+	}
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+}
\ No newline at end of file
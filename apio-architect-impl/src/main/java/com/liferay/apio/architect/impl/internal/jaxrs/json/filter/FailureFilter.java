@@ -26,6 +26,7 @@ import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
@@ -54,14 +55,17 @@ public class FailureFilter implements ContainerResponseFilter {
 			ContainerResponseContext containerResponseContext)
 		throws IOException {
 
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Failure)) {
+			return;
+		}
+
+		Failure<?> failure = (Failure<?>)entity;
+
 		Try.fromFallible(
-			containerResponseContext::getEntity
-		).map(
-			Failure.class::cast
-		).map(
-			Failure::getException
-		).map(
-			exception -> _errorUtil.getErrorResponse(exception, _request)
+			() -> _errorUtil.getErrorResponse(
+				failure.getException(), _request, _httpHeaders)
 		).ifSuccess(
 			response -> _updateContext(containerResponseContext, response)
 		);
@@ -91,6 +95,9 @@ public class FailureFilter implements ContainerResponseFilter {
 	@Reference
 	private ErrorUtil _errorUtil;
 
+	@Context
+	private HttpHeaders _httpHeaders;
+
 	@Context
 	private Request _request;
 
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.jaxrs.json.filter;
+
+import static javax.ws.rs.HttpMethod.GET;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static javax.ws.rs.core.Response.Status.OK;
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static javax.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.functional.Try.Success;
+import com.liferay.apio.architect.impl.internal.range.ByteRange;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Answers {@code GET} requests of {@link BinaryFile} resources with a {@code
+ * Range} header with a {@code 206 Partial Content} response, so interrupted
+ * downloads can be resumed.
+ *
+ * <p>
+ * Only single byte ranges are supported; requests with several ranges receive
+ * the whole file. The {@code If-Range} header is honored with dates, which are
+ * compared to the modification time of binary files backed by a path. Entity
+ * tags never match, since binary files have no version.
+ * </p>
+ *
+ * <p>
+ * This filter only sets the status and the {@code Content-Range} header. The
+ * {@code BinaryResourceBodyWriter} writes the requested range.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	}
+)
+public class RangeRequestFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (!GET.equals(containerRequestContext.getMethod()) ||
+			(containerResponseContext.getStatus() != OK.getStatusCode())) {
+
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Success)) {
+			return;
+		}
+
+		Success<?> success = (Success<?>)entity;
+
+		Object value = success.getValue();
+
+		if (!(value instanceof BinaryFile)) {
+			return;
+		}
+
+		BinaryFile binaryFile = (BinaryFile)value;
+
+		long size = binaryFile.getSize();
+
+		if (size < 0) {
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.putSingle(_ACCEPT_RANGES, "bytes");
+
+		Optional<Date> lastModifiedOptional = _getLastModifiedOptional(
+			binaryFile);
+
+		lastModifiedOptional.ifPresent(
+			lastModified -> headers.putSingle(LAST_MODIFIED, lastModified));
+
+		String ifRange = containerRequestContext.getHeaderString(_IF_RANGE);
+
+		if ((ifRange != null) && !_matches(ifRange, lastModifiedOptional)) {
+			return;
+		}
+
+		Optional<ByteRange> optional = ByteRange.fromRange(
+			containerRequestContext.getHeaderString(_RANGE), size);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		ByteRange byteRange = optional.get();
+
+		if (!byteRange.isSatisfiable()) {
+			headers.putSingle(_CONTENT_RANGE, "bytes */" + size);
+			headers.remove(CONTENT_TYPE);
+
+			containerResponseContext.setEntity(null);
+			containerResponseContext.setStatus(
+				REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode());
+
+			return;
+		}
+
+		headers.putSingle(_CONTENT_RANGE, byteRange.toContentRange());
+
+		containerResponseContext.setStatus(PARTIAL_CONTENT.getStatusCode());
+	}
+
+	private static Optional<Date> _getLastModifiedOptional(
+		BinaryFile binaryFile) {
+
+		return binaryFile.getPathOptional(
+		).flatMap(
+			path -> Try.fromFallible(
+				() -> Files.getLastModifiedTime(path)
+			).toOptional()
+		).map(
+			FileTime::toMillis
+		).map(
+			Date::new
+		);
+	}
+
+	private static boolean _matches(
+		String ifRange, Optional<Date> lastModifiedOptional) {
+
+		if (!lastModifiedOptional.isPresent()) {
+			return false;
+		}
+
+		Date lastModified = lastModifiedOptional.get();
+
+		return Try.fromFallible(
+			() -> ZonedDateTime.parse(
+				ifRange.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+		).map(
+			ZonedDateTime::toEpochSecond
+		).map(
+			seconds -> seconds.equals(
+				TimeUnit.MILLISECONDS.toSeconds(lastModified.getTime()))
+		).orElse(
+			false
+		);
+	}
+
+	private static final String _ACCEPT_RANGES = "Accept-Ranges";
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+	private static final String _IF_RANGE = "If-Range";
+
+	private static final String _RANGE = "Range";
+
+}
\ No newline at end of file
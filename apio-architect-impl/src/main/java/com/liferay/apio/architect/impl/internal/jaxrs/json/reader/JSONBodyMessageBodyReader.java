@@ -18,13 +18,10 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import com.liferay.apio.architect.form.Body;
-import com.liferay.apio.architect.functional.Try;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -34,10 +31,11 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.Consumes;
@@ -49,7 +47,14 @@ import javax.ws.rs.ext.Provider;
 import org.osgi.service.component.annotations.Component;
 
 /**
- * Reads JSON objects as a {@link Body}.
+ * Reads JSON objects, or arrays of JSON objects, as a {@link Body}.
+ *
+ * <p>
+ * The request is read in a single pass with a {@code JsonReader}, without
+ * building a tree of the whole document. Only the primitive values and the
+ * arrays of primitive values of each object are kept, since those are the only
+ * ones a {@link Body} can return.
+ * </p>
  *
  * @author Alejandro Hernández
  */
@@ -82,81 +87,130 @@ public class JSONBodyMessageBodyReader implements MessageBodyReader<Body> {
 	}
 
 	private static Body _getBody(InputStream entityStream) {
-		Gson gson = new Gson();
-
-		return Try.fromFallibleWithResources(
-			() -> new InputStreamReader(entityStream, UTF_8),
-			streamReader -> gson.fromJson(streamReader, JsonObject.class)
-		).map(
-			JSONBodyMessageBodyReader::_getBody
-		).recover(
-			__ -> _getListBody(entityStream, gson)
-		);
+		try (JsonReader jsonReader = new JsonReader(
+				new InputStreamReader(entityStream, UTF_8))) {
+
+			jsonReader.setLenient(true);
+
+			Body body;
+
+			if (jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+				body = Body.create(_readBodies(jsonReader));
+			}
+			else {
+				body = _readBody(jsonReader);
+			}
+
+			if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+				throw new BadRequestException("Body is not a valid JSON");
+			}
+
+			return body;
+		}
+		catch (IOException | IllegalStateException | NumberFormatException e) {
+			throw new BadRequestException("Body is not a valid JSON", e);
+		}
 	}
 
-	private static Body _getBody(JsonObject jsonObject) {
+	private static boolean _isPrimitive(JsonToken jsonToken) {
+		if ((jsonToken == JsonToken.BOOLEAN) ||
+			(jsonToken == JsonToken.NUMBER) ||
+			(jsonToken == JsonToken.STRING)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static List<Body> _readBodies(JsonReader jsonReader)
+		throws IOException {
+
+		List<Body> bodies = new ArrayList<>();
+
+		jsonReader.beginArray();
+
+		while (jsonReader.hasNext()) {
+			if (jsonReader.peek() == JsonToken.BEGIN_OBJECT) {
+				bodies.add(_readBody(jsonReader));
+			}
+			else {
+				jsonReader.skipValue();
+			}
+		}
+
+		jsonReader.endArray();
+
+		return bodies;
+	}
+
+	private static Body _readBody(JsonReader jsonReader) throws IOException {
+		Map<String, String> values = new HashMap<>();
+		Map<String, List<String>> valueLists = new HashMap<>();
+
+		jsonReader.beginObject();
+
+		while (jsonReader.hasNext()) {
+			String key = jsonReader.nextName();
+
+			values.remove(key);
+			valueLists.remove(key);
+
+			JsonToken jsonToken = jsonReader.peek();
+
+			if (jsonToken == JsonToken.BEGIN_ARRAY) {
+				valueLists.put(key, _readValues(jsonReader));
+			}
+			else if (_isPrimitive(jsonToken)) {
+				values.put(key, _readValue(jsonReader, jsonToken));
+			}
+			else {
+				jsonReader.skipValue();
+			}
+		}
+
+		jsonReader.endObject();
+
 		return Body.create(
+			key -> Optional.ofNullable(values.get(key)),
 			key -> Optional.ofNullable(
-				jsonObject.get(key)
-			).filter(
-				JsonElement::isJsonPrimitive
-			).map(
-				JsonElement::getAsString
-			),
-			key -> Optional.ofNullable(
-				jsonObject.get(key)
-			).filter(
-				JsonElement::isJsonArray
-			).map(
-				JsonElement::getAsJsonArray
-			).map(
-				JSONBodyMessageBodyReader::_getJsonElements
+				valueLists.get(key)
 			).map(
-				List::stream
-			).map(
-				stream -> stream.filter(
-					JsonElement::isJsonPrimitive
-				).map(
-					JsonElement::getAsString
-				).collect(
-					Collectors.toList()
-				)
+				Collections::unmodifiableList
 			));
 	}
 
-	private static List<JsonElement> _getJsonElements(JsonArray jsonArray) {
-		List<JsonElement> jsonElements = new ArrayList<>();
-
-		Iterator<JsonElement> iterator = jsonArray.iterator();
+	private static String _readValue(JsonReader jsonReader, JsonToken jsonToken)
+		throws IOException {
 
-		iterator.forEachRemaining(jsonElements::add);
+		if (jsonToken == JsonToken.BOOLEAN) {
+			return String.valueOf(jsonReader.nextBoolean());
+		}
 
-		return jsonElements;
+		return jsonReader.nextString();
 	}
 
-	private static Body _getListBody(InputStream entityStream, Gson gson) {
-		return Try.fromFallibleWithResources(
-			() -> new InputStreamReader(entityStream, UTF_8),
-			streamReader -> gson.fromJson(streamReader, JsonArray.class)
-		).map(
-			JSONBodyMessageBodyReader::_getJsonElements
-		).map(
-			List::stream
-		).map(
-			stream -> stream.filter(
-				JsonElement::isJsonObject
-			).map(
-				JsonElement::getAsJsonObject
-			).map(
-				JSONBodyMessageBodyReader::_getBody
-			).collect(
-				Collectors.toList()
-			)
-		).map(
-			Body::create
-		).orElseThrow(
-			() -> new BadRequestException("Body is not a valid JSON")
-		);
+	private static List<String> _readValues(JsonReader jsonReader)
+		throws IOException {
+
+		List<String> values = new ArrayList<>();
+
+		jsonReader.beginArray();
+
+		while (jsonReader.hasNext()) {
+			JsonToken jsonToken = jsonReader.peek();
+
+			if (_isPrimitive(jsonToken)) {
+				values.add(_readValue(jsonReader, jsonToken));
+			}
+			else {
+				jsonReader.skipValue();
+			}
+		}
+
+		jsonReader.endArray();
+
+		return values;
 	}
 
 }
\ No newline at end of file
@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.impl.internal.jaxrs.json.reader;
 
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+
 import static java.util.Map.Entry.comparingByKey;
 
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
@@ -23,21 +26,24 @@ import static org.apache.commons.fileupload.servlet.ServletFileUpload.isMultipar
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.form.Body;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -55,16 +61,36 @@ import javax.ws.rs.ext.Provider;
 
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.apache.commons.fileupload.util.Streams;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 
 /**
  * Reads {@code "multipart/form-data"} as a {@link Body}.
  *
+ * <p>
+ * By default, every part is parsed before the {@link Body} is created, and
+ * parts bigger than the {@code multipart.memory.threshold} property (in bytes)
+ * are stored in temporary files.
+ * </p>
+ *
+ * <p>
+ * If the {@code multipart.streaming} property is {@code true}, the parts are
+ * read from the request as they arrive instead, and nothing is written to
+ * disk. Fields and files up to the memory threshold are kept in memory. The
+ * first file bigger than the threshold stops the parsing: its {@link
+ * BinaryFile} wraps the part's live stream, and its size is unknown ({@code
+ * -1}). Clients must therefore send large files as the last part of the
+ * request. If another part follows the file, reading the file to its end fails
+ * with a {@code BadRequestException}.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component(
@@ -77,6 +103,14 @@ import org.osgi.service.component.annotations.Component;
 @Provider
 public class MultipartBodyMessageBodyReader implements MessageBodyReader<Body> {
 
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_memoryThreshold = getInteger(
+			properties, "multipart.memory.threshold",
+			DiskFileItemFactory.DEFAULT_SIZE_THRESHOLD);
+		_streaming = getBoolean(properties, "multipart.streaming", false);
+	}
+
 	@Override
 	public boolean isReadable(
 		Class<?> clazz, Type genericType, Annotation[] annotations,
@@ -97,71 +131,25 @@ public class MultipartBodyMessageBodyReader implements MessageBodyReader<Body> {
 				"Request body is not a valid multipart form");
 		}
 
-		FileItemFactory fileItemFactory = new DiskFileItemFactory();
+		Map<String, String> values = new HashMap<>();
+		Map<String, BinaryFile> binaryFiles = new HashMap<>();
+		Map<String, Map<Integer, String>> indexedValueLists = new HashMap<>();
+		Map<String, Map<Integer, BinaryFile>> indexedFileLists =
+			new HashMap<>();
 
-		ServletFileUpload servletFileUpload = new ServletFileUpload(
-			fileItemFactory);
+		BiConsumer<String, String> valueConsumer = (name, value) -> _store(
+			name, value, values, indexedValueLists);
+		BiConsumer<String, BinaryFile> fileConsumer =
+			(name, binaryFile) -> _store(
+				name, binaryFile, binaryFiles, indexedFileLists);
 
 		try {
-			List<FileItem> fileItems = servletFileUpload.parseRequest(
-				_httpServletRequest);
-
-			Iterator<FileItem> iterator = fileItems.iterator();
-
-			Map<String, String> values = new HashMap<>();
-			Map<String, BinaryFile> binaryFiles = new HashMap<>();
-			Map<String, Map<Integer, String>> indexedValueLists =
-				new HashMap<>();
-			Map<String, Map<Integer, BinaryFile>> indexedFileLists =
-				new HashMap<>();
-
-			while (iterator.hasNext()) {
-				FileItem fileItem = iterator.next();
-
-				String name = fileItem.getFieldName();
-
-				Matcher matcher = _arrayPattern.matcher(name);
-
-				if (matcher.matches()) {
-					int index = Integer.parseInt(matcher.group(2));
-
-					String actualName = matcher.group(1);
-
-					_storeFileItem(
-						fileItem,
-						value -> {
-							Map<Integer, String> indexedMap =
-								indexedValueLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
-
-							indexedMap.put(index, value);
-						},
-						binaryFile -> {
-							Map<Integer, BinaryFile> indexedMap =
-								indexedFileLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
-
-							indexedMap.put(index, binaryFile);
-						});
-				}
-				else {
-					_storeFileItem(
-						fileItem, value -> values.put(name, value),
-						binaryFile -> binaryFiles.put(name, binaryFile));
-				}
+			if (_streaming) {
+				_readFileItemStreams(valueConsumer, fileConsumer);
+			}
+			else {
+				_readFileItems(valueConsumer, fileConsumer);
 			}
-
-			Map<String, List<String>> valueLists = _flattenMap(
-				indexedValueLists);
-
-			Map<String, List<BinaryFile>> fileLists = _flattenMap(
-				indexedFileLists);
-
-			return Body.create(
-				key -> Optional.ofNullable(values.get(key)),
-				key -> Optional.ofNullable(valueLists.get(key)),
-				key -> Optional.ofNullable(fileLists.get(key)),
-				key -> Optional.ofNullable(binaryFiles.get(key)));
 		}
 		catch (FileUploadException | IndexOutOfBoundsException |
 			   NumberFormatException e) {
@@ -169,6 +157,56 @@ public class MultipartBodyMessageBodyReader implements MessageBodyReader<Body> {
 			throw new BadRequestException(
 				"Request body is not a valid multipart form", e);
 		}
+
+		Map<String, List<String>> valueLists = _flattenMap(indexedValueLists);
+
+		Map<String, List<BinaryFile>> fileLists = _flattenMap(indexedFileLists);
+
+		return Body.create(
+			key -> Optional.ofNullable(values.get(key)),
+			key -> Optional.ofNullable(valueLists.get(key)),
+			key -> Optional.ofNullable(fileLists.get(key)),
+			key -> Optional.ofNullable(binaryFiles.get(key)));
+	}
+
+	private static byte[] _read(InputStream inputStream, int maxSize)
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[8192];
+
+		while (byteArrayOutputStream.size() <= maxSize) {
+			int read = inputStream.read(buffer);
+
+			if (read == -1) {
+				break;
+			}
+
+			byteArrayOutputStream.write(buffer, 0, read);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static <T> void _store(
+		String name, T t, Map<String, T> map,
+		Map<String, Map<Integer, T>> indexedMaps) {
+
+		Matcher matcher = _arrayPattern.matcher(name);
+
+		if (matcher.matches()) {
+			int index = Integer.parseInt(matcher.group(2));
+
+			Map<Integer, T> indexedMap = indexedMaps.computeIfAbsent(
+				matcher.group(1), __ -> new HashMap<>());
+
+			indexedMap.put(index, t);
+		}
+		else {
+			map.put(name, t);
+		}
 	}
 
 	private <T> Map<String, List<T>> _flattenMap(
@@ -192,29 +230,156 @@ public class MultipartBodyMessageBodyReader implements MessageBodyReader<Body> {
 		);
 	}
 
-	private void _storeFileItem(
-			FileItem fileItem, Consumer<String> valueConsumer,
-			Consumer<BinaryFile> fileConsumer)
-		throws IOException {
+	private void _readFileItemStreams(
+			BiConsumer<String, String> valueConsumer,
+			BiConsumer<String, BinaryFile> fileConsumer)
+		throws FileUploadException, IOException {
 
-		if (fileItem.isFormField()) {
-			InputStream stream = fileItem.getInputStream();
+		ServletFileUpload servletFileUpload = new ServletFileUpload();
+
+		FileItemIterator fileItemIterator = servletFileUpload.getItemIterator(
+			_httpServletRequest);
+
+		while (fileItemIterator.hasNext()) {
+			FileItemStream fileItemStream = fileItemIterator.next();
+
+			String name = fileItemStream.getFieldName();
+
+			InputStream stream = fileItemStream.openStream();
+
+			if (fileItemStream.isFormField()) {
+				valueConsumer.accept(name, Streams.asString(stream));
+
+				continue;
+			}
+
+			byte[] bytes = _read(stream, _memoryThreshold);
+
+			if (bytes.length <= _memoryThreshold) {
+				BinaryFile binaryFile = new BinaryFile(
+					new ByteArrayInputStream(bytes), (long)bytes.length,
+					fileItemStream.getContentType());
+
+				fileConsumer.accept(name, binaryFile);
+
+				continue;
+			}
 
-			valueConsumer.accept(Streams.asString(stream));
-		}
-		else {
 			BinaryFile binaryFile = new BinaryFile(
-				fileItem.getInputStream(), fileItem.getSize(),
-				fileItem.getContentType());
+				new LastPartInputStream(
+					new SequenceInputStream(
+						new ByteArrayInputStream(bytes), stream),
+					fileItemIterator),
+				-1L, fileItemStream.getContentType());
 
-			fileConsumer.accept(binaryFile);
+			fileConsumer.accept(name, binaryFile);
+
+			return;
 		}
 	}
 
+	private void _readFileItems(
+			BiConsumer<String, String> valueConsumer,
+			BiConsumer<String, BinaryFile> fileConsumer)
+		throws FileUploadException, IOException {
+
+		FileItemFactory fileItemFactory = new DiskFileItemFactory(
+			_memoryThreshold, null);
+
+		ServletFileUpload servletFileUpload = new ServletFileUpload(
+			fileItemFactory);
+
+		List<FileItem> fileItems = servletFileUpload.parseRequest(
+			_httpServletRequest);
+
+		for (FileItem fileItem : fileItems) {
+			String name = fileItem.getFieldName();
+
+			if (fileItem.isFormField()) {
+				InputStream stream = fileItem.getInputStream();
+
+				valueConsumer.accept(name, Streams.asString(stream));
+			}
+			else {
+				BinaryFile binaryFile = new BinaryFile(
+					fileItem.getInputStream(), fileItem.getSize(),
+					fileItem.getContentType());
+
+				fileConsumer.accept(name, binaryFile);
+			}
+		}
+	}
+
+	/**
+	 * Wraps the live stream of a file streamed from the request. The parts
+	 * after the file can't be read without consuming it, so if any part
+	 * follows the file, reaching the end of its stream throws a {@code
+	 * BadRequestException} instead of leaving those parts out of the {@link
+	 * Body}.
+	 */
+	private static class LastPartInputStream extends FilterInputStream {
+
+		public LastPartInputStream(
+			InputStream inputStream, FileItemIterator fileItemIterator) {
+
+			super(inputStream);
+
+			_fileItemIterator = fileItemIterator;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int read = super.read();
+
+			if (read == -1) {
+				_checkIsLastPart();
+			}
+
+			return read;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			int read = super.read(bytes, offset, length);
+
+			if (read == -1) {
+				_checkIsLastPart();
+			}
+
+			return read;
+		}
+
+		private void _checkIsLastPart() throws IOException {
+			boolean hasNext;
+
+			try {
+				hasNext = _fileItemIterator.hasNext();
+			}
+			catch (FileUploadException fue) {
+				throw new BadRequestException(
+					"Request body is not a valid multipart form", fue);
+			}
+
+			if (hasNext) {
+				throw new BadRequestException(
+					"Files bigger than the memory threshold must be sent as " +
+						"the last part of the request");
+			}
+		}
+
+		private final FileItemIterator _fileItemIterator;
+
+	}
+
 	private static final Pattern _arrayPattern = Pattern.compile(
 		"([A-Z|a-z]+)\\[([0-9]+)]");
 
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
+	private int _memoryThreshold = DiskFileItemFactory.DEFAULT_SIZE_THRESHOLD;
+	private boolean _streaming;
+
 }
\ No newline at end of file
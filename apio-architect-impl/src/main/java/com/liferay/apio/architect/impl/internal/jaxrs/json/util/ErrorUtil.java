@@ -16,6 +16,9 @@ package com.liferay.apio.architect.impl.internal.jaxrs.json.util;
 
 import static com.liferay.apio.architect.impl.internal.writer.ErrorWriter.writeError;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
 import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
@@ -28,6 +31,7 @@ import com.liferay.apio.architect.logger.ApioLogger;
 import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
@@ -47,9 +51,12 @@ public class ErrorUtil {
 	 *
 	 * @param  exception the exception
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the response
 	 */
-	public Response getErrorResponse(Exception exception, Request request) {
+	public Response getErrorResponse(
+		Exception exception, Request request, HttpHeaders httpHeaders) {
+
 		Optional<APIError> apiErrorOptional = _exceptionMapperManager.map(
 			exception);
 
@@ -84,13 +91,16 @@ public class ErrorUtil {
 		int statusCode = apiError.getStatusCode();
 
 		Optional<ErrorMessageMapper> errorMessageMapperOptional =
-			_errorMessageMapperManager.getErrorMessageMapperOptional(request);
+			_errorMessageMapperManager.getErrorMessageMapperOptional(
+				request, httpHeaders);
 
 		return errorMessageMapperOptional.map(
 			errorMessageMapper -> Response.status(
 				statusCode
 			).type(
 				errorMessageMapper.getMediaType()
+			).header(
+				VARY, ACCEPT
 			).entity(
 				writeError(errorMessageMapper, apiError)
 			).build()
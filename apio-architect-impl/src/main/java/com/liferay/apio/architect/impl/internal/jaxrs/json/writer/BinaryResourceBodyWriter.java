@@ -14,11 +14,14 @@
 
 package com.liferay.apio.architect.impl.internal.jaxrs.json.writer;
 
+import static java.nio.file.StandardOpenOption.READ;
+
 import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.internal.range.ByteRange;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.util.GenericUtil;
 
 import java.io.IOException;
@@ -28,7 +31,13 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
 import java.util.Collections;
+import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
@@ -39,7 +48,10 @@ import javax.ws.rs.ext.Provider;
 import org.osgi.service.component.annotations.Component;
 
 /**
- * Writes an input stream as a binary output stream.
+ * Writes an input stream as a binary output stream. If the response has a
+ * {@code Content-Range} header, only that range of the file is written.
+ * Binary files backed by a path are transferred directly from their file
+ * channel.
  *
  * @author Javier Gamarra
  */
@@ -86,19 +98,110 @@ public class BinaryResourceBodyWriter
 		multivaluedMap.put(
 			CONTENT_TYPE, Collections.singletonList(binaryFile.getMimeType()));
 
-		multivaluedMap.put(
-			CONTENT_LENGTH, Collections.singletonList(binaryFile.getSize()));
-
-		byte[] bytes = new byte[1024];
+		Optional<ByteRange> optional = Optional.ofNullable(
+			multivaluedMap.getFirst(_CONTENT_RANGE)
+		).map(
+			String::valueOf
+		).flatMap(
+			ByteRange::fromContentRange
+		);
+
+		long offset = optional.map(
+			ByteRange::getFirst
+		).orElse(
+			0L
+		);
+
+		long length = optional.map(
+			ByteRange::getLength
+		).orElseGet(
+			binaryFile::getSize
+		);
+
+		if (length >= 0) {
+			multivaluedMap.put(
+				CONTENT_LENGTH, Collections.singletonList(length));
+		}
 
-		InputStream inputStream = binaryFile.getInputStream();
-		int value = -1;
+		Optional<Path> pathOptional = binaryFile.getPathOptional();
 
-		while ((value = inputStream.read(bytes)) != -1) {
-			outputStream.write(bytes, 0, value);
+		if (pathOptional.isPresent()) {
+			_transfer(pathOptional.get(), offset, length, outputStream);
+		}
+		else {
+			_copy(binaryFile, offset, length, outputStream);
 		}
 
 		outputStream.close();
 	}
 
+	private static void _copy(
+			BinaryFile binaryFile, long offset, long length,
+			OutputStream outputStream)
+		throws IOException {
+
+		try (InputStream inputStream = binaryFile.getInputStream()) {
+			byte[] bytes = _buffer.get();
+
+			while (offset > 0) {
+				long skipped = inputStream.skip(offset);
+
+				if (skipped <= 0) {
+					skipped = inputStream.read(
+						bytes, 0, (int)Math.min(bytes.length, offset));
+
+					if (skipped == -1) {
+						return;
+					}
+				}
+
+				offset -= skipped;
+			}
+
+			long remaining = (length < 0) ? Long.MAX_VALUE : length;
+
+			while (remaining > 0) {
+				int read = inputStream.read(
+					bytes, 0, (int)Math.min(bytes.length, remaining));
+
+				if (read == -1) {
+					return;
+				}
+
+				outputStream.write(bytes, 0, read);
+
+				remaining -= read;
+			}
+		}
+	}
+
+	private static void _transfer(
+			Path path, long offset, long length, OutputStream outputStream)
+		throws IOException {
+
+		try (FileChannel fileChannel = FileChannel.open(path, READ)) {
+			WritableByteChannel writableByteChannel = Channels.newChannel(
+				outputStream);
+
+			long position = offset;
+			long end = (length < 0) ? fileChannel.size() : offset + length;
+
+			while (position < end) {
+				long transferred = fileChannel.transferTo(
+					position, end - position, writableByteChannel);
+
+				if (transferred <= 0) {
+					return;
+				}
+
+				position += transferred;
+			}
+		}
+	}
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+	private static final ThreadLocal<byte[]> _buffer = ThreadLocal.withInitial(
+		() -> new byte[65536]);
+
 }
\ No newline at end of file
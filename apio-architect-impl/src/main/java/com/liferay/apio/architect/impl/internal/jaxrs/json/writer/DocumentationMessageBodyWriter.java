@@ -18,13 +18,16 @@ import com.liferay.apio.architect.impl.internal.documentation.Documentation;
 import com.liferay.apio.architect.impl.internal.jaxrs.json.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.impl.internal.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.impl.internal.url.ApplicationURL;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
 import com.liferay.apio.architect.impl.internal.writer.DocumentationWriter;
+import com.liferay.apio.architect.language.AcceptLanguage;
 
 import java.lang.reflect.Type;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -36,6 +39,12 @@ import org.osgi.service.component.annotations.Reference;
  * Writes the API documentation by using the {@link DocumentationMessageMapper}
  * that corresponds to the media type.
  *
+ * <p>
+ * The documentation only changes when the services change, so it's rendered
+ * once per media type, application URL, language, and API title and
+ * description, since those are provided for each request.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @review
  */
@@ -61,10 +70,28 @@ public class DocumentationMessageBodyWriter
 
 	@Override
 	public Optional<DocumentationMessageMapper> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
 		return _documentationMessageMapperManager.
-			getDocumentationMessageMapperOptional(request);
+			getDocumentationMessageMapperOptional(request, httpHeaders);
+	}
+
+	@Override
+	protected Optional<String> getCacheKeyOptional(
+		Documentation documentation,
+		DocumentationMessageMapper documentationMessageMapper,
+		RequestInfo requestInfo) {
+
+		ApplicationURL applicationURL = requestInfo.getApplicationURL();
+		AcceptLanguage acceptLanguage = requestInfo.getAcceptLanguage();
+
+		return Optional.of(
+			String.join(
+				"\n", "documentation",
+				documentationMessageMapper.getMediaType(), applicationURL.get(),
+				String.valueOf(acceptLanguage.getPreferredLocale()),
+				String.valueOf(documentation.getAPITitleOptional()),
+				String.valueOf(documentation.getAPIDescriptionOptional())));
 	}
 
 	@Override
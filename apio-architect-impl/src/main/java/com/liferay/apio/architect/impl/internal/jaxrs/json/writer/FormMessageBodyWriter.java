@@ -28,6 +28,7 @@ import java.lang.reflect.Type;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -65,9 +66,10 @@ public class FormMessageBodyWriter
 
 	@Override
 	public Optional<FormMessageMapper> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
-		return _formMessageMapperManager.getFormMessageMapperOptional(request);
+		return _formMessageMapperManager.getFormMessageMapperOptional(
+			request, httpHeaders);
 	}
 
 	@Override
@@ -15,6 +15,8 @@
 package com.liferay.apio.architect.impl.internal.jaxrs.json.writer;
 
 import static com.liferay.apio.architect.impl.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getPositiveInteger;
 
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
@@ -28,21 +30,40 @@ import com.liferay.apio.architect.impl.internal.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.impl.internal.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import java.lang.reflect.Type;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * Writes collection pages by using the {@link PageMessageMapper} that
  * corresponds to the media type.
  *
+ * <p>
+ * Rendering the items of large pages in parallel can be enabled by setting the
+ * {@code parallel.items.threshold} property to the minimum number of items a
+ * page must have to be rendered in parallel. The items are then rendered in a
+ * dedicated {@code ForkJoinPool}, whose size can be set with the {@code
+ * parallel.items.parallelism} property (it defaults to the number of
+ * processors). When the component is deactivated, the pool finishes the items
+ * already submitted, and pages still being written render their remaining
+ * items in the request's thread.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -69,11 +90,37 @@ public class PageMessageBodyWriter<T>
 		).isSuccess();
 	}
 
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_parallelItemsThreshold = getInteger(
+			properties, "parallel.items.threshold", 0);
+
+		if (_parallelItemsThreshold <= 0) {
+			return;
+		}
+
+		Runtime runtime = Runtime.getRuntime();
+
+		int parallelism = getPositiveInteger(
+			properties, "parallel.items.parallelism",
+			runtime.availableProcessors());
+
+		_forkJoinPool = new ForkJoinPool(parallelism);
+	}
+
+	@Deactivate
+	public void deactivate() {
+		if (_forkJoinPool != null) {
+			_forkJoinPool.shutdown();
+		}
+	}
+
 	@Override
 	public Optional<PageMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
-		return _pageMessageMapperManager.getPageMessageMapperOptional(request);
+		return _pageMessageMapperManager.getPageMessageMapperOptional(
+			request, httpHeaders);
 	}
 
 	@Override
@@ -81,7 +128,29 @@ public class PageMessageBodyWriter<T>
 		Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
-		PageWriter<T> pageWriter = PageWriter.create(
+		PageWriter<T> pageWriter = _getPageWriter(
+			success, pageMessageMapper, requestInfo);
+
+		return pageWriter.write();
+	}
+
+	@Override
+	protected void write(
+			Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
+			RequestInfo requestInfo, Writer writer)
+		throws IOException {
+
+		PageWriter<T> pageWriter = _getPageWriter(
+			success, pageMessageMapper, requestInfo);
+
+		pageWriter.write(writer);
+	}
+
+	private PageWriter<T> _getPageWriter(
+		Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo) {
+
+		return PageWriter.create(
 			builder -> builder.page(
 				success.getValue()
 			).pageMessageMapper(
@@ -97,14 +166,20 @@ public class PageMessageBodyWriter<T>
 				requestInfo
 			).singleModelFunction(
 				this::getSingleModelOptional
+			).batchSingleModelFunction(
+				this::getSingleModelsOptional
+			).parallelItemRendering(
+				_forkJoinPool, _parallelItemsThreshold
 			).build());
-
-		return pageWriter.write();
 	}
 
+	private ForkJoinPool _forkJoinPool;
+
 	@Reference
 	private PageMessageMapperManager _pageMessageMapperManager;
 
+	private int _parallelItemsThreshold;
+
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
 
@@ -28,11 +28,15 @@ import com.liferay.apio.architect.impl.internal.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.impl.internal.writer.SingleModelWriter;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import java.lang.reflect.Type;
 
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -73,10 +77,10 @@ public class SingleModelMessageBodyWriter<T> extends
 
 	@Override
 	public Optional<SingleModelMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
 		return _singleModelMessageMapperManager.
-			getSingleModelMessageMapperOptional(request);
+			getSingleModelMessageMapperOptional(request, httpHeaders);
 	}
 
 	@Override
@@ -85,7 +89,35 @@ public class SingleModelMessageBodyWriter<T> extends
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
 
-		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+		SingleModelWriter<T> singleModelWriter = _getSingleModelWriter(
+			success, singleModelMessageMapper, requestInfo);
+
+		Optional<String> optional = singleModelWriter.write();
+
+		return optional.orElseThrow(NotFoundException::new);
+	}
+
+	@Override
+	protected void write(
+			Success<SingleModel<T>> success,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, Writer writer)
+		throws IOException {
+
+		SingleModelWriter<T> singleModelWriter = _getSingleModelWriter(
+			success, singleModelMessageMapper, requestInfo);
+
+		if (!singleModelWriter.write(writer)) {
+			throw new NotFoundException();
+		}
+	}
+
+	private SingleModelWriter<T> _getSingleModelWriter(
+		Success<SingleModel<T>> success,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo) {
+
+		return SingleModelWriter.create(
 			builder -> builder.singleModel(
 				success.getValue()
 			).modelMessageMapper(
@@ -102,10 +134,6 @@ public class SingleModelMessageBodyWriter<T> extends
 			).singleModelFunction(
 				this::getSingleModelOptional
 			).build());
-
-		Optional<String> optional = singleModelWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
 	}
 
 	@Reference
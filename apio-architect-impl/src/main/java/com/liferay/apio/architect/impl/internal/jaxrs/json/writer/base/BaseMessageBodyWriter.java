@@ -16,7 +16,9 @@ package com.liferay.apio.architect.impl.internal.jaxrs.json.writer.base;
 
 import static java.util.Collections.singletonList;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.VARY;
 
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
@@ -27,6 +29,7 @@ import com.liferay.apio.architect.impl.internal.response.control.Fields;
 import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.impl.internal.url.ApplicationURL;
 import com.liferay.apio.architect.impl.internal.url.ServerURL;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.ManagerCache;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.router.ItemRouterManager;
@@ -34,17 +37,22 @@ import com.liferay.apio.architect.language.AcceptLanguage;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 import java.nio.charset.StandardCharsets;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
@@ -52,6 +60,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
@@ -85,11 +94,13 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 * Returns {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 * @review
 	 */
-	public abstract Optional<S> getMessageMapperOptional(Request request);
+	public abstract Optional<S> getMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders);
 
 	@Override
 	public long getSize(
@@ -114,15 +125,12 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			OutputStream outputStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
-
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
-
-		Optional<S> optional = getMessageMapperOptional(_request);
+		Optional<S> optional = getMessageMapperOptional(_request, _httpHeaders);
 
 		S s = optional.orElseThrow(NotSupportedException::new);
 
+		_addVaryAccept(httpHeaders);
+
 		RequestInfo requestInfo = RequestInfo.create(
 			builder -> builder.httpServletRequest(
 				_httpServletRequest
@@ -152,15 +160,57 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 				)
 			).build());
 
-		String result = write(t, s, requestInfo);
-
 		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
 
-		printWriter.println(result);
+		Optional<String> cacheKeyOptional = getCacheKeyOptional(
+			t, s, requestInfo);
+
+		if (cacheKeyOptional.isPresent()) {
+			byte[] bytes = ManagerCache.INSTANCE.getRenderedDocument(
+				cacheKeyOptional.get(), () -> _render(t, s, requestInfo));
+
+			outputStream.write(bytes);
+
+			return;
+		}
+
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
+			outputStream, StandardCharsets.UTF_8);
+
+		PrintWriter printWriter = new PrintWriter(
+			new BufferedWriter(outputStreamWriter), true);
+
+		write(t, s, requestInfo, printWriter);
+
+		printWriter.println();
 
 		printWriter.close();
 	}
 
+	/**
+	 * Returns the key under which the element's rendered representation can be
+	 * cached, if the representation only depends on the services and on the
+	 * request information contained in the key. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * By default, representations aren't cached. Cached representations are
+	 * discarded every time a service changes.
+	 * </p>
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @return the cache key, if the representation can be cached; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	protected Optional<String> getCacheKeyOptional(
+		T t, S s, RequestInfo requestInfo) {
+
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns a {@code SingleModel} identified by the supplied identifier, if
 	 * present. Returns {@code Optional#empty()} otherwise.
@@ -195,6 +245,43 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 		);
 	}
 
+	/**
+	 * Returns the {@code SingleModel} of every identifier found by the batch
+	 * getter of the identifier class's resource, mapped by identifier. Returns
+	 * {@code Optional#empty()} if the resource has no batch getter or the
+	 * batch getter fails.
+	 *
+	 * @param  identifiers the single models identifiers
+	 * @param  identifierClass the resource identifier class
+	 * @return the {@code SingleModel} instances found, if the resource has a
+	 *         batch getter; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	protected Optional<Map<Object, SingleModel>> getSingleModelsOptional(
+		Collection<Object> identifiers,
+		Class<? extends Identifier> identifierClass) {
+
+		return Try.success(
+			identifierClass.getName()
+		).mapOptional(
+			nameManager::getNameOptional
+		).mapOptional(
+			itemRouterManager::getItemRoutesOptional
+		).mapOptional(
+			ItemRoutes::getBatchItemFunctionOptional
+		).map(
+			function -> function.apply(_httpServletRequest)
+		).flatMap(
+			function -> function.apply(identifiers)
+		).<Map<Object, SingleModel>>map(
+			Unsafe::unsafeCast
+		).map(
+			Optional::of
+		).orElseGet(
+			Optional::empty
+		);
+	}
+
 	/**
 	 * Writes the element into a {@code String} using the supplied message
 	 * mapper and the current {@code RequestInfo}.
@@ -207,6 +294,63 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 */
 	protected abstract String write(T t, S s, RequestInfo requestInfo);
 
+	/**
+	 * Writes the element directly to the provided writer using the supplied
+	 * message mapper and the current {@code RequestInfo}.
+	 *
+	 * <p>
+	 * By default, this method writes the {@code String} returned by {@link
+	 * #write(Object, MessageMapper, RequestInfo)}. Message body writers able to
+	 * stream the element's representation should override this method to
+	 * avoid creating the intermediate {@code String}.
+	 * </p>
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @param  writer the writer where the element is written
+	 * @throws IOException if the element couldn't be written
+	 * @review
+	 */
+	protected void write(T t, S s, RequestInfo requestInfo, Writer writer)
+		throws IOException {
+
+		writer.write(write(t, s, requestInfo));
+	}
+
+	/**
+	 * Adds {@code Accept} to the response's {@code Vary} header. The message
+	 * mapper selection is cached by {@code Accept} header, so {@code
+	 * Request#selectVariant} (which would add it) isn't always called.
+	 */
+	private static void _addVaryAccept(
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		List<Object> values = httpHeaders.get(VARY);
+
+		if (values != null) {
+			for (Object value : values) {
+				String string = String.valueOf(value);
+
+				for (String token : string.split(",")) {
+					token = token.trim();
+
+					if (token.equals("*") || token.equalsIgnoreCase(ACCEPT)) {
+						return;
+					}
+				}
+			}
+		}
+
+		httpHeaders.add(VARY, ACCEPT);
+	}
+
+	private byte[] _render(T t, S s, RequestInfo requestInfo) {
+		String string = write(t, s, requestInfo) + System.lineSeparator();
+
+		return string.getBytes(StandardCharsets.UTF_8);
+	}
+
 	@Reference
 	protected ItemRouterManager itemRouterManager;
 
@@ -216,6 +360,9 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	@Reference
 	protected ProviderManager providerManager;
 
+	@Context
+	private HttpHeaders _httpHeaders;
+
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
@@ -14,11 +14,10 @@
 
 package com.liferay.apio.architect.impl.internal.list;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -27,6 +26,13 @@ import java.util.stream.Stream;
  * methods this interface defines to take different elements from the list.
  * Instances of {@code FunctionalList} should always have at least one element.
  *
+ * <p>
+ * Lists are persistent: creating a list from another one only stores a
+ * reference to it, so the elements are never copied. The size and the dotted
+ * representation of the list are computed once and shared with the lists
+ * created from it.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés§
  * @author Jorge Ferrer
@@ -35,21 +41,38 @@ import java.util.stream.Stream;
 public class FunctionalList<E> {
 
 	public FunctionalList(FunctionalList<E> functionalList, E last) {
+		_parent = functionalList;
+		_element = last;
+
 		if (functionalList == null) {
 			_first = last;
-			_tail = Collections.emptyList();
+			_size = 1;
 		}
 		else {
 			_first = functionalList.head();
+			_size = functionalList.size() + 1;
+		}
+	}
 
-			Stream<E> stream = functionalList.tailStream();
-
-			List<E> tail = stream.collect(Collectors.toList());
-
-			tail.add(last);
-
-			_tail = tail;
+	/**
+	 * Returns the elements of the list joined with dots. The value is computed
+	 * from the dotted representation of the list this one was created from, so
+	 * each list only concatenates its last element.
+	 *
+	 * @return the elements of the list joined with dots
+	 * @review
+	 */
+	public String dottedString() {
+		if (_dottedString == null) {
+			if (_parent == null) {
+				_dottedString = String.valueOf(_element);
+			}
+			else {
+				_dottedString = _parent.dottedString() + "." + _element;
+			}
 		}
+
+		return _dottedString;
 	}
 
 	/**
@@ -68,19 +91,15 @@ public class FunctionalList<E> {
 	 *         list
 	 */
 	public Stream<E> initStream() {
-		if (_init == null) {
-			List<E> init = new ArrayList<>();
-
-			init.add(_first);
+		List<E> elements = _getElements();
 
-			Stream<E> stream = middleStream();
-
-			init.addAll(stream.collect(Collectors.toList()));
-
-			_init = init;
+		if (_size == 1) {
+			return elements.stream();
 		}
 
-		return _init.stream();
+		List<E> init = elements.subList(0, _size - 1);
+
+		return init.stream();
 	}
 
 	/**
@@ -89,15 +108,11 @@ public class FunctionalList<E> {
 	 * @return the last element of the list; {@code Optional.empty()} otherwise
 	 */
 	public Optional<E> lastOptional() {
-		if (_last == null) {
-			if (_tail.size() == 0) {
-				return Optional.empty();
-			}
-
-			_last = _tail.get(_tail.size() - 1);
+		if (_parent == null) {
+			return Optional.empty();
 		}
 
-		return Optional.of(_last);
+		return Optional.of(_element);
 	}
 
 	/**
@@ -107,16 +122,25 @@ public class FunctionalList<E> {
 	 *         and last
 	 */
 	public Stream<E> middleStream() {
-		if (_middle == null) {
-			if (_tail.size() == 0) {
-				_middle = Collections.emptyList();
-			}
-			else {
-				_middle = _tail.subList(0, _tail.size() - 1);
-			}
+		if (_size <= 2) {
+			return Stream.empty();
 		}
 
-		return _middle.stream();
+		List<E> elements = _getElements();
+
+		List<E> middle = elements.subList(1, _size - 1);
+
+		return middle.stream();
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * @return the number of elements in the list
+	 * @review
+	 */
+	public int size() {
+		return _size;
 	}
 
 	/**
@@ -125,13 +149,52 @@ public class FunctionalList<E> {
 	 * @return a {@code Stream} that contains all list elements except the first
 	 */
 	public Stream<E> tailStream() {
-		return _tail.stream();
+		if (_size == 1) {
+			return Stream.empty();
+		}
+
+		List<E> elements = _getElements();
+
+		List<E> tail = elements.subList(1, _size);
+
+		return tail.stream();
+	}
+
+	/**
+	 * Returns all elements of the list, in order, as an unmodifiable list.
+	 *
+	 * @return the elements of the list
+	 * @review
+	 */
+	public List<E> toList() {
+		return _getElements();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<E> _getElements() {
+		if (_elements == null) {
+			Object[] elements = new Object[_size];
+
+			FunctionalList<E> functionalList = this;
+
+			for (int i = _size - 1; i >= 0; i--) {
+				elements[i] = functionalList._element;
+
+				functionalList = functionalList._parent;
+			}
+
+			_elements = Collections.unmodifiableList(
+				(List<E>)Arrays.asList(elements));
+		}
+
+		return _elements;
 	}
 
+	private String _dottedString;
+	private final E _element;
+	private List<E> _elements;
 	private final E _first;
-	private List<E> _init;
-	private E _last;
-	private List<E> _middle;
-	private final List<E> _tail;
+	private final FunctionalList<E> _parent;
+	private final int _size;
 
 }
\ No newline at end of file
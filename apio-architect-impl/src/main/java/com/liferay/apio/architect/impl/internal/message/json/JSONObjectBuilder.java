@@ -14,9 +14,15 @@
 
 package com.liferay.apio.architect.impl.internal.message.json;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -229,6 +235,26 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Writes the JSON object constructed by the JSON object builder directly to
+	 * the provided writer, token by token, without creating its {@code String}
+	 * representation first. The output is the same as the one obtained with
+	 * {@code build().toString()}.
+	 *
+	 * @param  writer the writer where the JSON object is written
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(Writer writer) throws IOException {
+		JsonWriter jsonWriter = new JsonWriter(writer);
+
+		jsonWriter.setLenient(true);
+
+		_jsonElementTypeAdapter.write(jsonWriter, _jsonObject);
+
+		jsonWriter.flush();
+	}
+
 	public static class ArrayValueStep {
 
 		public ArrayValueStep(JsonArray jsonArray) {
@@ -607,6 +633,9 @@ public class JSONObjectBuilder {
 
 	}
 
+	private static final TypeAdapter<JsonElement> _jsonElementTypeAdapter =
+		new Gson().getAdapter(JsonElement.class);
+
 	private final JsonObject _jsonObject = new JsonObject();
 
 }
\ No newline at end of file
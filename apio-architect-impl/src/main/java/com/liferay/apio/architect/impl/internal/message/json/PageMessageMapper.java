@@ -544,7 +544,8 @@ public interface PageMessageMapper<T>
 
 	/**
 	 * Maps the total number of elements in the collection to its JSON object
-	 * representation.
+	 * representation. This method is only called if the total number of
+	 * elements was computed.
 	 *
 	 * @param jsonObjectBuilder the JSON object builder for the page
 	 * @param totalCount the total number of elements in the collection
@@ -573,7 +574,9 @@ public interface PageMessageMapper<T>
 	}
 
 	/**
-	 * Maps the last page's URL to its JSON object representation.
+	 * Maps the last page's URL to its JSON object representation. This method
+	 * is only called if the collection's total number of elements was
+	 * computed.
 	 *
 	 * @param jsonObjectBuilder the JSON object builder for the page
 	 * @param url the last page's URL
@@ -48,14 +48,31 @@ public class PageImpl<T> implements Page<T> {
 
 		_resourceName = resourceName;
 
+		_cursor = pagination.getCursorOptional(
+		).filter(
+			__ -> pageItems.isCursorPaginated()
+		).orElse(
+			null
+		);
+		_cursorPaginated = pageItems.isCursorPaginated();
 		_items = pageItems.getItems();
 		_itemsPerPage = pagination.getItemsPerPage();
+		_nextCursor = pageItems.getNextCursorOptional(
+		).orElse(
+			null
+		);
+		_pageItems = pageItems;
 		_pageNumber = pagination.getPageNumber();
-		_totalCount = pageItems.getTotalCount();
+		_totalCountOmitted = pagination.isTotalCountOmitted();
 		_path = path;
 		_operations = operations;
 	}
 
+	@Override
+	public Optional<String> getCursorOptional() {
+		return Optional.ofNullable(_cursor);
+	}
+
 	@Override
 	public Collection<T> getItems() {
 		return _items;
@@ -68,11 +85,28 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public int getLastPageNumber() {
-		if (_totalCount == 0) {
+		Optional<Integer> optional = getTotalCountOptional();
+
+		if (!optional.isPresent()) {
+			if (_items.size() >= _itemsPerPage) {
+				return _pageNumber + 1;
+			}
+
+			return _pageNumber;
+		}
+
+		int totalCount = optional.get();
+
+		if (totalCount == 0) {
 			return 1;
 		}
 
-		return -Math.floorDiv(-_totalCount, _itemsPerPage);
+		return -Math.floorDiv(-totalCount, _itemsPerPage);
+	}
+
+	@Override
+	public Optional<String> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
 	}
 
 	@Override
@@ -97,11 +131,30 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public int getTotalCount() {
-		return _totalCount;
+		Optional<Integer> optional = getTotalCountOptional();
+
+		return optional.orElse(0);
+	}
+
+	@Override
+	public Optional<Integer> getTotalCountOptional() {
+		if (_totalCountOmitted) {
+			return Optional.empty();
+		}
+
+		return _pageItems.getTotalCountOptional();
 	}
 
 	@Override
 	public boolean hasNext() {
+		if (_cursorPaginated) {
+			if (_nextCursor != null) {
+				return true;
+			}
+
+			return false;
+		}
+
 		if (getLastPageNumber() > _pageNumber) {
 			return true;
 		}
@@ -111,6 +164,10 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public boolean hasPrevious() {
+		if (_cursorPaginated) {
+			return false;
+		}
+
 		if (_pageNumber > 1) {
 			return true;
 		}
@@ -118,12 +175,16 @@ public class PageImpl<T> implements Page<T> {
 		return false;
 	}
 
+	private final String _cursor;
+	private final boolean _cursorPaginated;
 	private final Collection<T> _items;
 	private final int _itemsPerPage;
+	private final String _nextCursor;
 	private final List<Operation> _operations;
+	private final PageItems<T> _pageItems;
 	private final int _pageNumber;
 	private final Path _path;
 	private final String _resourceName;
-	private final int _totalCount;
+	private final boolean _totalCountOmitted;
 
 }
\ No newline at end of file
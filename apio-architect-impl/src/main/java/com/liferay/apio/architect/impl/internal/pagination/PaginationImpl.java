@@ -16,6 +16,8 @@ package com.liferay.apio.architect.impl.internal.pagination;
 
 import com.liferay.apio.architect.pagination.Pagination;
 
+import java.util.Optional;
+
 /**
  * Defines pagination for a collection endpoint. An instance of this class is
  * handed to resources that handle pagination parameters.
@@ -28,8 +30,26 @@ import com.liferay.apio.architect.pagination.Pagination;
 public class PaginationImpl implements Pagination {
 
 	public PaginationImpl(int itemsPerPage, int pageNumber) {
+		this(itemsPerPage, pageNumber, null);
+	}
+
+	public PaginationImpl(int itemsPerPage, int pageNumber, String cursor) {
+		this(itemsPerPage, pageNumber, cursor, false);
+	}
+
+	public PaginationImpl(
+		int itemsPerPage, int pageNumber, String cursor,
+		boolean totalCountOmitted) {
+
 		_itemsPerPage = itemsPerPage;
 		_pageNumber = pageNumber;
+		_cursor = cursor;
+		_totalCountOmitted = totalCountOmitted;
+	}
+
+	@Override
+	public Optional<String> getCursorOptional() {
+		return Optional.ofNullable(_cursor);
 	}
 
 	@Override
@@ -52,7 +72,14 @@ public class PaginationImpl implements Pagination {
 		return (_pageNumber - 1) * _itemsPerPage;
 	}
 
+	@Override
+	public boolean isTotalCountOmitted() {
+		return _totalCountOmitted;
+	}
+
+	private final String _cursor;
 	private final int _itemsPerPage;
 	private final int _pageNumber;
+	private final boolean _totalCountOmitted;
 
 }
\ No newline at end of file
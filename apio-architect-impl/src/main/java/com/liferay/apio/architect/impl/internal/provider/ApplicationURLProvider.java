@@ -34,11 +34,11 @@ public class ApplicationURLProvider implements Provider<ApplicationURL> {
 
 	@Override
 	public ApplicationURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> {
-			String serverURL = getServerURL(httpServletRequest);
+		String applicationURL =
+			getServerURL(httpServletRequest) +
+				httpServletRequest.getContextPath();
 
-			return serverURL + httpServletRequest.getContextPath();
-		};
+		return () -> applicationURL;
 	}
 
 }
\ No newline at end of file
@@ -14,23 +14,36 @@
 
 package com.liferay.apio.architect.impl.internal.provider;
 
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getPositiveInteger;
+
+import com.liferay.apio.architect.impl.internal.list.FunctionalList;
 import com.liferay.apio.architect.impl.internal.response.control.Embedded;
 import com.liferay.apio.architect.provider.Provider;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 
 /**
  * Lets consumers use the {@code embedded} affordance in order to embed inner
  * resources in representations.
  *
+ * <p>
+ * The requested paths are compiled once per request into a trie of path
+ * segments, so testing a relation doesn't depend on the number of requested
+ * paths. Requests with more paths than {@code embedded.max.count} or with paths
+ * deeper than {@code embedded.max.depth} are rejected with a {@code
+ * javax.ws.rs.BadRequestException}.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -38,36 +51,110 @@ import org.osgi.service.component.annotations.Component;
 @Component
 public class EmbeddedProvider implements Provider<Embedded> {
 
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_maxCount = getPositiveInteger(
+			properties, "embedded.max.count", _MAX_COUNT_DEFAULT);
+		_maxDepth = getPositiveInteger(
+			properties, "embedded.max.depth", _MAX_DEPTH_DEFAULT);
+	}
+
 	public Embedded createContext(HttpServletRequest httpServletRequest) {
 		return Optional.ofNullable(
 			httpServletRequest.getParameter("embedded")
 		).map(
 			_pattern::split
 		).map(
-			Arrays::asList
-		).map(
-			EmbeddedProvider::_isEmbedded
+			this::_compile
 		).orElse(
 			__ -> false
 		);
 	}
 
-	private static Embedded _isEmbedded(List<String> strings) {
-		return field -> {
-			for (String string : strings) {
-				if (Objects.equals(string, field)) {
-					return true;
+	private Embedded _compile(String[] paths) {
+		if (paths.length > _maxCount) {
+			throw new BadRequestException(
+				"Embedded parameter can't contain more than " + _maxCount +
+					" paths");
+		}
+
+		EmbeddedTrie embeddedTrie = new EmbeddedTrie();
+
+		for (String path : paths) {
+			String[] segments = path.split("\\.", -1);
+
+			if (segments.length > _maxDepth) {
+				throw new BadRequestException(
+					"Embedded path " + path + " is deeper than " + _maxDepth);
+			}
+
+			embeddedTrie.add(segments);
+		}
+
+		return embeddedTrie;
+	}
+
+	/**
+	 * A prefix trie of embedded path segments. A relation is embedded if its
+	 * path segments lead to a node of the trie, that is, if its path is one of
+	 * the requested paths or a prefix of one of them.
+	 */
+	private static class EmbeddedTrie implements Embedded {
+
+		public void add(String[] segments) {
+			EmbeddedTrie embeddedTrie = this;
+
+			for (String segment : segments) {
+				embeddedTrie = embeddedTrie._children.computeIfAbsent(
+					segment, __ -> new EmbeddedTrie());
+			}
+		}
+
+		@Override
+		public boolean isEmbedded(FunctionalList<String> embeddedPathElements) {
+			Map<String, EmbeddedTrie> children = _children;
+
+			for (String element : embeddedPathElements.toList()) {
+				EmbeddedTrie embeddedTrie = children.get(element);
+
+				if (embeddedTrie == null) {
+					return false;
 				}
 
-				if (string.startsWith(field + ".")) {
-					return true;
+				children = embeddedTrie._children;
+			}
+
+			return true;
+		}
+
+		@Override
+		public boolean test(String field) {
+			Map<String, EmbeddedTrie> children = _children;
+
+			for (String segment : field.split("\\.", -1)) {
+				EmbeddedTrie embeddedTrie = children.get(segment);
+
+				if (embeddedTrie == null) {
+					return false;
 				}
+
+				children = embeddedTrie._children;
 			}
 
-			return false;
-		};
+			return true;
+		}
+
+		private final Map<String, EmbeddedTrie> _children = new HashMap<>();
+
 	}
 
+	private static final int _MAX_COUNT_DEFAULT = 100;
+
+	private static final int _MAX_DEPTH_DEFAULT = 10;
+
 	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
 
+	private int _maxCount = _MAX_COUNT_DEFAULT;
+	private int _maxDepth = _MAX_DEPTH_DEFAULT;
+
 }
\ No newline at end of file
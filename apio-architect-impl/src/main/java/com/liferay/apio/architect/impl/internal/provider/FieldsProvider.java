@@ -18,11 +18,13 @@ import com.liferay.apio.architect.impl.internal.response.control.Fields;
 import com.liferay.apio.architect.provider.Provider;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -73,25 +75,45 @@ public class FieldsProvider implements Provider<Fields> {
 				entry -> Arrays.asList(entry.getValue()[0].split(",")))
 		);
 
-		return types -> field -> {
-			Stream<String> typesStream = types.stream();
-
-			List<String> fields = typesStream.map(
-				fieldsMap::get
-			).filter(
-				Objects::nonNull
-			).flatMap(
-				List::stream
-			).collect(
-				Collectors.toList()
-			);
-
-			return fields.isEmpty() || fields.contains(field);
-		};
+		if (fieldsMap.isEmpty()) {
+			return types -> _alwaysTruePredicate;
+		}
+
+		Map<List<String>, Predicate<String>> predicates =
+			new ConcurrentHashMap<>();
+
+		return types -> predicates.computeIfAbsent(
+			types, __ -> _getPredicate(fieldsMap, types));
+	}
+
+	/**
+	 * Compiles the predicate for a list of types, that checks if a field has
+	 * been selected for any of them.
+	 */
+	private static Predicate<String> _getPredicate(
+		Map<String, List<String>> fieldsMap, List<String> types) {
+
+		Set<String> fields = new HashSet<>();
+
+		for (String type : types) {
+			List<String> typeFields = fieldsMap.get(type);
+
+			if (typeFields != null) {
+				fields.addAll(typeFields);
+			}
+		}
+
+		if (fields.isEmpty()) {
+			return _alwaysTruePredicate;
+		}
+
+		return fields::contains;
 	}
 
 	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
 
+	private static final Predicate<String> _alwaysTruePredicate =
+		field -> true;
 	private static final Function<String, String> _getTypeFunction =
 		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
 
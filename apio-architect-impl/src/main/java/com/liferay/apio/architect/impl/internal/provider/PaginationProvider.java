@@ -43,7 +43,13 @@ public class PaginationProvider implements Provider<Pagination> {
 		int pageNumber = _getAsInt(
 			httpServletRequest.getParameter("page"), _PAGE_NUMBER_DEFAULT);
 
-		return new PaginationImpl(itemsPerPage, pageNumber);
+		String cursor = httpServletRequest.getParameter("after");
+
+		boolean totalCountOmitted = "false".equals(
+			httpServletRequest.getParameter("total_count"));
+
+		return new PaginationImpl(
+			itemsPerPage, pageNumber, cursor, totalCountOmitted);
 	}
 
 	private int _getAsInt(String parameterValue, int defaultValue) {
@@ -34,7 +34,9 @@ public class ServerURLProvider implements Provider<ServerURL> {
 
 	@Override
 	public ServerURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> getServerURL(httpServletRequest);
+		String serverURL = getServerURL(httpServletRequest);
+
+		return () -> serverURL;
 	}
 
 }
\ No newline at end of file
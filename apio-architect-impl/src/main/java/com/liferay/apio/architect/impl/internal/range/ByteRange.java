@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.range;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a single byte range of a binary resource, as used in the {@code
+ * Range} and {@code Content-Range} HTTP headers.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ByteRange {
+
+	/**
+	 * Returns the byte range described by a {@code Content-Range} header, if
+	 * it is valid; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  contentRange the {@code Content-Range} header
+	 * @return the byte range, if the header is valid; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public static Optional<ByteRange> fromContentRange(String contentRange) {
+		if (contentRange == null) {
+			return Optional.empty();
+		}
+
+		Matcher matcher = _contentRangePattern.matcher(contentRange.trim());
+
+		if (!matcher.matches()) {
+			return Optional.empty();
+		}
+
+		long first = Long.parseLong(matcher.group(1));
+		long last = Long.parseLong(matcher.group(2));
+		long size = Long.parseLong(matcher.group(3));
+
+		if ((first > last) || (last >= size)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new ByteRange(first, last, size));
+	}
+
+	/**
+	 * Returns the byte range requested in a {@code Range} header, for a
+	 * resource of the provided size. Returns {@code Optional#empty()} if the
+	 * header is invalid or requests several ranges, in which case the header
+	 * should be ignored. The returned range may not be satisfiable.
+	 *
+	 * @param  range the {@code Range} header
+	 * @param  size the size of the resource
+	 * @return the byte range, if the header requests a single valid range;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<ByteRange> fromRange(String range, long size) {
+		if (range == null) {
+			return Optional.empty();
+		}
+
+		Matcher matcher = _rangePattern.matcher(range.trim());
+
+		if (!matcher.matches()) {
+			return Optional.empty();
+		}
+
+		String firstString = matcher.group(1);
+		String lastString = matcher.group(2);
+
+		if (firstString.isEmpty() && lastString.isEmpty()) {
+			return Optional.empty();
+		}
+
+		if (firstString.isEmpty()) {
+			long suffixLength = Long.parseLong(lastString);
+
+			if (suffixLength == 0) {
+				return Optional.of(new ByteRange(size, size, size));
+			}
+
+			long first = Math.max(size - suffixLength, 0);
+
+			return Optional.of(new ByteRange(first, size - 1, size));
+		}
+
+		long first = Long.parseLong(firstString);
+
+		if (lastString.isEmpty()) {
+			return Optional.of(new ByteRange(first, size - 1, size));
+		}
+
+		long last = Long.parseLong(lastString);
+
+		if (last < first) {
+			return Optional.empty();
+		}
+
+		return Optional.of(
+			new ByteRange(first, Math.min(last, size - 1), size));
+	}
+
+	public long getFirst() {
+		return _first;
+	}
+
+	public long getLast() {
+		return _last;
+	}
+
+	/**
+	 * Returns the number of bytes in the range.
+	 *
+	 * @return the number of bytes in the range
+	 * @review
+	 */
+	public long getLength() {
+		return _last - _first + 1;
+	}
+
+	public long getSize() {
+		return _size;
+	}
+
+	/**
+	 * Returns {@code true} if the range contains at least one byte of the
+	 * resource.
+	 *
+	 * @return {@code true} if the range can be satisfied; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isSatisfiable() {
+		if ((_first < _size) && (_first <= _last)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the value of the {@code Content-Range} header for this range.
+	 *
+	 * @return the {@code Content-Range} header
+	 * @review
+	 */
+	public String toContentRange() {
+		return "bytes " + _first + "-" + _last + "/" + _size;
+	}
+
+	private ByteRange(long first, long last, long size) {
+		_first = first;
+		_last = last;
+		_size = size;
+	}
+
+	private static final Pattern _contentRangePattern = Pattern.compile(
+		"bytes (\\d{1,18})-(\\d{1,18})/(\\d{1,18})");
+
+	private static final Pattern _rangePattern = Pattern.compile(
+		"bytes=(\\d{0,18})-(\\d{0,18})");
+
+	private final long _first;
+	private final long _last;
+	private final long _size;
+
+}
\ No newline at end of file
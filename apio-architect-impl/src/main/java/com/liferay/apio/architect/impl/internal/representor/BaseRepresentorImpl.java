@@ -23,7 +23,6 @@ import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.impl.internal.related.RelatedModelImpl;
-import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.language.AcceptLanguage;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
@@ -47,13 +46,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	@Override
 	public List<FieldFunction<T, String>> getApplicationRelativeURLFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("APPLICATION_RELATIVE_URL")
-		).<List<FieldFunction<T, String>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _applicationRelativeURLFunctions;
 	}
 
 	@Override
@@ -63,59 +56,29 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	@Override
 	public List<FieldFunction<T, BinaryFile>> getBinaryFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("BINARY")
-		).<List<FieldFunction<T, BinaryFile>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _binaryFieldFunctions;
 	}
 
 	@Override
 	public List<FieldFunction<T, Boolean>> getBooleanFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("BOOLEAN")
-		).<List<FieldFunction<T, Boolean>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _booleanFunctions;
 	}
 
 	@Override
 	public List<FieldFunction<T, List<Boolean>>> getBooleanListFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("BOOLEAN_LIST")
-		).<List<FieldFunction<T, List<Boolean>>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _booleanListFunctions;
 	}
 
 	@Override
 	public List<FieldFunction<T, String>> getLinkFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("LINK")
-		).<List<FieldFunction<T, String>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _linkFunctions;
 	}
 
 	@Override
 	public List<FieldFunction<T, Function<AcceptLanguage, String>>>
 		getLocalizedStringFunctions() {
 
-		return Optional.ofNullable(
-			fieldFunctions.get("LOCALIZED")
-		).<List<FieldFunction<T, Function<AcceptLanguage, String>>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _localizedStringFunctions;
 	}
 
 	@Override
@@ -130,24 +93,12 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	@Override
 	public List<FieldFunction<T, Number>> getNumberFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("NUMBER")
-		).<List<FieldFunction<T, Number>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _numberFunctions;
 	}
 
 	@Override
 	public List<FieldFunction<T, List<Number>>> getNumberListFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("NUMBER_LIST")
-		).<List<FieldFunction<T, List<Number>>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _numberListFunctions;
 	}
 
 	@Override
@@ -157,35 +108,17 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	@Override
 	public List<FieldFunction<T, String>> getRelativeURLFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("RELATIVE_URL")
-		).<List<FieldFunction<T, String>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _relativeURLFunctions;
 	}
 
 	@Override
 	public List<FieldFunction<T, String>> getStringFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("STRING")
-		).<List<FieldFunction<T, String>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _stringFunctions;
 	}
 
 	@Override
 	public List<FieldFunction<T, List<String>>> getStringListFunctions() {
-		return Optional.ofNullable(
-			fieldFunctions.get("STRING_LIST")
-		).<List<FieldFunction<T, List<String>>>>map(
-			Unsafe::unsafeCast
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _stringListFunctions;
 	}
 
 	@Override
@@ -195,7 +128,6 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	protected BaseRepresentorImpl() {
 		binaryFunctions = new LinkedHashMap<>();
-		fieldFunctions = new LinkedHashMap<>();
 		nestedFieldFunctions = new ArrayList<>();
 		nestedListFieldFunctions = new ArrayList<>();
 		relatedModels = new ArrayList<>();
@@ -212,7 +144,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	protected void addApplicationRelativeURLFunction(
 		String key, Function<T, String> function) {
 
-		_addFieldFunction(key, function, "APPLICATION_RELATIVE_URL");
+		_addFieldFunction(key, function, _applicationRelativeURLFunctions);
 	}
 
 	/**
@@ -227,7 +159,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 		binaryFunctions.put(key, binaryFunction);
 
-		_addFieldFunction(key, binaryFunction, "BINARY");
+		_addFieldFunction(key, binaryFunction, _binaryFieldFunctions);
 	}
 
 	/**
@@ -240,7 +172,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	protected void addBooleanFunction(
 		String key, Function<T, Boolean> function) {
 
-		_addFieldFunction(key, function, "BOOLEAN");
+		_addFieldFunction(key, function, _booleanFunctions);
 	}
 
 	/**
@@ -253,7 +185,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	protected void addBooleanListFunction(
 		String key, Function<T, List<Boolean>> function) {
 
-		_addFieldFunction(key, function, "BOOLEAN_LIST");
+		_addFieldFunction(key, function, _booleanListFunctions);
 	}
 
 	/**
@@ -266,7 +198,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	protected void addLanguageFunction(
 		String key, Function<T, Function<AcceptLanguage, String>> function) {
 
-		_addFieldFunction(key, function, "LOCALIZED");
+		_addFieldFunction(key, function, _localizedStringFunctions);
 	}
 
 	/**
@@ -277,7 +209,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	 * @review
 	 */
 	protected void addLinkFunction(String key, Function<T, String> function) {
-		_addFieldFunction(key, function, "LINK");
+		_addFieldFunction(key, function, _linkFunctions);
 	}
 
 	/**
@@ -367,7 +299,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	 * @review
 	 */
 	protected void addNumberFunction(String key, Function<T, Number> function) {
-		_addFieldFunction(key, function, "NUMBER");
+		_addFieldFunction(key, function, _numberFunctions);
 	}
 
 	/**
@@ -380,7 +312,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	protected void addNumberListFunction(
 		String key, Function<T, List<Number>> function) {
 
-		_addFieldFunction(key, function, "NUMBER_LIST");
+		_addFieldFunction(key, function, _numberListFunctions);
 	}
 
 	/**
@@ -412,7 +344,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	protected void addRelativeURLFunction(
 		String key, Function<T, String> function) {
 
-		_addFieldFunction(key, function, "RELATIVE_URL");
+		_addFieldFunction(key, function, _relativeURLFunctions);
 	}
 
 	/**
@@ -423,7 +355,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	 * @review
 	 */
 	protected void addStringFunction(String key, Function<T, String> function) {
-		_addFieldFunction(key, function, "STRING");
+		_addFieldFunction(key, function, _stringFunctions);
 	}
 
 	/**
@@ -436,7 +368,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	protected void addStringListFunction(
 		String key, Function<T, List<String>> function) {
 
-		_addFieldFunction(key, function, "STRING_LIST");
+		_addFieldFunction(key, function, _stringListFunctions);
 	}
 
 	/**
@@ -452,7 +384,6 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	}
 
 	protected final Map<String, BinaryFunction<T>> binaryFunctions;
-	protected final Map<String, List<FieldFunction<T, ?>>> fieldFunctions;
 	protected final List<NestedFieldFunction<T, ?>> nestedFieldFunctions;
 	protected final List<NestedListFieldFunction<T, ?>>
 		nestedListFieldFunctions;
@@ -653,10 +584,7 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 	}
 
 	private <S> void _addFieldFunction(
-		String key, Function<T, S> function, String mapKey) {
-
-		List<FieldFunction<T, ?>> list = fieldFunctions.computeIfAbsent(
-			mapKey, __ -> new ArrayList<>());
+		String key, Function<T, S> function, List<FieldFunction<T, S>> list) {
 
 		FieldFunction<T, S> fieldFunction = new FieldFunction<T, S>() {
 
@@ -675,4 +603,27 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		list.add(fieldFunction);
 	}
 
+	private final List<FieldFunction<T, String>>
+		_applicationRelativeURLFunctions = new ArrayList<>();
+	private final List<FieldFunction<T, BinaryFile>> _binaryFieldFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, Boolean>> _booleanFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, List<Boolean>>> _booleanListFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, String>> _linkFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, Function<AcceptLanguage, String>>>
+		_localizedStringFunctions = new ArrayList<>();
+	private final List<FieldFunction<T, Number>> _numberFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, List<Number>>> _numberListFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, String>> _relativeURLFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, String>> _stringFunctions =
+		new ArrayList<>();
+	private final List<FieldFunction<T, List<String>>> _stringListFunctions =
+		new ArrayList<>();
+
 }
\ No newline at end of file
@@ -22,8 +22,10 @@ import com.liferay.apio.architect.representor.Representor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -40,6 +42,15 @@ public class RepresentorImpl<T>
 		return _identifierFunction.apply(model);
 	}
 
+	@Override
+	public Optional<Date> getLastModifiedOptional(T model) {
+		return Optional.ofNullable(
+			_lastModifiedFunction
+		).map(
+			function -> function.apply(model)
+		);
+	}
+
 	@Override
 	public Stream<RelatedCollection<? extends Identifier>>
 		getRelatedCollections() {
@@ -53,6 +64,15 @@ public class RepresentorImpl<T>
 		);
 	}
 
+	@Override
+	public Optional<String> getVersionOptional(T model) {
+		return Optional.ofNullable(
+			_versionFunction
+		).map(
+			function -> function.apply(model)
+		);
+	}
+
 	@Override
 	public boolean isNested() {
 		return false;
@@ -109,6 +129,15 @@ public class RepresentorImpl<T>
 				return this;
 			}
 
+			@Override
+			public FirstStep<T> addLastModified(
+				Function<T, Date> lastModifiedFunction) {
+
+				baseRepresentor._setLastModifiedFunction(lastModifiedFunction);
+
+				return this;
+			}
+
 			@Override
 			public <U extends Identifier> FirstStep<T> addRelatedCollection(
 				String key, Class<U> itemIdentifierClass) {
@@ -118,6 +147,15 @@ public class RepresentorImpl<T>
 				return this;
 			}
 
+			@Override
+			public FirstStep<T> addVersion(
+				Function<T, String> versionFunction) {
+
+				baseRepresentor._setVersionFunction(versionFunction);
+
+				return this;
+			}
+
 			@Override
 			public FirstStepImpl getThis() {
 				return this;
@@ -163,8 +201,20 @@ public class RepresentorImpl<T>
 		_identifierFunction = identifierFunction;
 	}
 
+	private void _setLastModifiedFunction(
+		Function<T, Date> lastModifiedFunction) {
+
+		_lastModifiedFunction = lastModifiedFunction;
+	}
+
+	private void _setVersionFunction(Function<T, String> versionFunction) {
+		_versionFunction = versionFunction;
+	}
+
 	private Function<T, ?> _identifierFunction;
+	private Function<T, Date> _lastModifiedFunction;
 	private final List<RelatedCollection<?>> _relatedCollections;
 	private final Supplier<List<RelatedCollection<?>>> _supplier;
+	private Function<T, String> _versionFunction;
 
 }
\ No newline at end of file
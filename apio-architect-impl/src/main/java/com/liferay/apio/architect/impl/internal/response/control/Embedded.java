@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.impl.internal.response.control;
 
+import com.liferay.apio.architect.impl.internal.list.FunctionalList;
+
 import java.util.function.Predicate;
 
 /**
@@ -31,4 +33,21 @@ import java.util.function.Predicate;
  * @author Jorge Ferrer
  */
 public interface Embedded extends Predicate<String> {
+
+	/**
+	 * Returns {@code true} if the relation with the provided embedded path
+	 * elements must be embedded. By default, this method tests the dotted
+	 * representation of the path.
+	 *
+	 * @param  embeddedPathElements the embedded path elements of the relation
+	 * @return {@code true} if the relation must be embedded; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public default boolean isEmbedded(
+		FunctionalList<String> embeddedPathElements) {
+
+		return test(embeddedPathElements.dottedString());
+	}
+
 }
\ No newline at end of file
@@ -14,15 +14,20 @@
 
 package com.liferay.apio.architect.impl.internal.routes;
 
+import static com.liferay.apio.architect.impl.internal.routes.RoutesBuilderUtil.join;
 import static com.liferay.apio.architect.impl.internal.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasAddingPermissionFunction;
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.exception.PartialBatchCreationException;
+import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
@@ -34,19 +39,27 @@ import com.liferay.apio.architect.impl.internal.alias.ProvideFunction;
 import com.liferay.apio.architect.impl.internal.form.FormImpl;
 import com.liferay.apio.architect.impl.internal.operation.OperationImpl;
 import com.liferay.apio.architect.impl.internal.pagination.PageImpl;
+import com.liferay.apio.architect.impl.internal.pagination.PaginationImpl;
 import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.BadRequestException;
 
 /**
  * @author Alejandro Hernández
@@ -54,11 +67,27 @@ import java.util.function.Function;
 public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 
 	public CollectionRoutesImpl(BuilderImpl<T, S> builderImpl) {
+		_asyncGetPageFunction = builderImpl._asyncGetPageFunction;
+		_batchCreateItemFunction = builderImpl._batchCreateItemFunction;
 		_createItemFunction = builderImpl._createItemFunction;
 		_form = builderImpl._form;
 		_getPageFunction = builderImpl._getPageFunction;
 	}
 
+	@Override
+	public Optional<AsyncGetPageFunction<T>>
+		getAsyncGetPageFunctionOptional() {
+
+		return Optional.ofNullable(_asyncGetPageFunction);
+	}
+
+	@Override
+	public Optional<BatchCreateItemFunction<T>>
+		getBatchCreateItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchCreateItemFunction);
+	}
+
 	@Override
 	public Optional<CreateItemFunction<T>> getCreateItemFunctionOptional() {
 		return Optional.ofNullable(_createItemFunction);
@@ -88,6 +117,100 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			_identifierFunction = identifierFunction::apply;
 		}
 
+		@Override
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<Pagination, A, CompletionStage<PageItems<T>>>
+				throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_setAsyncGetPageFunction(
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, Credentials.class,
+					(pagination, a, credentials) -> throwableBiFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							items -> _createPage(
+								items, pagination, credentials))
+					).apply(
+						pagination, a
+					)));
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S> addAsyncGetter(
+			ThrowableFunction<Pagination, CompletionStage<PageItems<T>>>
+				throwableFunction) {
+
+			_setAsyncGetPageFunction(
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, Credentials.class,
+					(pagination, credentials) -> throwableFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							items -> _createPage(
+								items, pagination, credentials))
+					).apply(
+						pagination
+					)));
+
+			return this;
+		}
+
+		@Override
+		public <A, R> Builder<T, S> addBatchCreator(
+			ThrowableBiFunction<List<R>, A, List<T>> throwableBiFunction,
+			Class<A> aClass,
+			HasAddingPermissionFunction hasAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_hasBatchAddingPermissionFunction = hasAddingPermissionFunction;
+
+			Form<R> form = formBuilderFunction.apply(
+				new FormImpl.BuilderImpl<>(
+					Arrays.asList("c", _name), _identifierFunction));
+
+			_batchForm = form;
+
+			_batchCreateItemFunction = httpServletRequest -> body -> provide(
+				_provideFunction.apply(httpServletRequest), aClass,
+				Credentials.class,
+				(a, credentials) -> _createPage(
+					_createInChunks(
+						body, form, list -> throwableBiFunction.apply(list, a)),
+					credentials));
+
+			return this;
+		}
+
+		@Override
+		public <R> Builder<T, S> addBatchCreator(
+			ThrowableFunction<List<R>, List<T>> throwableFunction,
+			HasAddingPermissionFunction hasAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_hasBatchAddingPermissionFunction = hasAddingPermissionFunction;
+
+			Form<R> form = formBuilderFunction.apply(
+				new FormImpl.BuilderImpl<>(
+					Arrays.asList("c", _name), _identifierFunction));
+
+			_batchForm = form;
+
+			_batchCreateItemFunction = httpServletRequest -> body -> provide(
+				_provideFunction.apply(httpServletRequest), Credentials.class,
+				credentials -> _createPage(
+					_createInChunks(body, form, throwableFunction),
+					credentials));
+
+			return this;
+		}
+
 		@Override
 		public <A, R> Builder<T, S> addCreator(
 			ThrowableBiFunction<R, A, T> throwableBiFunction, Class<A> aClass,
@@ -354,30 +477,109 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			return new CollectionRoutesImpl<>(this);
 		}
 
-		private List<Operation> _getOperations(Credentials credentials) {
+		private <R> List<T> _createInChunks(
+				Body body, Form<R> form,
+				ThrowableFunction<List<R>, List<T>> throwableFunction)
+			throws Exception {
+
+			Optional<List<Body>> optional = body.getBodyMembersOptional();
+
+			List<Body> bodies = optional.orElseThrow(
+				() -> new BadRequestException("Body does not contain members"));
+
+			List<T> list = new ArrayList<>(bodies.size());
+
+			for (int i = 0; i < bodies.size(); i += _BATCH_CHUNK_SIZE) {
+				List<Body> chunk = bodies.subList(
+					i, Math.min(i + _BATCH_CHUNK_SIZE, bodies.size()));
+
+				try {
+					list.addAll(
+						throwableFunction.apply(
+							form.getList(Body.create(chunk))));
+				}
+				catch (Exception e) {
+					if (list.isEmpty()) {
+						throw e;
+					}
+
+					throw new PartialBatchCreationException(
+						list, bodies.size(), e);
+				}
+			}
+
+			return list;
+		}
+
+		private Page<T> _createPage(List<T> list, Credentials credentials) {
+			return new PageImpl<>(
+				_name, new PageItems<>(list, list.size()),
+				new PaginationImpl(Math.max(list.size(), 1), 1),
+				_getOperations(credentials));
+		}
+
+		private Page<T> _createPage(
+			PageItems<T> pageItems, Pagination pagination,
+			Credentials credentials) {
+
+			return new PageImpl<>(
+				_name, pageItems, pagination, _getOperations(credentials));
+		}
+
+		private Optional<Operation> _getOperationOptional(
+			Form form, HasAddingPermissionFunction hasAddingPermissionFunction,
+			String operationName, Credentials credentials) {
+
 			return Optional.ofNullable(
-				_form
+				form
 			).filter(
 				__ -> Try.fromFallible(
-					() -> _hasAddingPermissionFunction.apply(credentials)
+					() -> hasAddingPermissionFunction.apply(credentials)
 				).orElse(
 					false
 				)
 			).map(
-				form -> new OperationImpl(form, POST, _name + "/create")
-			).map(
-				Operation.class::cast
+				__ -> new OperationImpl(form, POST, _name + operationName)
+			);
+		}
+
+		private List<Operation> _getOperations(Credentials credentials) {
+			Stream<Optional<Operation>> stream = Stream.of(
+				_getOperationOptional(
+					_form, _hasAddingPermissionFunction, "/create",
+					credentials),
+				_getOperationOptional(
+					_batchForm, _hasBatchAddingPermissionFunction, "/batch",
+					credentials));
+
+			return stream.filter(
+				Optional::isPresent
 			).map(
-				Collections::singletonList
-			).orElseGet(
-				Collections::emptyList
+				Optional::get
+			).collect(
+				Collectors.toList()
 			);
 		}
 
+		private void _setAsyncGetPageFunction(
+			AsyncGetPageFunction<T> asyncGetPageFunction) {
+
+			_asyncGetPageFunction = asyncGetPageFunction;
+
+			_getPageFunction = httpServletRequest -> join(
+				asyncGetPageFunction.apply(httpServletRequest));
+		}
+
+		private static final int _BATCH_CHUNK_SIZE = 100;
+
+		private AsyncGetPageFunction<T> _asyncGetPageFunction;
+		private BatchCreateItemFunction<T> _batchCreateItemFunction;
+		private Form _batchForm;
 		private CreateItemFunction<T> _createItemFunction;
 		private Form _form;
 		private GetPageFunction<T> _getPageFunction;
 		private HasAddingPermissionFunction _hasAddingPermissionFunction;
+		private HasAddingPermissionFunction _hasBatchAddingPermissionFunction;
 		private final IdentifierFunction<?> _identifierFunction;
 		private final String _name;
 		private final Consumer<String> _neededProviderConsumer;
@@ -385,6 +587,8 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 
 	}
 
+	private final AsyncGetPageFunction<T> _asyncGetPageFunction;
+	private final BatchCreateItemFunction<T> _batchCreateItemFunction;
 	private final CreateItemFunction<T> _createItemFunction;
 	private final Form _form;
 	private final GetPageFunction<T> _getPageFunction;
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.impl.internal.routes;
 
+import static com.liferay.apio.architect.impl.internal.routes.RoutesBuilderUtil.join;
 import static com.liferay.apio.architect.impl.internal.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.impl.internal.routes.RoutesBuilderUtil.provideConsumer;
 import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
@@ -21,6 +22,8 @@ import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
@@ -46,12 +49,17 @@ import com.liferay.apio.architect.impl.internal.operation.OperationImpl;
 import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -61,12 +69,26 @@ import java.util.function.Function;
 public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 	public ItemRoutesImpl(BuilderImpl<T, S> builderImpl) {
+		_asyncGetItemFunction = builderImpl._asyncGetItemFunction;
+		_batchGetItemFunction = builderImpl._batchGetItemFunction;
 		_deleteItemConsumer = builderImpl._deleteItemConsumer;
 		_form = builderImpl._form;
 		_singleModelFunction = builderImpl._singleModelFunction;
 		_updateItemFunction = builderImpl._updateItemFunction;
 	}
 
+	@Override
+	public Optional<AsyncGetItemFunction<T, S>> getAsyncItemFunctionOptional() {
+		return Optional.ofNullable(_asyncGetItemFunction);
+	}
+
+	@Override
+	public Optional<BatchGetItemFunction<T, S>>
+		getBatchItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchGetItemFunction);
+	}
+
 	@Override
 	public Optional<DeleteItemConsumer<S>> getDeleteConsumerOptional() {
 		return Optional.ofNullable(_deleteItemConsumer);
@@ -110,6 +132,147 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_identifierFunction = identifierFunction::apply;
 		}
 
+		@Override
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<S, A, CompletionStage<T>> throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_setAsyncGetItemFunction(
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass,
+					Credentials.class,
+					(a, credentials) -> throwableBiFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							t -> _createSingleModel(t, s, credentials))
+					).apply(
+						s, a
+					)));
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S> addAsyncGetter(
+			ThrowableFunction<S, CompletionStage<T>> throwableFunction) {
+
+			_setAsyncGetItemFunction(
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Credentials.class,
+					credentials -> throwableFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							t -> _createSingleModel(t, s, credentials))
+					).apply(
+						s
+					)));
+
+			return this;
+		}
+
+		@Override
+		public <A> Builder<T, S> addBatchGetter(
+			ThrowableBiFunction<Collection<S>, A, Map<S, T>>
+				throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> collection -> provide(
+				_provideFunction.apply(httpServletRequest), aClass,
+				Credentials.class,
+				(a, credentials) -> throwableBiFunction.andThen(
+					map -> _getSingleModels(map, credentials)
+				).apply(
+					collection, a
+				));
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S> addBatchGetter(
+			ThrowableFunction<Collection<S>, Map<S, T>> throwableFunction) {
+
+			_batchGetItemFunction = httpServletRequest -> collection -> provide(
+				_provideFunction.apply(httpServletRequest), Credentials.class,
+				credentials -> throwableFunction.andThen(
+					map -> _getSingleModels(map, credentials)
+				).apply(
+					collection
+				));
+
+			return this;
+		}
+
+		@Override
+		public <A, B, C, D> Builder<T, S> addBatchGetter(
+			ThrowablePentaFunction<Collection<S>, A, B, C, D, Map<S, T>>
+				throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> collection -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, dClass, Credentials.class,
+				(a, b, c, d, credentials) -> throwablePentaFunction.andThen(
+					map -> _getSingleModels(map, credentials)
+				).apply(
+					collection, a, b, c, d
+				));
+
+			return this;
+		}
+
+		@Override
+		public <A, B, C> Builder<T, S> addBatchGetter(
+			ThrowableTetraFunction<Collection<S>, A, B, C, Map<S, T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> collection -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, Credentials.class,
+				(a, b, c, credentials) -> throwableTetraFunction.andThen(
+					map -> _getSingleModels(map, credentials)
+				).apply(
+					collection, a, b, c
+				));
+
+			return this;
+		}
+
+		@Override
+		public <A, B> Builder<T, S> addBatchGetter(
+			ThrowableTriFunction<Collection<S>, A, B, Map<S, T>>
+				throwableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_batchGetItemFunction = httpServletRequest -> collection -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				Credentials.class,
+				(a, b, credentials) -> throwableTriFunction.andThen(
+					map -> _getSingleModels(map, credentials)
+				).apply(
+					collection, a, b
+				));
+
+			return this;
+		}
+
 		@Override
 		public <A> Builder<T, S> addGetter(
 			ThrowableBiFunction<S, A, T> throwableBiFunction, Class<A> aClass) {
@@ -455,6 +618,13 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return new ItemRoutesImpl<>(this);
 		}
 
+		private SingleModel<T> _createSingleModel(
+			T t, S s, Credentials credentials) {
+
+			return new SingleModelImpl<>(
+				t, _name, _getOperations(credentials, s));
+		}
+
 		private List<Operation> _getOperations(
 			Credentials credentials, S identifier) {
 
@@ -489,6 +659,36 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return operations;
 		}
 
+		private Map<S, SingleModel<T>> _getSingleModels(
+			Map<S, T> map, Credentials credentials) {
+
+			Map<S, SingleModel<T>> singleModels = new LinkedHashMap<>(
+				map.size());
+
+			map.forEach(
+				(s, t) -> singleModels.put(
+					s,
+					new SingleModelImpl<>(
+						t, _name, _getOperations(credentials, s))));
+
+			return singleModels;
+		}
+
+		private void _setAsyncGetItemFunction(
+			AsyncGetItemFunction<T, S> asyncGetItemFunction) {
+
+			_asyncGetItemFunction = asyncGetItemFunction;
+
+			_singleModelFunction = httpServletRequest -> s -> join(
+				asyncGetItemFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				));
+		}
+
+		private AsyncGetItemFunction<T, S> _asyncGetItemFunction;
+		private BatchGetItemFunction<T, S> _batchGetItemFunction;
 		private DeleteItemConsumer<S> _deleteItemConsumer;
 		private Form _form;
 		private HasRemovePermissionFunction<S> _hasRemovePermissionFunction;
@@ -502,6 +702,8 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 	}
 
+	private final AsyncGetItemFunction<T, S> _asyncGetItemFunction;
+	private final BatchGetItemFunction<T, S> _batchGetItemFunction;
 	private final DeleteItemConsumer<S> _deleteItemConsumer;
 	private final Form _form;
 	private final GetItemFunction<T, S> _singleModelFunction;
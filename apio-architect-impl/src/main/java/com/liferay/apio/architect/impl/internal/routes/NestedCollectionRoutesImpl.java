@@ -21,6 +21,7 @@ import static java.lang.String.join;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasNestedAddingPermissionFunction;
@@ -39,6 +40,7 @@ import com.liferay.apio.architect.impl.internal.operation.OperationImpl;
 import com.liferay.apio.architect.impl.internal.pagination.PageImpl;
 import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
@@ -48,6 +50,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -58,11 +61,19 @@ public class NestedCollectionRoutesImpl<T, S, U>
 	implements NestedCollectionRoutes<T, S, U> {
 
 	public NestedCollectionRoutesImpl(BuilderImpl<T, S, U> builderImpl) {
+		_asyncNestedGetPageFunction = builderImpl._asyncNestedGetPageFunction;
 		_form = builderImpl._form;
 		_nestedCreateItemFunction = builderImpl._nestedCreateItemFunction;
 		_nestedGetPageFunction = builderImpl._nestedGetPageFunction;
 	}
 
+	@Override
+	public Optional<AsyncNestedGetPageFunction<T, U>>
+		getAsyncNestedGetPageFunctionOptional() {
+
+		return Optional.ofNullable(_asyncNestedGetPageFunction);
+	}
+
 	@Override
 	public Optional<Form> getFormOptional() {
 		return Optional.ofNullable(_form);
@@ -97,6 +108,51 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			_identifierFunction = identifierFunction::apply;
 		}
 
+		@Override
+		public Builder<T, S, U> addAsyncGetter(
+			ThrowableBiFunction<Pagination, U, CompletionStage<PageItems<T>>>
+				biFunction) {
+
+			_setAsyncNestedGetPageFunction(
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, Credentials.class,
+					(pagination, credentials) -> biFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							items -> _createPage(
+								items, pagination, path, credentials,
+								identifier))
+					).apply(
+						pagination, identifier
+					)));
+
+			return this;
+		}
+
+		@Override
+		public <A> Builder<T, S, U> addAsyncGetter(
+			ThrowableTriFunction
+				<Pagination, U, A, CompletionStage<PageItems<T>>> triFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_setAsyncNestedGetPageFunction(
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, Credentials.class,
+					(pagination, a, credentials) -> triFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							items -> _createPage(
+								items, pagination, path, credentials,
+								identifier))
+					).apply(
+						pagination, identifier, a
+					)));
+
+			return this;
+		}
+
 		@Override
 		public <R> Builder<T, S, U> addCreator(
 			ThrowableBiFunction<U, R, T> throwableBiFunction,
@@ -390,6 +446,15 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			return new NestedCollectionRoutesImpl<>(this);
 		}
 
+		private Page<T> _createPage(
+			PageItems<T> pageItems, Pagination pagination, Path path,
+			Credentials credentials, U identifier) {
+
+			return new PageImpl<>(
+				_nestedName, pageItems, pagination, path,
+				_getOperations(credentials, identifier));
+		}
+
 		private List<Operation> _getOperations(
 			Credentials credentials, U identifier) {
 
@@ -414,6 +479,24 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			);
 		}
 
+		private void _setAsyncNestedGetPageFunction(
+			AsyncNestedGetPageFunction<T, U> asyncNestedGetPageFunction) {
+
+			_asyncNestedGetPageFunction = asyncNestedGetPageFunction;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier ->
+					RoutesBuilderUtil.join(
+						asyncNestedGetPageFunction.apply(
+							httpServletRequest
+						).apply(
+							path
+						).apply(
+							identifier
+						));
+		}
+
+		private AsyncNestedGetPageFunction<T, U> _asyncNestedGetPageFunction;
 		private Form _form;
 		private ThrowableBiFunction<Credentials, U, Boolean>
 			_hasNestedAddingPermissionFunction;
@@ -427,6 +510,7 @@ public class NestedCollectionRoutesImpl<T, S, U>
 
 	}
 
+	private final AsyncNestedGetPageFunction<T, U> _asyncNestedGetPageFunction;
 	private final Form _form;
 	private final NestedCreateItemFunction<T, U> _nestedCreateItemFunction;
 	private final NestedGetPageFunction<T, U> _nestedGetPageFunction;
@@ -28,6 +28,9 @@ import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.functional.Try;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 /**
@@ -41,6 +44,22 @@ import java.util.function.Function;
  */
 public class RoutesBuilderUtil {
 
+	/**
+	 * Waits for the {@code CompletionStage} contained in the {@code Try} and
+	 * returns its result. If the {@code CompletionStage} completes
+	 * exceptionally, this method returns a {@code Failure} with the exception
+	 * that caused it.
+	 *
+	 * @param  completionStageTry the {@code Try} with the completion stage
+	 * @return the result of the completion stage
+	 * @review
+	 */
+	public static <T> Try<T> join(
+		Try<CompletionStage<T>> completionStageTry) {
+
+		return completionStageTry.map(RoutesBuilderUtil::_join);
+	}
+
 	/**
 	 * Returns the result of applying instances of the six classes requested
 	 * from the HTTP request to the {@code function}.
@@ -255,6 +274,26 @@ public class RoutesBuilderUtil {
 		consumer.accept(_provideClass(provideFunction, aClass));
 	}
 
+	private static <T> T _join(CompletionStage<T> completionStage)
+		throws Exception {
+
+		CompletableFuture<T> completableFuture =
+			completionStage.toCompletableFuture();
+
+		try {
+			return completableFuture.join();
+		}
+		catch (CompletionException ce) {
+			Throwable throwable = ce.getCause();
+
+			if (throwable instanceof Exception) {
+				throw (Exception)throwable;
+			}
+
+			throw ce;
+		}
+	}
+
 	private static <T> T _provideClass(
 		Function<Class<?>, ?> provideFunction, Class<T> clazz) {
 
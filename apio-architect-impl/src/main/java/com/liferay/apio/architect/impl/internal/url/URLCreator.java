@@ -14,16 +14,12 @@
 
 package com.liferay.apio.architect.impl.internal.url;
 
-import static java.lang.String.join;
-
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.impl.internal.pagination.PageType;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.uri.Path;
 
-import java.net.URI;
-
-import javax.ws.rs.core.UriBuilder;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Manages the creation of URLs, and has all their necessary information.
@@ -51,13 +47,7 @@ public final class URLCreator {
 			return null;
 		}
 
-		URI uri = UriBuilder.fromUri(
-			applicationURL.get()
-		).path(
-			relativeURL
-		).build();
-
-		return uri.toString();
+		return _createURL(applicationURL.get(), relativeURL);
 	}
 
 	/**
@@ -75,13 +65,7 @@ public final class URLCreator {
 			return null;
 		}
 
-		URI uri = UriBuilder.fromUri(
-			serverURL.get()
-		).path(
-			relativeURL
-		).build();
-
-		return uri.toString();
+		return _createURL(serverURL.get(), relativeURL);
 	}
 
 	/**
@@ -95,8 +79,48 @@ public final class URLCreator {
 	public static String createBinaryURL(
 		ApplicationURL applicationURL, String binaryId, Path path) {
 
-		return createAbsoluteURL(
-			applicationURL, join("/", "b", path.asURI(), binaryId));
+		return _createURL(applicationURL.get(), "b", path.asURI(), binaryId);
+	}
+
+	/**
+	 * Returns the URL for a collection page requested with cursor pagination.
+	 * The cursor is added as the {@code after} query parameter. An empty
+	 * cursor adds an empty {@code after} parameter, which requests the first
+	 * page in cursor mode.
+	 *
+	 * @param  collectionURL the collection URL
+	 * @param  cursor the page's cursor, an empty string for the first page,
+	 *         or {@code null} to omit the {@code after} parameter
+	 * @param  itemsPerPage the number of items per page
+	 * @return the collection page URL
+	 * @review
+	 */
+	public static String createCollectionCursorPageURL(
+		String collectionURL, String cursor, int itemsPerPage) {
+
+		StringBuilder sb = new StringBuilder(collectionURL.length() + 48);
+
+		sb.append(collectionURL);
+
+		if (collectionURL.indexOf('?') == -1) {
+			sb.append('?');
+		}
+		else {
+			sb.append('&');
+		}
+
+		if (cursor != null) {
+			sb.append("after=");
+
+			_appendEncoded(sb, cursor, _QUERY_VALUE_ALLOWED_SYMBOLS);
+
+			sb.append('&');
+		}
+
+		sb.append("per_page=");
+		sb.append(itemsPerPage);
+
+		return sb.toString();
 	}
 
 	/**
@@ -109,14 +133,23 @@ public final class URLCreator {
 	public static String createCollectionPageURL(
 		String collectionURL, Page page, PageType pageType) {
 
-		return UriBuilder.fromUri(
-			collectionURL
-		).queryParam(
-			"page", pageType.getPageNumber(page)
-		).queryParam(
-			"per_page", page.getItemsPerPage()
-		).build(
-		).toString();
+		StringBuilder sb = new StringBuilder(collectionURL.length() + 24);
+
+		sb.append(collectionURL);
+
+		if (collectionURL.indexOf('?') == -1) {
+			sb.append('?');
+		}
+		else {
+			sb.append('&');
+		}
+
+		sb.append("page=");
+		sb.append(pageType.getPageNumber(page));
+		sb.append("&per_page=");
+		sb.append(page.getItemsPerPage());
+
+		return sb.toString();
 	}
 
 	/**
@@ -129,7 +162,7 @@ public final class URLCreator {
 	public static String createCollectionURL(
 		ApplicationURL applicationURL, String name) {
 
-		return createAbsoluteURL(applicationURL, "/p/" + name);
+		return _createURL(applicationURL.get(), "p", name);
 	}
 
 	/**
@@ -142,7 +175,7 @@ public final class URLCreator {
 	public static String createFormURL(
 		ApplicationURL applicationURL, Form form) {
 
-		return createAbsoluteURL(applicationURL, join("/", "f", form.getId()));
+		return _createURL(applicationURL.get(), "f", form.getId());
 	}
 
 	/**
@@ -156,8 +189,7 @@ public final class URLCreator {
 	public static String createNestedCollectionURL(
 		ApplicationURL applicationURL, Path path, String name) {
 
-		return createAbsoluteURL(
-			applicationURL, join("/", "p", path.asURI(), name));
+		return _createURL(applicationURL.get(), "p", path.asURI(), name);
 	}
 
 	/**
@@ -171,7 +203,7 @@ public final class URLCreator {
 	public static String createSingleURL(
 		ApplicationURL applicationURL, Path path) {
 
-		return createAbsoluteURL(applicationURL, "/p/" + path.asURI());
+		return _createURL(applicationURL.get(), "p", path.asURI());
 	}
 
 	/**
@@ -199,4 +231,145 @@ public final class URLCreator {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Appends a string to a {@code StringBuilder}, percent-encoding every
+	 * character that isn't alphanumeric or one of the allowed symbols. If
+	 * {@code %} is an allowed symbol, already encoded octets are kept as they
+	 * are.
+	 */
+	private static void _appendEncoded(
+		StringBuilder sb, String string, String allowedSymbols) {
+
+		int length = string.length();
+
+		int index = 0;
+
+		while ((index < length) && _isAllowed(string, index, allowedSymbols)) {
+			index++;
+		}
+
+		if (index == length) {
+			sb.append(string);
+
+			return;
+		}
+
+		sb.append(string, 0, index);
+
+		while (index < length) {
+			char character = string.charAt(index);
+
+			if (_isAllowed(string, index, allowedSymbols)) {
+				sb.append(character);
+
+				index++;
+
+				continue;
+			}
+
+			int end = index + 1;
+
+			if (Character.isHighSurrogate(character) && (end < length) &&
+				Character.isLowSurrogate(string.charAt(end))) {
+
+				end++;
+			}
+
+			String characters = string.substring(index, end);
+
+			for (byte octet : characters.getBytes(StandardCharsets.UTF_8)) {
+				sb.append('%');
+				sb.append(_HEX_DIGITS[(octet >> 4) & 0xF]);
+				sb.append(_HEX_DIGITS[octet & 0xF]);
+			}
+
+			index = end;
+		}
+	}
+
+	/**
+	 * Creates a URL by appending a list of paths to a base URL with a single
+	 * pre-sized {@code StringBuilder}. Only one slash is written between two
+	 * consecutive parts, and {@code null} or empty paths are skipped.
+	 */
+	private static String _createURL(String url, String... paths) {
+		int capacity = url.length();
+
+		for (String path : paths) {
+			if (path != null) {
+				capacity += path.length() + 1;
+			}
+		}
+
+		StringBuilder sb = new StringBuilder(capacity);
+
+		sb.append(url);
+
+		for (String path : paths) {
+			if ((path == null) || path.isEmpty()) {
+				continue;
+			}
+
+			boolean endsWithSlash =
+				(sb.length() > 0) && (sb.charAt(sb.length() - 1) == '/');
+			boolean startsWithSlash = path.charAt(0) == '/';
+
+			if (endsWithSlash && startsWithSlash) {
+				_appendEncoded(
+					sb, path.substring(1), _PATH_ALLOWED_SYMBOLS);
+			}
+			else {
+				if (!endsWithSlash && !startsWithSlash) {
+					sb.append('/');
+				}
+
+				_appendEncoded(sb, path, _PATH_ALLOWED_SYMBOLS);
+			}
+		}
+
+		return sb.toString();
+	}
+
+	private static boolean _isAllowed(
+		String string, int index, String allowedSymbols) {
+
+		char character = string.charAt(index);
+
+		if (((character >= 'a') && (character <= 'z')) ||
+			((character >= 'A') && (character <= 'Z')) ||
+			((character >= '0') && (character <= '9'))) {
+
+			return true;
+		}
+
+		if (allowedSymbols.indexOf(character) == -1) {
+			return false;
+		}
+
+		if (character == '%') {
+			return (index + 2 < string.length()) &&
+				   _isHexDigit(string.charAt(index + 1)) &&
+				   _isHexDigit(string.charAt(index + 2));
+		}
+
+		return true;
+	}
+
+	private static boolean _isHexDigit(char character) {
+		if (((character >= '0') && (character <= '9')) ||
+			((character >= 'a') && (character <= 'f')) ||
+			((character >= 'A') && (character <= 'F'))) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final char[] _HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private static final String _PATH_ALLOWED_SYMBOLS = "-._~!$&'()*+,;=:@/%";
+
+	private static final String _QUERY_VALUE_ALLOWED_SYMBOLS = "-._~";
+
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.version;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Provides utility functions for computing the version of single models and
+ * pages, and the last modified date of single models, by using the functions
+ * provided in their {@link Representor}.
+ *
+ * <p>
+ * Pages don't have a last modified date, since the most recent date of their
+ * items doesn't change when an item is removed from the page.
+ * </p>
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class VersionUtil {
+
+	/**
+	 * Creates a weak {@code EntityTag} from a version and the rest of the
+	 * information that changes a representation (URI, accepted media types,
+	 * languages...).
+	 *
+	 * @param  version the version
+	 * @param  variants the information that changes the representation
+	 * @return the weak entity tag
+	 * @review
+	 */
+	public static EntityTag createEntityTag(
+		String version, String... variants) {
+
+		StringJoiner stringJoiner = new StringJoiner("\n");
+
+		stringJoiner.add(version);
+
+		for (String variant : variants) {
+			stringJoiner.add(String.valueOf(variant));
+		}
+
+		String string = stringJoiner.toString();
+
+		UUID uuid = UUID.nameUUIDFromBytes(string.getBytes(UTF_8));
+
+		return new EntityTag(uuid.toString(), true);
+	}
+
+	/**
+	 * Returns the single model's last modified date, if its representor has a
+	 * last modified function. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  singleModel the single model
+	 * @param  representor the single model's representor
+	 * @return the single model's last modified date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public static <T> Optional<Date> getLastModifiedOptional(
+		SingleModel<T> singleModel, Representor<T> representor) {
+
+		return representor.getLastModifiedOptional(singleModel.getModel());
+	}
+
+	/**
+	 * Returns the page's version, if every item in the page has a version.
+	 * Returns {@code Optional#empty()} otherwise. The version includes the
+	 * page's pagination information and the identifier and version of each
+	 * item, so adding, removing or updating any item changes it.
+	 *
+	 * @param  page the page
+	 * @param  representor the representor of the page's items
+	 * @return the page's version, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public static <T> Optional<String> getVersionOptional(
+		Page<T> page, Representor<T> representor) {
+
+		StringJoiner stringJoiner = new StringJoiner(",");
+
+		stringJoiner.add(page.getResourceName());
+		stringJoiner.add(String.valueOf(page.getPageNumber()));
+		stringJoiner.add(String.valueOf(page.getItemsPerPage()));
+		stringJoiner.add(String.valueOf(page.getTotalCountOptional()));
+		stringJoiner.add(String.valueOf(page.getNextCursorOptional()));
+
+		for (T item : page.getItems()) {
+			Optional<String> optional = representor.getVersionOptional(item);
+
+			if (!optional.isPresent()) {
+				return Optional.empty();
+			}
+
+			stringJoiner.add(
+				representor.getIdentifier(item) + ":" + optional.get());
+		}
+
+		return Optional.of(stringJoiner.toString());
+	}
+
+	/**
+	 * Returns the single model's version, if its representor has a version
+	 * function. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  singleModel the single model
+	 * @param  representor the single model's representor
+	 * @return the single model's version, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public static <T> Optional<String> getVersionOptional(
+		SingleModel<T> singleModel, Representor<T> representor) {
+
+		return representor.getVersionOptional(singleModel.getModel());
+	}
+
+	private VersionUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
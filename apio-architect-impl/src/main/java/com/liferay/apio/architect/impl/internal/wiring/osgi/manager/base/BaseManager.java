@@ -54,15 +54,15 @@ public abstract class BaseManager<T, U> {
 			bundleContext, _managedClass, null, this::emit,
 			new DefaultServiceTrackerCustomizer<>(bundleContext),
 			new SingleValueServiceTrackerBucketFactory<>(),
-			new ClearCacheServiceTrackerMapListener<>());
+			new ClearCacheServiceTrackerMapListener<>(_managedClass));
 
-		ManagerCache.INSTANCE.clear();
+		ManagerCache.INSTANCE.clear(_managedClass);
 	}
 
 	@Deactivate
 	public void deactivate() {
 		serviceTrackerMap.close();
-		ManagerCache.INSTANCE.clear();
+		ManagerCache.INSTANCE.clear(_managedClass);
 	}
 
 	public void forEachService(BiConsumer<U, T> biConsumer) {
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
 
 import com.liferay.apio.architect.identifier.Identifier;
@@ -24,10 +25,17 @@ import com.liferay.apio.architect.impl.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.impl.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.alias.EmptyFunction;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.util.GenericUtil;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.representor.Representable;
 import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.router.CollectionRouter;
+import com.liferay.apio.architect.router.ItemRouter;
+import com.liferay.apio.architect.router.NestedCollectionRouter;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,8 +44,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Variant;
@@ -51,6 +67,15 @@ import javax.ws.rs.core.Variant.VariantListBuilder;
  * #INSTANCE}.
  * </p>
  *
+ * <p>
+ * Every cached value is an immutable snapshot that is read without locking.
+ * When a value is missing, only one thread computes it (the rest wait for the
+ * result), and every value filled by that computation is published at once
+ * when it finishes. A computation that overlaps with a call to {@link
+ * #clear(Class)} or {@link #clear()} is returned to its caller, but isn't
+ * published.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ManagerCache {
@@ -64,28 +89,47 @@ public class ManagerCache {
 	 * Clears the cache.
 	 */
 	public void clear() {
-		_collectionRoutes = null;
-		_documentationMessageMappers = null;
-		_errorMessageMappers = null;
-		_formMessageMappers = null;
-		_identifierClasses = null;
-		_itemRoutes = null;
-		_names = null;
-		_nestedCollectionRoutes = null;
-		_pageMessageMappers = null;
-		_representors = null;
-		_rootResourceNames = null;
-		_singleModelMessageMappers = null;
+		_generation.incrementAndGet();
+
+		_cacheEntries.forEach(CacheEntry::clear);
+
+		_renderedDocumentKeys.clear();
+		_renderedDocuments.clear();
+
+		GenericUtil.clearTypeArguments();
 	}
 
-	public Map<String, CollectionRoutes> getCollectionRoutes(
-		EmptyFunction computeEmptyFunction) {
+	/**
+	 * Clears the cached values that depend on the services of the managed
+	 * class. For example, a change in an {@code ItemRouter} clears the item,
+	 * collection, and nested collection routes, but keeps the representors
+	 * and message mappers. The rendered documents are always cleared, since
+	 * they can depend on any service, and so are the type arguments cached by
+	 * {@link GenericUtil}, since they can hold the classes of any bundle.
+	 *
+	 * @param  managedClass the class of the services that changed
+	 * @review
+	 */
+	public void clear(Class<?> managedClass) {
+		_generation.incrementAndGet();
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
+		List<CacheEntry<?, ?>> cacheEntries = _dependentCacheEntries.get(
+			managedClass);
+
+		if (cacheEntries != null) {
+			cacheEntries.forEach(CacheEntry::clear);
 		}
 
-		return _collectionRoutes;
+		_renderedDocumentKeys.clear();
+		_renderedDocuments.clear();
+
+		GenericUtil.clearTypeArguments();
+	}
+
+	public Map<String, CollectionRoutes> getCollectionRoutes(
+		EmptyFunction computeEmptyFunction) {
+
+		return _collectionRoutes.get(computeEmptyFunction);
 	}
 
 	/**
@@ -99,14 +143,11 @@ public class ManagerCache {
 	public <T, S> Optional<CollectionRoutes<T, S>> getCollectionRoutesOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, CollectionRoutes> collectionRoutes = _collectionRoutes.get(
+			computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_collectionRoutes
-		).map(
-			map -> map.get(name)
+			collectionRoutes.get(name)
 		).map(
 			Unsafe::unsafeCast
 		);
@@ -117,6 +158,7 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the documentation message mapper, if present; {@code
@@ -124,16 +166,14 @@ public class ManagerCache {
 	 */
 	public Optional<DocumentationMessageMapper>
 		getDocumentationMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_documentationMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, HttpHeaders httpHeaders,
+			EmptyFunction computeEmptyFunction) {
 
-		Optional<DocumentationMessageMapper> optional =
-			_getMessageMapperOptional(request, _documentationMessageMappers);
+		MessageMapperSelector<DocumentationMessageMapper>
+			messageMapperSelector = _documentationMessageMappers.get(
+				computeEmptyFunction);
 
-		return optional.map(Unsafe::unsafeCast);
+		return messageMapperSelector.select(request, httpHeaders);
 	}
 
 	/**
@@ -141,22 +181,20 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the error message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_errorMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
-		Optional<ErrorMessageMapper> optional = _getMessageMapperOptional(
-			request, _errorMessageMappers);
+		MessageMapperSelector<ErrorMessageMapper> messageMapperSelector =
+			_errorMessageMappers.get(computeEmptyFunction);
 
-		return optional.map(Unsafe::unsafeCast);
+		return messageMapperSelector.select(request, httpHeaders);
 	}
 
 	/**
@@ -164,22 +202,20 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the form message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public Optional<FormMessageMapper> getFormMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_formMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
-		Optional<FormMessageMapper> optional = _getMessageMapperOptional(
-			request, _formMessageMappers);
+		MessageMapperSelector<FormMessageMapper> messageMapperSelector =
+			_formMessageMappers.get(computeEmptyFunction);
 
-		return optional.map(Unsafe::unsafeCast);
+		return messageMapperSelector.select(request, httpHeaders);
 	}
 
 	/**
@@ -193,14 +229,11 @@ public class ManagerCache {
 	public <T extends Identifier> Optional<Class<T>> getIdentifierClassOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_identifierClasses == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, Class<Identifier>> identifierClasses =
+			_identifierClasses.get(computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_identifierClasses
-		).map(
-			map -> map.get(name)
+			identifierClasses.get(name)
 		).map(
 			Unsafe::unsafeCast
 		);
@@ -209,11 +242,7 @@ public class ManagerCache {
 	public Map<String, ItemRoutes> getItemRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _itemRoutes;
+		return _itemRoutes.get(computeEmptyFunction);
 	}
 
 	/**
@@ -227,14 +256,11 @@ public class ManagerCache {
 	public <T, S> Optional<ItemRoutes<T, S>> getItemRoutesOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, ItemRoutes> itemRoutes = _itemRoutes.get(
+			computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_itemRoutes
-		).map(
-			map -> map.get(name)
+			itemRoutes.get(name)
 		).map(
 			Unsafe::unsafeCast
 		);
@@ -252,13 +278,9 @@ public class ManagerCache {
 	public Optional<String> getNameOptional(
 		String className, EmptyFunction computeEmptyFunction) {
 
-		if (_names == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, String> names = _names.get(computeEmptyFunction);
 
-		Optional<Map<String, String>> optional = getNamesOptional();
-
-		return optional.map(map -> map.get(className));
+		return Optional.ofNullable(names.get(className));
 	}
 
 	/**
@@ -271,17 +293,13 @@ public class ManagerCache {
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<Map<String, String>> getNamesOptional() {
-		return Optional.ofNullable(_names);
+		return Optional.ofNullable(_names.getCurrent());
 	}
 
 	public Map<String, NestedCollectionRoutes> getNestedCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _nestedCollectionRoutes;
+		return _nestedCollectionRoutes.get(computeEmptyFunction);
 	}
 
 	/**
@@ -299,14 +317,11 @@ public class ManagerCache {
 			String name, String nestedName,
 			EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, NestedCollectionRoutes> nestedCollectionRoutes =
+			_nestedCollectionRoutes.get(computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_nestedCollectionRoutes
-		).map(
-			map -> map.get(name + "-" + nestedName)
+			nestedCollectionRoutes.get(name + "-" + nestedName)
 		).map(
 			Unsafe::unsafeCast
 		);
@@ -317,32 +332,128 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the page message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
-		if (_pageMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		MessageMapperSelector<PageMessageMapper> messageMapperSelector =
+			_pageMessageMappers.get(computeEmptyFunction);
 
-		Optional<PageMessageMapper> optional = _getMessageMapperOptional(
-			request, _pageMessageMappers);
+		Optional<PageMessageMapper> optional = messageMapperSelector.select(
+			request, httpHeaders);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
-	public Map<String, Representor> getRepresentorMap(
-		EmptyFunction computeEmptyFunction) {
+	/**
+	 * Returns the path identifier mapper for the resource name. The mapper is
+	 * resolved with the provided function the first time it's requested, and
+	 * cached until the path identifier mappers or the representables change.
+	 * A mapper resolved while the cache is being cleared is returned to its
+	 * caller, but isn't cached.
+	 *
+	 * <p>
+	 * Only found mappers are cached. Since resource names come from the
+	 * request URL, unknown names are resolved again on every request, so they
+	 * can't make the cache grow beyond the registered resources.
+	 * </p>
+	 *
+	 * @param  name the resource name
+	 * @param  function the function that resolves the resource name's path
+	 *         identifier mapper
+	 * @return the path identifier mapper, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<PathIdentifierMapper> getPathIdentifierMapperOptional(
+		String name,
+		Function<String, Optional<PathIdentifierMapper>> function) {
+
+		Map<String, PathIdentifierMapper> pathIdentifierMappers =
+			_pathIdentifierMappers.get();
+
+		PathIdentifierMapper pathIdentifierMapper = pathIdentifierMappers.get(
+			name);
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
+		if (pathIdentifierMapper != null) {
+			return Optional.of(pathIdentifierMapper);
 		}
 
-		return _representors;
+		long generation = _generation.get();
+
+		Optional<PathIdentifierMapper> optional = function.apply(name);
+
+		if (!optional.isPresent() || (generation != _generation.get())) {
+			return optional;
+		}
+
+		pathIdentifierMapper = optional.get();
+
+		pathIdentifierMappers.putIfAbsent(name, pathIdentifierMapper);
+
+		if (generation != _generation.get()) {
+			pathIdentifierMappers.remove(name, pathIdentifierMapper);
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Returns the rendered document cached for the key. If the document isn't
+	 * cached, it's rendered with the provided supplier and cached, unless the
+	 * cache is cleared while rendering it. When the cache exceeds the maximum
+	 * number of documents, the oldest cached documents are evicted, so keys
+	 * derived from arbitrary request values can't fill it up.
+	 *
+	 * <p>
+	 * This cache is meant for documents that only change when the services
+	 * change (the API documentation, the home document...), so the key must
+	 * contain all the request information the document depends on.
+	 * </p>
+	 *
+	 * @param  key the document's key
+	 * @param  supplier the supplier that renders the document
+	 * @return the rendered document
+	 * @review
+	 */
+	public byte[] getRenderedDocument(String key, Supplier<byte[]> supplier) {
+		byte[] bytes = _renderedDocuments.get(key);
+
+		if (bytes != null) {
+			return bytes;
+		}
+
+		long generation = _generation.get();
+
+		bytes = supplier.get();
+
+		if (generation != _generation.get()) {
+			return bytes;
+		}
+
+		if (_renderedDocuments.putIfAbsent(key, bytes) == null) {
+			_renderedDocumentKeys.add(key);
+
+			_evictRenderedDocuments();
+		}
+
+		if (generation != _generation.get()) {
+			_renderedDocuments.remove(key, bytes);
+		}
+
+		return bytes;
+	}
+
+	public Map<String, Representor> getRepresentorMap(
+		EmptyFunction computeEmptyFunction) {
+
+		return _representors.get(computeEmptyFunction);
 	}
 
 	/**
@@ -357,14 +468,11 @@ public class ManagerCache {
 	public <T> Optional<Representor<T>> getRepresentorOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, Representor> representors = _representors.get(
+			computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_representors
-		).map(
-			map -> map.get(name)
+			representors.get(name)
 		).map(
 			Unsafe::unsafeCast
 		);
@@ -380,15 +488,7 @@ public class ManagerCache {
 	public List<String> getRootResourceNames(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_rootResourceNames == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return Optional.ofNullable(
-			_rootResourceNames
-		).orElseGet(
-			Collections::emptyList
-		);
+		return _rootResourceNames.get(computeEmptyFunction);
 	}
 
 	/**
@@ -396,6 +496,7 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the single model message mapper, if present; {@code
@@ -403,14 +504,14 @@ public class ManagerCache {
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
+			Request request, HttpHeaders httpHeaders,
+			EmptyFunction computeEmptyFunction) {
 
-		if (_singleModelMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		MessageMapperSelector<SingleModelMessageMapper> messageMapperSelector =
+			_singleModelMessageMappers.get(computeEmptyFunction);
 
-		Optional<SingleModelMessageMapper> optional = _getMessageMapperOptional(
-			request, _singleModelMessageMappers);
+		Optional<SingleModelMessageMapper> optional =
+			messageMapperSelector.select(request, httpHeaders);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -424,11 +525,7 @@ public class ManagerCache {
 	public void putCollectionRoutes(
 		String key, CollectionRoutes collectionRoutes) {
 
-		if (_collectionRoutes == null) {
-			_collectionRoutes = new HashMap<>();
-		}
-
-		_collectionRoutes.put(key, collectionRoutes);
+		_collectionRoutes.update(map -> map.put(key, collectionRoutes));
 	}
 
 	/**
@@ -441,11 +538,8 @@ public class ManagerCache {
 		MediaType mediaType,
 		DocumentationMessageMapper documentationMessageMapper) {
 
-		if (_documentationMessageMappers == null) {
-			_documentationMessageMappers = new HashMap<>();
-		}
-
-		_documentationMessageMappers.put(mediaType, documentationMessageMapper);
+		_documentationMessageMappers.update(
+			map -> map.put(mediaType, documentationMessageMapper));
 	}
 
 	/**
@@ -457,11 +551,8 @@ public class ManagerCache {
 	public void putErrorMessageMapper(
 		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
 
-		if (_errorMessageMappers == null) {
-			_errorMessageMappers = new HashMap<>();
-		}
-
-		_errorMessageMappers.put(mediaType, errorMessageMapper);
+		_errorMessageMappers.update(
+			map -> map.put(mediaType, errorMessageMapper));
 	}
 
 	/**
@@ -473,11 +564,8 @@ public class ManagerCache {
 	public void putFormMessageMapper(
 		MediaType mediaType, FormMessageMapper formMessageMapper) {
 
-		if (_formMessageMappers == null) {
-			_formMessageMappers = new HashMap<>();
-		}
-
-		_formMessageMappers.put(mediaType, formMessageMapper);
+		_formMessageMappers.update(
+			map -> map.put(mediaType, formMessageMapper));
 	}
 
 	/**
@@ -489,11 +577,7 @@ public class ManagerCache {
 	public void putIdentifierClass(
 		String key, Class<Identifier> identifierClass) {
 
-		if (_identifierClasses == null) {
-			_identifierClasses = new HashMap<>();
-		}
-
-		_identifierClasses.put(key, identifierClass);
+		_identifierClasses.update(map -> map.put(key, identifierClass));
 	}
 
 	/**
@@ -503,11 +587,7 @@ public class ManagerCache {
 	 * @param itemRoutes the item routes
 	 */
 	public void putItemRoutes(String key, ItemRoutes itemRoutes) {
-		if (_itemRoutes == null) {
-			_itemRoutes = new HashMap<>();
-		}
-
-		_itemRoutes.put(key, itemRoutes);
+		_itemRoutes.update(map -> map.put(key, itemRoutes));
 	}
 
 	/**
@@ -517,11 +597,7 @@ public class ManagerCache {
 	 * @param name the resource name
 	 */
 	public void putName(String key, String name) {
-		if (_names == null) {
-			_names = new HashMap<>();
-		}
-
-		_names.put(key, name);
+		_names.update(map -> map.put(key, name));
 	}
 
 	/**
@@ -533,11 +609,8 @@ public class ManagerCache {
 	public void putNestedCollectionRoutes(
 		String key, NestedCollectionRoutes nestedCollectionRoutes) {
 
-		if (_nestedCollectionRoutes == null) {
-			_nestedCollectionRoutes = new HashMap<>();
-		}
-
-		_nestedCollectionRoutes.put(key, nestedCollectionRoutes);
+		_nestedCollectionRoutes.update(
+			map -> map.put(key, nestedCollectionRoutes));
 	}
 
 	/**
@@ -549,11 +622,8 @@ public class ManagerCache {
 	public void putPageMessageMapper(
 		MediaType mediaType, PageMessageMapper pageMessageMapper) {
 
-		if (_pageMessageMappers == null) {
-			_pageMessageMappers = new HashMap<>();
-		}
-
-		_pageMessageMappers.put(mediaType, pageMessageMapper);
+		_pageMessageMappers.update(
+			map -> map.put(mediaType, pageMessageMapper));
 	}
 
 	/**
@@ -563,11 +633,7 @@ public class ManagerCache {
 	 * @param representor the representor
 	 */
 	public void putRepresentor(String key, Representor representor) {
-		if (_representors == null) {
-			_representors = new HashMap<>();
-		}
-
-		_representors.put(key, representor);
+		_representors.update(map -> map.put(key, representor));
 	}
 
 	/**
@@ -576,11 +642,7 @@ public class ManagerCache {
 	 * @param rootResourceName the root resource name
 	 */
 	public void putRootResourceName(String rootResourceName) {
-		if (_rootResourceNames == null) {
-			_rootResourceNames = new ArrayList<>();
-		}
-
-		_rootResourceNames.add(rootResourceName);
+		_rootResourceNames.update(list -> list.add(rootResourceName));
 	}
 
 	/**
@@ -593,76 +655,353 @@ public class ManagerCache {
 		MediaType mediaType,
 		SingleModelMessageMapper singleModelMessageMapper) {
 
-		if (_singleModelMessageMappers == null) {
-			_singleModelMessageMappers = new HashMap<>();
+		_singleModelMessageMappers.update(
+			map -> map.put(mediaType, singleModelMessageMapper));
+	}
+
+	private ManagerCache() {
+		_addDependentCacheEntries(
+			CollectionRouter.class, _collectionRoutes, _rootResourceNames);
+		_addDependentCacheEntries(
+			DocumentationMessageMapper.class, _documentationMessageMappers);
+		_addDependentCacheEntries(
+			ErrorMessageMapper.class, _errorMessageMappers);
+		_addDependentCacheEntries(FormMessageMapper.class, _formMessageMappers);
+		_addDependentCacheEntries(
+			ItemRouter.class, _itemRoutes, _collectionRoutes,
+			_rootResourceNames, _nestedCollectionRoutes);
+		_addDependentCacheEntries(
+			NestedCollectionRouter.class, _nestedCollectionRoutes);
+		_addDependentCacheEntries(PageMessageMapper.class, _pageMessageMappers);
+		_addDependentCacheEntries(
+			PathIdentifierMapper.class, _pathIdentifierMappers, _itemRoutes,
+			_collectionRoutes, _rootResourceNames, _nestedCollectionRoutes);
+		_addDependentCacheEntries(
+			Provider.class, _itemRoutes, _collectionRoutes, _rootResourceNames,
+			_nestedCollectionRoutes);
+		_addDependentCacheEntries(
+			Representable.class, _names, _identifierClasses, _representors,
+			_pathIdentifierMappers, _itemRoutes, _collectionRoutes,
+			_rootResourceNames, _nestedCollectionRoutes);
+		_addDependentCacheEntries(
+			SingleModelMessageMapper.class, _singleModelMessageMappers);
+	}
+
+	private void _addDependentCacheEntries(
+		Class<?> managedClass, CacheEntry<?, ?>... cacheEntries) {
+
+		_dependentCacheEntries.put(managedClass, Arrays.asList(cacheEntries));
+	}
+
+	private void _evictRenderedDocuments() {
+		while (_renderedDocuments.size() > _MAX_RENDERED_DOCUMENTS) {
+			String key = _renderedDocumentKeys.poll();
+
+			if (key == null) {
+				return;
+			}
+
+			_renderedDocuments.remove(key);
 		}
+	}
 
-		_singleModelMessageMappers.put(mediaType, singleModelMessageMapper);
+	/**
+	 * Publishes the values filled by the computation that has just finished,
+	 * unless the cache has been cleared while it was running.
+	 */
+	private void _publish() {
+		boolean cleared = _computeGeneration != _generation.get();
+
+		for (CacheEntry<?, ?> cacheEntry : _cacheEntries) {
+			cacheEntry.publish(cleared);
+		}
 	}
 
-	private ManagerCache() {
+	private static final int _MAX_RENDERED_DOCUMENTS = 64;
+
+	private static final int _MAX_SELECTIONS = 256;
+
+	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
+		"application/ld+json");
+
+	private final List<CacheEntry<?, ?>> _cacheEntries = new ArrayList<>();
+	private final MapCacheEntry<String, CollectionRoutes> _collectionRoutes =
+		new MapCacheEntry<>();
+	private int _computeDepth;
+	private long _computeGeneration;
+	private final Map<Class<?>, List<CacheEntry<?, ?>>> _dependentCacheEntries =
+		new HashMap<>();
+	private final MessageMapperCacheEntry<DocumentationMessageMapper>
+		_documentationMessageMappers = new MessageMapperCacheEntry<>();
+	private final MessageMapperCacheEntry<ErrorMessageMapper>
+		_errorMessageMappers = new MessageMapperCacheEntry<>();
+	private final MessageMapperCacheEntry<FormMessageMapper>
+		_formMessageMappers = new MessageMapperCacheEntry<>();
+	private final AtomicLong _generation = new AtomicLong();
+	private final MapCacheEntry<String, Class<Identifier>> _identifierClasses =
+		new MapCacheEntry<>();
+	private final MapCacheEntry<String, ItemRoutes> _itemRoutes =
+		new MapCacheEntry<>();
+	private final MapCacheEntry<String, String> _names = new MapCacheEntry<>();
+	private final MapCacheEntry<String, NestedCollectionRoutes>
+		_nestedCollectionRoutes = new MapCacheEntry<>();
+	private final MessageMapperCacheEntry<PageMessageMapper>
+		_pageMessageMappers = new MessageMapperCacheEntry<>();
+	private final ConcurrentMapCacheEntry<String, PathIdentifierMapper>
+		_pathIdentifierMappers = new ConcurrentMapCacheEntry<>();
+	private final Queue<String> _renderedDocumentKeys =
+		new ConcurrentLinkedQueue<>();
+	private final Map<String, byte[]> _renderedDocuments =
+		new ConcurrentHashMap<>();
+	private final MapCacheEntry<String, Representor> _representors =
+		new MapCacheEntry<>();
+	private final CacheEntry<List<String>, List<String>> _rootResourceNames =
+		new CacheEntry<>(ArrayList::new, Collections::unmodifiableList);
+	private final MessageMapperCacheEntry<SingleModelMessageMapper>
+		_singleModelMessageMappers = new MessageMapperCacheEntry<>();
+
+	/**
+	 * Holds a cached value. The published value is immutable and can be read
+	 * without locking, while the pending value is only accessed by the thread
+	 * computing it, while holding the cache's lock.
+	 *
+	 * @param <S> the type of the pending value
+	 * @param <T> the type of the published value
+	 */
+	private class CacheEntry<S, T> {
+
+		public void clear() {
+			_value = null;
+		}
+
+		public T get(EmptyFunction computeEmptyFunction) {
+			T value = _value;
+
+			if (value != null) {
+				return value;
+			}
+
+			synchronized (ManagerCache.this) {
+				if (_value != null) {
+					return _value;
+				}
+
+				if (_pendingValue == null) {
+					if (_computeDepth == 0) {
+						_computeGeneration = _generation.get();
+					}
+
+					_pendingValue = _supplier.get();
+
+					_computeDepth++;
+
+					try {
+						computeEmptyFunction.invoke();
+					}
+					finally {
+						_computeDepth--;
+					}
+				}
+
+				S pendingValue = _pendingValue;
+
+				if (_computeDepth > 0) {
+					return _publishFunction.apply(pendingValue);
+				}
+
+				_publish();
+
+				if (_value != null) {
+					return _value;
+				}
+
+				return _publishFunction.apply(pendingValue);
+			}
+		}
+
+		public T getCurrent() {
+			T value = _value;
+
+			if (value != null) {
+				return value;
+			}
+
+			synchronized (ManagerCache.this) {
+				if (_value != null) {
+					return _value;
+				}
+
+				return Optional.ofNullable(
+					_pendingValue
+				).map(
+					_publishFunction
+				).orElse(
+					null
+				);
+			}
+		}
+
+		public void publish(boolean cleared) {
+			if ((_pendingValue != null) && !cleared) {
+				_value = _publishFunction.apply(_pendingValue);
+			}
+
+			_pendingValue = null;
+		}
+
+		public void update(Consumer<S> consumer) {
+			synchronized (ManagerCache.this) {
+				if (_pendingValue == null) {
+					_pendingValue = _supplier.get();
+				}
+
+				consumer.accept(_pendingValue);
+			}
+		}
+
+		private CacheEntry(
+			Supplier<S> supplier, Function<S, T> publishFunction) {
+
+			_supplier = supplier;
+			_publishFunction = publishFunction;
+
+			_cacheEntries.add(this);
+		}
+
+		private S _pendingValue;
+		private final Function<S, T> _publishFunction;
+		private final Supplier<S> _supplier;
+		private volatile T _value;
+
 	}
 
-	private <T> Optional<T> _getMessageMapperOptional(
-		Request request, Map<MediaType, T> messageMappers) {
+	/**
+	 * Holds a cached concurrent map. Instead of being filled by a computation,
+	 * the published map is filled one key at a time by its callers, until the
+	 * cache entry is cleared.
+	 *
+	 * @param <K> the type of the map's keys
+	 * @param <V> the type of the map's values
+	 */
+	private class ConcurrentMapCacheEntry<K, V>
+		extends CacheEntry<Map<K, V>, Map<K, V>> {
+
+		public Map<K, V> get() {
+			return get(() -> {});
+		}
+
+		private ConcurrentMapCacheEntry() {
+			super(ConcurrentHashMap::new, Function.identity());
+		}
 
-		return Optional.ofNullable(
-			messageMappers
-		).map(
-			Map::keySet
-		).map(
-			Set::stream
-		).map(
-			stream -> stream.toArray(MediaType[]::new)
-		).map(
-			this::_getVariantListBuilder
-		).map(
-			VariantListBuilder::build
-		).map(
-			request::selectVariant
-		).map(
-			Variant::getMediaType
-		).flatMap(
-			mediaType -> Optional.ofNullable(
-				messageMappers
-			).map(
-				map -> map.get(mediaType)
-			)
-		);
 	}
 
-	private VariantListBuilder _getVariantListBuilder(MediaType[] mediaTypes) {
-		VariantListBuilder variantListBuilder = newInstance();
+	/**
+	 * Holds a cached map, published as an unmodifiable map.
+	 *
+	 * @param <K> the type of the map's keys
+	 * @param <V> the type of the map's values
+	 */
+	private class MapCacheEntry<K, V> extends CacheEntry<Map<K, V>, Map<K, V>> {
+
+		private MapCacheEntry() {
+			super(HashMap::new, Collections::unmodifiableMap);
+		}
 
-		List<MediaType> list = Arrays.asList(mediaTypes);
+	}
 
-		if (list.contains(_MEDIA_TYPE)) {
-			return variantListBuilder.mediaTypes(
-				_MEDIA_TYPE
-			).add(
-			).mediaTypes(
-				mediaTypes
-			);
+	/**
+	 * Holds a family of message mappers, published as a {@link
+	 * MessageMapperSelector}.
+	 *
+	 * @param <T> the type of the message mappers
+	 */
+	private class MessageMapperCacheEntry<T>
+		extends CacheEntry<Map<MediaType, T>, MessageMapperSelector<T>> {
+
+		private MessageMapperCacheEntry() {
+			super(HashMap::new, MessageMapperSelector::new);
 		}
 
-		return variantListBuilder.mediaTypes(mediaTypes);
 	}
 
-	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
-		"application/ld+json");
+	/**
+	 * Selects the message mapper that corresponds to a request. The variants
+	 * are computed once, and the selection is cached by the value of the
+	 * request's {@code Accept} header, up to a maximum number of different
+	 * values. Since a new selector is published every time the message mappers
+	 * change, the cached selections never outlive them. A cached selection
+	 * skips {@code Request#selectVariant}, so callers must add {@code Accept}
+	 * to the response's {@code Vary} header themselves.
+	 *
+	 * @param <T> the type of the message mappers
+	 */
+	private static class MessageMapperSelector<T> {
+
+		public Optional<T> select(Request request, HttpHeaders httpHeaders) {
+			if (_messageMappers.isEmpty()) {
+				return Optional.empty();
+			}
+
+			String accept = Optional.ofNullable(
+				httpHeaders.getHeaderString(ACCEPT)
+			).orElse(
+				""
+			);
+
+			Optional<T> optional = _selections.get(accept);
+
+			if (optional != null) {
+				return optional;
+			}
+
+			optional = Optional.ofNullable(
+				request.selectVariant(_variants)
+			).map(
+				Variant::getMediaType
+			).map(
+				_messageMappers::get
+			);
+
+			if (_selections.size() < _MAX_SELECTIONS) {
+				_selections.put(accept, optional);
+			}
+
+			return optional;
+		}
+
+		private MessageMapperSelector(Map<MediaType, T> messageMappers) {
+			_messageMappers = new HashMap<>(messageMappers);
+
+			Set<MediaType> mediaTypes = _messageMappers.keySet();
+
+			_variants = _getVariants(mediaTypes.toArray(new MediaType[0]));
+		}
+
+		private List<Variant> _getVariants(MediaType[] mediaTypes) {
+			VariantListBuilder variantListBuilder = newInstance();
+
+			List<MediaType> list = Arrays.asList(mediaTypes);
 
-	private Map<String, CollectionRoutes> _collectionRoutes;
-	private Map<MediaType, DocumentationMessageMapper>
-		_documentationMessageMappers;
-	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
-	private Map<MediaType, FormMessageMapper> _formMessageMappers;
-	private Map<String, Class<Identifier>> _identifierClasses;
-	private Map<String, ItemRoutes> _itemRoutes;
-	private Map<String, String> _names;
-	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
-	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
-	private Map<String, Representor> _representors;
-	private List<String> _rootResourceNames;
-	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+			if (list.contains(_MEDIA_TYPE)) {
+				return variantListBuilder.mediaTypes(
+					_MEDIA_TYPE
+				).add(
+				).mediaTypes(
+					mediaTypes
+				).build();
+			}
+
+			return variantListBuilder.mediaTypes(
+				mediaTypes
+			).build();
+		}
+
+		private final Map<MediaType, T> _messageMappers;
+		private final Map<String, Optional<T>> _selections =
+			new ConcurrentHashMap<>();
+		private final List<Variant> _variants;
+
+	}
 
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.Manage
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -40,10 +41,11 @@ public class DocumentationMessageMapperManagerImpl
 
 	@Override
 	public Optional<DocumentationMessageMapper>
-		getDocumentationMessageMapperOptional(Request request) {
+		getDocumentationMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders) {
 
 		return ManagerCache.INSTANCE.getDocumentationMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
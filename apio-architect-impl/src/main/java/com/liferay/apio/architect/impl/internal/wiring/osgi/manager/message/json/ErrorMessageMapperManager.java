@@ -18,6 +18,7 @@ import com.liferay.apio.architect.impl.internal.message.json.ErrorMessageMapper;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 /**
@@ -33,10 +34,11 @@ public interface ErrorMessageMapperManager {
 	 * the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the {@code ErrorMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request);
+		Request request, HttpHeaders httpHeaders);
 
 }
\ No newline at end of file
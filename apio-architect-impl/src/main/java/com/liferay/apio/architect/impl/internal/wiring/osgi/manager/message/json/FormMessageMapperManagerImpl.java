@@ -20,6 +20,7 @@ import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.Manage
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -40,10 +41,10 @@ public class FormMessageMapperManagerImpl
 
 	@Override
 	public Optional<FormMessageMapper> getFormMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
 		return ManagerCache.INSTANCE.getFormMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import com.liferay.apio.architect.impl.internal.message.json.SingleModelMessageM
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 /**
@@ -33,10 +34,12 @@ public interface SingleModelMessageMapperManager {
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the {@code SingleModelMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
-		getSingleModelMessageMapperOptional(Request request);
+		getSingleModelMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders);
 
 }
\ No newline at end of file
@@ -23,8 +23,10 @@ import com.liferay.apio.architect.provider.Provider;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -82,8 +84,64 @@ public class ProviderManagerImpl
 
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
-		return optional.map(
-			provider -> provider.createContext(httpServletRequest));
+		return optional.flatMap(
+			provider -> {
+				if (!provider.isCacheable()) {
+					return Optional.ofNullable(
+						provider.createContext(httpServletRequest));
+				}
+
+				return _getCachedContextOptional(
+					httpServletRequest, clazz, provider);
+			});
 	}
 
+	/**
+	 * Returns the context created by the provider for the current request,
+	 * creating it the first time it's requested. Contexts are stored in an
+	 * attribute of the request, so they're discarded when the request ends.
+	 */
+	private static <T> Optional<T> _getCachedContextOptional(
+		HttpServletRequest httpServletRequest, Class<T> clazz,
+		Provider<T> provider) {
+
+		Map<String, Optional<?>> contexts = _getContexts(httpServletRequest);
+
+		String key = clazz.getName();
+
+		Optional<?> optional = contexts.get(key);
+
+		if (optional == null) {
+			Optional<T> contextOptional = Optional.ofNullable(
+				provider.createContext(httpServletRequest));
+
+			optional = contexts.putIfAbsent(key, contextOptional);
+
+			if (optional == null) {
+				return contextOptional;
+			}
+		}
+
+		return unsafeCast(optional);
+	}
+
+	private static Map<String, Optional<?>> _getContexts(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(_CONTEXTS_ATTRIBUTE);
+
+		if (attribute instanceof Map) {
+			return unsafeCast(attribute);
+		}
+
+		Map<String, Optional<?>> contexts = new ConcurrentHashMap<>();
+
+		httpServletRequest.setAttribute(_CONTEXTS_ATTRIBUTE, contexts);
+
+		return contexts;
+	}
+
+	private static final String _CONTEXTS_ATTRIBUTE =
+		ProviderManagerImpl.class.getName() + "#CONTEXTS";
+
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.error.ApioDeveloperError.MustHavePathIdentifierMapper;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.base.ClassNameBaseManager;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.ManagerCache;
 import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.representable.IdentifierClassManager;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
@@ -69,7 +70,7 @@ public class PathIdentifierMapperManagerImpl
 		).toOptional();
 	}
 
-	private <T> Try<PathIdentifierMapper<T>> _getPathIdentifierMapperTry(
+	private Optional<PathIdentifierMapper> _computePathIdentifierMapperOptional(
 		String name) {
 
 		return Try.success(
@@ -80,6 +81,17 @@ public class PathIdentifierMapperManagerImpl
 			clazz -> getGenericTypeArgumentTry(clazz, Identifier.class, 0)
 		).mapOptional(
 			this::getServiceOptional
+		).toOptional();
+	}
+
+	private <T> Try<PathIdentifierMapper<T>> _getPathIdentifierMapperTry(
+		String name) {
+
+		return Try.success(
+			name
+		).mapOptional(
+			__ -> ManagerCache.INSTANCE.getPathIdentifierMapperOptional(
+				name, this::_computePathIdentifierMapperOptional)
 		).map(
 			Unsafe::unsafeCast
 		);
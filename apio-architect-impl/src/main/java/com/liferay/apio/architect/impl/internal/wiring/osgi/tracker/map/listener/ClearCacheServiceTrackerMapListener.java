@@ -21,27 +21,33 @@ import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMapListene
 
 /**
  * Provides an implementation of a {@link ServiceTrackerMapListener} that clears
- * the {@link
+ * the values of the {@link
  * com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.ManagerCache}
- * on every change.
+ * that depend on the tracked services on every change.
  *
  * @author Alejandro Hernández
  */
 public class ClearCacheServiceTrackerMapListener<T, U>
 	implements ServiceTrackerMapListener<U, T, T> {
 
+	public ClearCacheServiceTrackerMapListener(Class<T> managedClass) {
+		_managedClass = managedClass;
+	}
+
 	@Override
 	public void keyEmitted(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		INSTANCE.clear(_managedClass);
 	}
 
 	@Override
 	public void keyRemoved(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		INSTANCE.clear(_managedClass);
 	}
 
+	private final Class<T> _managedClass;
+
 }
\ No newline at end of file
@@ -20,15 +20,38 @@ import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Provides methods for skipping problems related to the Java generics system.
  *
+ * <p>
+ * Resolved type arguments are cached, so the generic information of a class or
+ * type is only walked once. Type arguments of classes are stored in a {@code
+ * ClassValue}, and type arguments of other types in a map of bounded size
+ * that's cleared with {@link #clearTypeArguments()}.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
  */
 public class GenericUtil {
 
+	/**
+	 * Clears the cached type arguments of types that aren't classes. Since
+	 * that cache holds the resolved classes, it must be cleared when services
+	 * change, so it doesn't keep the class loaders of uninstalled bundles
+	 * reachable.
+	 *
+	 * @review
+	 */
+	public static void clearTypeArguments() {
+		_typeArguments.clear();
+	}
+
 	/**
 	 * Returns the class of the first type argument in the {@code Type}.
 	 *
@@ -53,6 +76,56 @@ public class GenericUtil {
 	public static <S> Try<Class<S>> getGenericTypeArgumentFromTypeTry(
 		Type type, Class<?> interfaceClass, int position) {
 
+		TypeArgumentKey typeArgumentKey = new TypeArgumentKey(
+			type, interfaceClass, position);
+
+		Try<Class<Object>> classTry = _typeArguments.get(typeArgumentKey);
+
+		if (classTry == null) {
+			classTry = _resolveGenericTypeArgumentFromTypeTry(
+				type, interfaceClass, position);
+
+			if (_typeArguments.size() < _MAX_TYPE_ARGUMENTS) {
+				_typeArguments.putIfAbsent(typeArgumentKey, classTry);
+			}
+		}
+
+		return Unsafe.unsafeCast(classTry);
+	}
+
+	/**
+	 * Returns the class of the parameterized class's n-th type argument.
+	 *
+	 * @param  clazz the parameterized class
+	 * @param  interfaceClass the interface class
+	 * @param  position the n-th type argument's position in the parameterized
+	 *         class
+	 * @return the class of the parameterized class's n-th type argument
+	 */
+	public static <S> Try<Class<S>> getGenericTypeArgumentTry(
+		Class<?> clazz, Class<?> interfaceClass, int position) {
+
+		Map<TypeArgumentKey, Try<Class<Object>>> typeArguments =
+			_classTypeArguments.get(clazz);
+
+		TypeArgumentKey typeArgumentKey = new TypeArgumentKey(
+			null, interfaceClass, position);
+
+		Try<Class<Object>> classTry = typeArguments.get(typeArgumentKey);
+
+		if (classTry == null) {
+			classTry = _resolveGenericTypeArgumentTry(
+				clazz, interfaceClass, position);
+
+			typeArguments.putIfAbsent(typeArgumentKey, classTry);
+		}
+
+		return Unsafe.unsafeCast(classTry);
+	}
+
+	private static <S> Try<Class<S>> _resolveGenericTypeArgumentFromTypeTry(
+		Type type, Class<?> interfaceClass, int position) {
+
 		return Try.success(
 			type
 		).filter(
@@ -92,16 +165,7 @@ public class GenericUtil {
 		);
 	}
 
-	/**
-	 * Returns the class of the parameterized class's n-th type argument.
-	 *
-	 * @param  clazz the parameterized class
-	 * @param  interfaceClass the interface class
-	 * @param  position the n-th type argument's position in the parameterized
-	 *         class
-	 * @return the class of the parameterized class's n-th type argument
-	 */
-	public static <S> Try<Class<S>> getGenericTypeArgumentTry(
+	private static <S> Try<Class<S>> _resolveGenericTypeArgumentTry(
 		Class<?> clazz, Class<?> interfaceClass, int position) {
 
 		Type[] genericInterfaces = clazz.getGenericInterfaces();
@@ -112,7 +176,7 @@ public class GenericUtil {
 
 		for (Type genericInterface : genericInterfaces) {
 			classTry = classTry.recoverWith(
-				throwable -> getGenericTypeArgumentFromTypeTry(
+				throwable -> _resolveGenericTypeArgumentFromTypeTry(
 					genericInterface, interfaceClass, position));
 		}
 
@@ -121,4 +185,78 @@ public class GenericUtil {
 				clazz.getSuperclass(), interfaceClass, position));
 	}
 
+	/**
+	 * Identifies a type argument by the type that declares it, the interface
+	 * that parameterizes it and its position.
+	 */
+	private static class TypeArgumentKey {
+
+		@Override
+		public boolean equals(Object object) {
+			if (object == this) {
+				return true;
+			}
+
+			if (!(object instanceof TypeArgumentKey)) {
+				return false;
+			}
+
+			TypeArgumentKey typeArgumentKey = (TypeArgumentKey)object;
+
+			if ((_position == typeArgumentKey._position) &&
+				Objects.equals(
+					_interfaceClass, typeArgumentKey._interfaceClass) &&
+				Objects.equals(_type, typeArgumentKey._type)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = Objects.hashCode(_interfaceClass);
+
+			hashCode = 31 * hashCode + _position;
+
+			return 31 * hashCode + Objects.hashCode(_type);
+		}
+
+		private TypeArgumentKey(
+			Type type, Class<?> interfaceClass, int position) {
+
+			_type = type;
+			_interfaceClass = interfaceClass;
+			_position = position;
+		}
+
+		private final Class<?> _interfaceClass;
+		private final int _position;
+		private final Type _type;
+
+	}
+
+	/**
+	 * Holds the resolved type arguments of each class.
+	 */
+	private static class TypeArgumentsClassValue
+		extends ClassValue<Map<TypeArgumentKey, Try<Class<Object>>>> {
+
+		@Override
+		protected Map<TypeArgumentKey, Try<Class<Object>>> computeValue(
+			Class<?> clazz) {
+
+			return new ConcurrentHashMap<>();
+		}
+
+	}
+
+	private static final int _MAX_TYPE_ARGUMENTS = 1024;
+
+	private static final ClassValue<Map<TypeArgumentKey, Try<Class<Object>>>>
+		_classTypeArguments = new TypeArgumentsClassValue();
+	private static final Map<TypeArgumentKey, Try<Class<Object>>>
+		_typeArguments = new ConcurrentHashMap<>();
+
 }
\ No newline at end of file
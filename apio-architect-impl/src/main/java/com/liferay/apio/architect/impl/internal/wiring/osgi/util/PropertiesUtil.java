@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.wiring.osgi.util;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Provides methods for reading the configuration properties of components.
+ * Missing or malformed properties fall back to their default values, so a bad
+ * value never prevents a component from being activated.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class PropertiesUtil {
+
+	/**
+	 * Returns the boolean value of a property, or the default value if the
+	 * property is missing.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the default value
+	 * @return the property's value, if present; the default value otherwise
+	 */
+	public static boolean getBoolean(
+		Map<String, Object> properties, String key, boolean defaultValue) {
+
+		return Optional.ofNullable(
+			properties.get(key)
+		).map(
+			String::valueOf
+		).map(
+			Boolean::valueOf
+		).orElse(
+			defaultValue
+		);
+	}
+
+	/**
+	 * Returns the integer value of a property, or the default value if the
+	 * property is missing or isn't an integer.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the default value
+	 * @return the property's value, if it's an integer; the default value
+	 *         otherwise
+	 */
+	public static int getInteger(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		return _getIntegerTry(
+			properties, key
+		).orElse(
+			defaultValue
+		);
+	}
+
+	/**
+	 * Returns the integer value of a property, or the default value if the
+	 * property is missing or isn't a positive integer.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the default value
+	 * @return the property's value, if it's a positive integer; the default
+	 *         value otherwise
+	 */
+	public static int getPositiveInteger(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		return _getIntegerTry(
+			properties, key
+		).filter(
+			integer -> integer > 0
+		).orElse(
+			defaultValue
+		);
+	}
+
+	private static Try<Integer> _getIntegerTry(
+		Map<String, Object> properties, String key) {
+
+		return Try.success(
+			properties.get(key)
+		).map(
+			String::valueOf
+		).map(
+			String::trim
+		).map(
+			Integer::parseInt
+		);
+	}
+
+	private PropertiesUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
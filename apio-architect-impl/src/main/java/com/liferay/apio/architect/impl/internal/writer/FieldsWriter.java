@@ -25,6 +25,7 @@ import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.impl.internal.alias.SingleModelFunction;
 import com.liferay.apio.architect.impl.internal.list.FunctionalList;
 import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.impl.internal.response.control.Embedded;
 import com.liferay.apio.architect.impl.internal.response.control.Fields;
 import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.related.RelatedCollection;
@@ -40,7 +41,6 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -91,15 +91,20 @@ public class FieldsWriter<T> {
 	/**
 	 * Returns the {@link Fields} predicate from the internal {@link
 	 * RequestInfo}. If no {@code Fields} information is provided to the {@code
-	 * RequestInfo}, this method returns an always-successful predicate.
+	 * RequestInfo}, this method returns an always-successful predicate. The
+	 * predicate is only computed the first time this method is called.
 	 *
 	 * @return the {@code Fields} predicate, if {@code Fields} information
 	 *         exists; an always-successful predicate otherwise
 	 */
 	public Predicate<String> getFieldsPredicate() {
-		Fields fields = _requestInfo.getFields();
+		if (_fieldsPredicate == null) {
+			Fields fields = _requestInfo.getFields();
 
-		return fields.apply(_baseRepresentor.getTypes());
+			_fieldsPredicate = fields.apply(_baseRepresentor.getTypes());
+		}
+
+		return _fieldsPredicate;
 	}
 
 	/**
@@ -226,14 +231,16 @@ public class FieldsWriter<T> {
 		List<FieldFunction<T, U>> list = representorFunction.apply(
 			_baseRepresentor);
 
+		if (list.isEmpty()) {
+			return;
+		}
+
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
 		Stream<FieldFunction<T, U>> stream = list.stream();
 
 		stream.filter(
-			fieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
-
-				return fieldsPredicate.test(fieldFunction.getKey());
-			}
+			fieldFunction -> fieldsPredicate.test(fieldFunction.getKey())
 		).forEach(
 			fieldFunction -> {
 				U u = fieldFunction.apply(_singleModel.getModel());
@@ -390,36 +397,47 @@ public class FieldsWriter<T> {
 		BiConsumer<String, FunctionalList<String>> linkedURLBiConsumer,
 		BiConsumer<String, FunctionalList<String>> embeddedURLBiConsumer) {
 
-		writeRelatedModel(
-			relatedModel, pathFunction,
-			(url, embeddedPathElements) -> {
-				Optional<SingleModel<U>> singleModelOptional = getSingleModel(
-					relatedModel, _singleModel,
-					unsafeCast(_singleModelFunction));
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
 
-				if (!singleModelOptional.isPresent()) {
-					return;
-				}
+		String key = relatedModel.getKey();
+
+		if (!fieldsPredicate.test(key)) {
+			return;
+		}
+
+		Optional<SingleModel<U>> singleModelOptional = getSingleModel(
+			relatedModel, _singleModel, unsafeCast(_singleModelFunction));
 
-				Predicate<String> embedded = _requestInfo.getEmbedded();
+		if (!singleModelOptional.isPresent()) {
+			return;
+		}
 
-				SingleModel<U> singleModel = singleModelOptional.get();
+		SingleModel<U> singleModel = singleModelOptional.get();
 
-				Stream<String> stream = Stream.concat(
-					Stream.of(embeddedPathElements.head()),
-					embeddedPathElements.tailStream());
+		Optional<String> urlOptional = pathFunction.apply(
+			singleModel
+		).map(
+			path -> createSingleURL(_requestInfo.getApplicationURL(), path)
+		);
 
-				String embeddedPath = String.join(
-					".", stream.collect(Collectors.toList()));
+		if (!urlOptional.isPresent()) {
+			return;
+		}
 
-				if (embedded.test(embeddedPath)) {
-					embeddedURLBiConsumer.accept(url, embeddedPathElements);
-					modelBiConsumer.accept(singleModel, embeddedPathElements);
-				}
-				else {
-					linkedURLBiConsumer.accept(url, embeddedPathElements);
-				}
-			});
+		String url = urlOptional.get();
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			_embeddedPathElements, key);
+
+		Embedded embedded = _requestInfo.getEmbedded();
+
+		if (embedded.isEmbedded(embeddedPathElements)) {
+			embeddedURLBiConsumer.accept(url, embeddedPathElements);
+			modelBiConsumer.accept(singleModel, embeddedPathElements);
+		}
+		else {
+			linkedURLBiConsumer.accept(url, embeddedPathElements);
+		}
 	}
 
 	/**
@@ -559,6 +577,7 @@ public class FieldsWriter<T> {
 
 	private final BaseRepresentor<T> _baseRepresentor;
 	private final FunctionalList<String> _embeddedPathElements;
+	private Predicate<String> _fieldsPredicate;
 	private final Path _path;
 	private final RequestInfo _requestInfo;
 	private final SingleModel<T> _singleModel;
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.impl.internal.writer;
 
+import static com.liferay.apio.architect.impl.internal.url.URLCreator.createCollectionCursorPageURL;
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createCollectionURL;
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createNestedCollectionURL;
@@ -22,7 +23,9 @@ import static com.liferay.apio.architect.impl.internal.writer.util.WriterUtil.ge
 
 import com.google.gson.JsonObject;
 
+import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.impl.internal.alias.BaseRepresentorFunction;
+import com.liferay.apio.architect.impl.internal.alias.BatchSingleModelFunction;
 import com.liferay.apio.architect.impl.internal.alias.PathFunction;
 import com.liferay.apio.architect.impl.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.impl.internal.alias.ResourceNameFunction;
@@ -32,19 +35,41 @@ import com.liferay.apio.architect.impl.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.impl.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.impl.internal.pagination.PageType;
 import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.impl.internal.response.control.Fields;
 import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.impl.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.language.AcceptLanguage;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+import java.io.Writer;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -69,8 +94,11 @@ public class PageWriter<T> {
 	}
 
 	public PageWriter(Builder<T> builder) {
+		_batchSingleModelFunction = builder._batchSingleModelFunction;
+		_itemExecutor = builder._itemExecutor;
 		_page = builder._page;
 		_pageMessageMapper = builder._pageMessageMapper;
+		_parallelItemsThreshold = builder._parallelItemsThreshold;
 		_pathFunction = builder._pathFunction;
 		_representorFunction = builder._representorFunction;
 		_requestInfo = builder._requestInfo;
@@ -78,6 +106,8 @@ public class PageWriter<T> {
 		_singleModelFunction = builder._singleModelFunction;
 
 		_jsonObjectBuilder = new JSONObjectBuilder();
+		_requestThreadTasks = new LinkedBlockingQueue<>();
+		_singleModels = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -92,40 +122,28 @@ public class PageWriter<T> {
 	 *         Optional#empty()} otherwise
 	 */
 	public String write() {
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
-
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
-
-		String url = _getCollectionURL();
-
-		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
-
-		String resourceName = _page.getResourceName();
-
-		items.forEach(
-			model -> _writeItem(
-				new SingleModelImpl<>(
-					model, resourceName, Collections.emptyList())));
-
-		List<Operation> operations = _page.getOperations();
-
-		OperationWriter operationWriter = new OperationWriter(
-			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		operations.forEach(operationWriter::write);
-
-		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+		_writePage();
 
 		JsonObject jsonObject = _jsonObjectBuilder.build();
 
 		return jsonObject.toString();
 	}
 
+	/**
+	 * Writes the handled {@link Page} directly to the provided writer. This
+	 * method behaves like {@link #write()}, but streams the representation to
+	 * the writer instead of creating an intermediate {@code String}.
+	 *
+	 * @param  writer the writer where the page is written
+	 * @throws IOException if the page couldn't be written
+	 * @review
+	 */
+	public void write(Writer writer) throws IOException {
+		_writePage();
+
+		_jsonObjectBuilder.writeTo(writer);
+	}
+
 	/**
 	 * Creates {@code PageWriter} instances.
 	 *
@@ -147,6 +165,57 @@ public class PageWriter<T> {
 
 		public class BuildStep {
 
+			/**
+			 * Adds information to the builder about the function that gets
+			 * several {@code SingleModel} instances of a class at once, using
+			 * their identifiers. If provided, the writer uses this function to
+			 * get the related models of every item in the page with one call
+			 * per identifier class, instead of one call per item.
+			 *
+			 * @param  batchSingleModelFunction the function that gets several
+			 *         {@code SingleModel} instances of a class
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep batchSingleModelFunction(
+				BatchSingleModelFunction batchSingleModelFunction) {
+
+				_batchSingleModelFunction = batchSingleModelFunction;
+
+				return this;
+			}
+
+			/**
+			 * Adds information to the builder about the executor used to
+			 * render the page's items in parallel. Each item is rendered into
+			 * its own JSON object builder, and the items are added to the page
+			 * in their original order. Pages with fewer items than the
+			 * threshold are rendered sequentially in the calling thread.
+			 *
+			 * <p>
+			 * The representor's functions are called from the executor's
+			 * threads, so they mustn't depend on state bound to the request's
+			 * thread. The single model function is always called from the
+			 * request's thread: the executor's threads hand their calls to the
+			 * request's thread while it waits for the items. If the executor
+			 * rejects an item, the item is rendered in the request's thread.
+			 * </p>
+			 *
+			 * @param  itemExecutor the executor used to render the items
+			 * @param  parallelItemsThreshold the minimum number of items a
+			 *         page must have to be rendered in parallel
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep parallelItemRendering(
+				Executor itemExecutor, int parallelItemsThreshold) {
+
+				_itemExecutor = itemExecutor;
+				_parallelItemsThreshold = parallelItemsThreshold;
+
+				return this;
+			}
+
 			/**
 			 * Constructs and returns a {@code PageWriter} instance with the
 			 * information provided to the builder.
@@ -280,8 +349,11 @@ public class PageWriter<T> {
 
 		}
 
+		private BatchSingleModelFunction _batchSingleModelFunction;
+		private Executor _itemExecutor;
 		private Page<T> _page;
 		private PageMessageMapper<T> _pageMessageMapper;
+		private int _parallelItemsThreshold;
 		private PathFunction _pathFunction;
 		private RepresentorFunction _representorFunction;
 		private RequestInfo _requestInfo;
@@ -290,6 +362,153 @@ public class PageWriter<T> {
 
 	}
 
+	/**
+	 * Calls the single model function in the request's thread. The function
+	 * gets the models through the request's proxies and providers, which are
+	 * bound to the request's thread, so calls made from the executor's threads
+	 * are queued and run by the request's thread while it waits for the items.
+	 */
+	private Optional<SingleModel> _applySingleModelFunction(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		if ((_requestThread == null) ||
+			(_requestThread == Thread.currentThread())) {
+
+			return _singleModelFunction.apply(identifier, identifierClass);
+		}
+
+		CompletableFuture<Optional<SingleModel>> future =
+			new CompletableFuture<>();
+
+		_requestThreadTasks.add(
+			() -> {
+				try {
+					future.complete(
+						_singleModelFunction.apply(
+							identifier, identifierClass));
+				}
+				catch (Throwable throwable) {
+					future.completeExceptionally(throwable);
+				}
+			});
+
+		return future.join();
+	}
+
+	/**
+	 * Returns a copy of the request info whose accept language doesn't read the
+	 * request, so it can be used from the executor's threads.
+	 */
+	private RequestInfo _detachRequestInfo(RequestInfo requestInfo) {
+		AcceptLanguage acceptLanguage = requestInfo.getAcceptLanguage();
+
+		Stream<Locale> stream = acceptLanguage.getLocales();
+
+		List<Locale> locales = stream.collect(Collectors.toList());
+
+		Locale preferredLocale = acceptLanguage.getPreferredLocale();
+
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				requestInfo.getHttpServletRequest()
+			).serverURL(
+				requestInfo.getServerURL()
+			).applicationURL(
+				requestInfo.getApplicationURL()
+			).embedded(
+				requestInfo.getEmbedded()
+			).fields(
+				requestInfo.getFields()
+			).language(
+				new AcceptLanguage() {
+
+					@Override
+					public Stream<Locale> getLocales() {
+						return locales.stream();
+					}
+
+					@Override
+					public Locale getPreferredLocale() {
+						return preferredLocale;
+					}
+
+				}
+			).build());
+	}
+
+	private void _fetchRelatedModels(Collection<T> items) {
+		if ((_batchSingleModelFunction == null) || items.isEmpty()) {
+			return;
+		}
+
+		Optional<Representor<T>> optional = _representorFunction.apply(
+			_page.getResourceName()
+		).map(
+			Unsafe::unsafeCast
+		);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		Representor<T> representor = optional.get();
+
+		Fields fields = _requestInfo.getFields();
+
+		Predicate<String> fieldsPredicate = fields.apply(
+			representor.getTypes());
+
+		Map<Class<? extends Identifier>, Set<Object>> identifiersMap =
+			new LinkedHashMap<>();
+
+		for (RelatedModel<T, ?> relatedModel :
+				representor.getRelatedModels()) {
+
+			if (!fieldsPredicate.test(relatedModel.getKey())) {
+				continue;
+			}
+
+			Function<T, ?> identifierFunction =
+				relatedModel.getIdentifierFunction();
+
+			Set<Object> identifiers = identifiersMap.computeIfAbsent(
+				relatedModel.getIdentifierClass(), __ -> new LinkedHashSet<>());
+
+			for (T item : items) {
+				Object identifier = identifierFunction.apply(item);
+
+				if (identifier != null) {
+					identifiers.add(identifier);
+				}
+			}
+		}
+
+		identifiersMap.forEach(
+			(identifierClass, identifiers) -> {
+				if (identifiers.isEmpty()) {
+					return;
+				}
+
+				Optional<Map<Object, SingleModel>> singleModelsOptional =
+					_batchSingleModelFunction.apply(
+						identifiers, identifierClass);
+
+				singleModelsOptional.ifPresent(
+					singleModels -> {
+						Map<Object, Optional<SingleModel>> map =
+							_singleModels.computeIfAbsent(
+								identifierClass,
+								__ -> new ConcurrentHashMap<>());
+
+						identifiers.forEach(
+							identifier -> map.put(
+								identifier,
+								Optional.ofNullable(
+									singleModels.get(identifier))));
+					});
+			});
+	}
+
 	private String _getCollectionURL() {
 		Optional<Path> optional = _page.getPathOptional();
 
@@ -302,6 +521,125 @@ public class PageWriter<T> {
 		);
 	}
 
+	private Optional<SingleModel> _getSingleModel(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		if (identifier == null) {
+			return _applySingleModelFunction(null, identifierClass);
+		}
+
+		Map<Object, Optional<SingleModel>> map = _singleModels.computeIfAbsent(
+			identifierClass, __ -> new ConcurrentHashMap<>());
+
+		Optional<SingleModel> optional = map.get(identifier);
+
+		if (optional == null) {
+			optional = _applySingleModelFunction(identifier, identifierClass);
+
+			map.put(identifier, optional);
+		}
+
+		return optional;
+	}
+
+	private Optional<JSONObjectBuilder> _renderItem(
+		SingleModel<T> singleModel) {
+
+		Optional<Path> pathOptional = getPathOptional(
+			singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> optional = getFieldsWriter(
+			singleModel, null, _requestInfo, _representorFunction::apply,
+			this::_getSingleModel, pathOptional.get());
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = optional.get();
+
+		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _pageMessageMapper.mapItemSelfURL(
+				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
+		fieldsWriter.writeRelatedModels(
+			embeddedSingleModel -> getPathOptional(
+				embeddedSingleModel, _pathFunction,
+				_representorFunction::apply),
+			(embeddedSingleModel, embeddedPathElements1) ->
+				_writeItemEmbeddedModelFields(
+					embeddedSingleModel, embeddedPathElements1,
+					itemJsonObjectBuilder),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemEmbeddedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, url));
+
+		_writeNestedResources(
+			_representorFunction::apply, singleModel, itemJsonObjectBuilder,
+			singleModel, null);
+
+		_writeNestedLists(
+			_representorFunction::apply, singleModel, itemJsonObjectBuilder,
+			null);
+
+		return Optional.of(itemJsonObjectBuilder);
+	}
+
+	/**
+	 * Runs the tasks handed to the request's thread by the executor's threads
+	 * until every item is rendered. The executor's threads wait for these
+	 * tasks, so an interruption is only restored once every item is rendered.
+	 */
+	private void _runRequestThreadTasks(
+		List<CompletableFuture<Optional<JSONObjectBuilder>>> futures) {
+
+		CompletableFuture<Void> future = CompletableFuture.allOf(
+			futures.toArray(new CompletableFuture[futures.size()]));
+
+		future.whenComplete(
+			(result, throwable) -> _requestThreadTasks.add(() -> {
+			}));
+
+		boolean interrupted = false;
+
+		while (!future.isDone()) {
+			try {
+				Runnable runnable = _requestThreadTasks.take();
+
+				runnable.run();
+			}
+			catch (InterruptedException ie) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+	}
+
 	private void _writeBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
 
@@ -370,7 +708,7 @@ public class PageWriter<T> {
 
 		Optional<FieldsWriter<U>> fieldsWriterOptional = getFieldsWriter(
 			singleModel, embeddedPathElements, _requestInfo,
-			baseRepresentorFunction, _singleModelFunction, pathOptional.get());
+			baseRepresentorFunction, this::_getSingleModel, pathOptional.get());
 
 		if (!fieldsWriterOptional.isPresent()) {
 			return;
@@ -411,65 +749,74 @@ public class PageWriter<T> {
 	}
 
 	private void _writeItem(SingleModel<T> singleModel) {
-		Optional<Path> pathOptional = getPathOptional(
-			singleModel, _pathFunction, _representorFunction::apply);
+		Optional<JSONObjectBuilder> optional = _renderItem(singleModel);
 
-		if (!pathOptional.isPresent()) {
-			return;
-		}
+		optional.ifPresent(
+			itemJsonObjectBuilder -> _pageMessageMapper.onFinishItem(
+				_jsonObjectBuilder, itemJsonObjectBuilder, singleModel));
+	}
 
-		Optional<FieldsWriter<T>> optional = getFieldsWriter(
-			singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
+	private void _writeItemsInParallel(
+		Collection<T> items, String resourceName) {
 
-		if (!optional.isPresent()) {
-			return;
+		_requestInfo = _detachRequestInfo(_requestInfo);
+		_requestThread = Thread.currentThread();
+
+		List<SingleModel<T>> singleModels = new ArrayList<>(items.size());
+		List<CompletableFuture<Optional<JSONObjectBuilder>>> futures =
+			new ArrayList<>(items.size());
+
+		for (T item : items) {
+			SingleModel<T> singleModel = new SingleModelImpl<>(
+				item, resourceName, Collections.emptyList());
+
+			singleModels.add(singleModel);
+
+			CompletableFuture<Optional<JSONObjectBuilder>> future;
+
+			try {
+				future = CompletableFuture.supplyAsync(
+					() -> _renderItem(singleModel), _itemExecutor);
+			}
+			catch (RejectedExecutionException ree) {
+				future = CompletableFuture.completedFuture(
+					_renderItem(singleModel));
+			}
+
+			futures.add(future);
 		}
 
-		FieldsWriter<T> fieldsWriter = optional.get();
+		_runRequestThreadTasks(futures);
 
-		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+		for (int i = 0; i < futures.size(); i++) {
+			CompletableFuture<Optional<JSONObjectBuilder>> future =
+				futures.get(i);
 
-		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
+			Optional<JSONObjectBuilder> optional;
 
-		fieldsWriter.writeSingleURL(
-			url -> _pageMessageMapper.mapItemSelfURL(
-				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+			try {
+				optional = future.join();
+			}
+			catch (CompletionException ce) {
+				Throwable throwable = ce.getCause();
 
-		fieldsWriter.writeRelatedModels(
-			embeddedSingleModel -> getPathOptional(
-				embeddedSingleModel, _pathFunction,
-				_representorFunction::apply),
-			(embeddedSingleModel, embeddedPathElements1) ->
-				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedPathElements1,
-					itemJsonObjectBuilder),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL));
+				if (throwable instanceof RuntimeException) {
+					throw (RuntimeException)throwable;
+				}
 
-		fieldsWriter.writeRelatedCollections(
-			_resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, url));
+				if (throwable instanceof Error) {
+					throw (Error)throwable;
+				}
 
-		_writeNestedResources(
-			_representorFunction::apply, singleModel, itemJsonObjectBuilder,
-			singleModel, null);
+				throw ce;
+			}
 
-		_writeNestedLists(
-			_representorFunction::apply, singleModel, itemJsonObjectBuilder,
-			null);
+			SingleModel<T> singleModel = singleModels.get(i);
 
-		_pageMessageMapper.onFinishItem(
-			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel);
+			optional.ifPresent(
+				itemJsonObjectBuilder -> _pageMessageMapper.onFinishItem(
+					_jsonObjectBuilder, itemJsonObjectBuilder, singleModel));
+		}
 	}
 
 	private <S> void _writeItemEmbeddedModelFields(
@@ -497,7 +844,7 @@ public class PageWriter<T> {
 
 		Optional<FieldsWriter<S>> fieldsWriterOptional = getFieldsWriter(
 			singleModel, embeddedPathElements, _requestInfo,
-			baseRepresentorFunction, _singleModelFunction, pathOptional.get());
+			baseRepresentorFunction, this::_getSingleModel, pathOptional.get());
 
 		if (!fieldsWriterOptional.isPresent()) {
 			return;
@@ -709,6 +1056,49 @@ public class PageWriter<T> {
 		);
 	}
 
+	private void _writePage() {
+		Optional<Integer> totalCountOptional = _page.getTotalCountOptional();
+
+		totalCountOptional.ifPresent(
+			totalCount -> _pageMessageMapper.mapItemTotalCount(
+				_jsonObjectBuilder, totalCount));
+
+		Collection<T> items = _page.getItems();
+
+		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
+
+		_writePageURLs();
+
+		_fetchRelatedModels(items);
+
+		String url = _getCollectionURL();
+
+		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
+
+		String resourceName = _page.getResourceName();
+
+		if ((_itemExecutor != null) &&
+			(items.size() >= _parallelItemsThreshold)) {
+
+			_writeItemsInParallel(items, resourceName);
+		}
+		else {
+			items.forEach(
+				model -> _writeItem(
+					new SingleModelImpl<>(
+						model, resourceName, Collections.emptyList())));
+		}
+
+		List<Operation> operations = _page.getOperations();
+
+		OperationWriter operationWriter = new OperationWriter(
+			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		operations.forEach(operationWriter::write);
+
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+	}
+
 	private <U> void _writePageNestedResources(
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<U> singleModel, JSONObjectBuilder itemJsonObjectBuilder) {
@@ -746,7 +1136,40 @@ public class PageWriter<T> {
 		);
 	}
 
+	private void _writeCursorPageURLs() {
+		String url = _getCollectionURL();
+
+		int itemsPerPage = _page.getItemsPerPage();
+
+		Optional<String> cursorOptional = _page.getCursorOptional();
+
+		_pageMessageMapper.mapCurrentPageURL(
+			_jsonObjectBuilder,
+			createCollectionCursorPageURL(
+				url, cursorOptional.orElse(null), itemsPerPage));
+
+		_pageMessageMapper.mapFirstPageURL(
+			_jsonObjectBuilder,
+			createCollectionCursorPageURL(url, "", itemsPerPage));
+
+		Optional<String> nextCursorOptional = _page.getNextCursorOptional();
+
+		nextCursorOptional.ifPresent(
+			nextCursor -> _pageMessageMapper.mapNextPageURL(
+				_jsonObjectBuilder,
+				createCollectionCursorPageURL(url, nextCursor, itemsPerPage)));
+	}
+
 	private void _writePageURLs() {
+		Optional<String> cursorOptional = _page.getCursorOptional();
+		Optional<String> nextCursorOptional = _page.getNextCursorOptional();
+
+		if (cursorOptional.isPresent() || nextCursorOptional.isPresent()) {
+			_writeCursorPageURLs();
+
+			return;
+		}
+
 		String url = _getCollectionURL();
 
 		_pageMessageMapper.mapCurrentPageURL(
@@ -757,9 +1180,13 @@ public class PageWriter<T> {
 			_jsonObjectBuilder,
 			createCollectionPageURL(url, _page, PageType.FIRST));
 
-		_pageMessageMapper.mapLastPageURL(
-			_jsonObjectBuilder,
-			createCollectionPageURL(url, _page, PageType.LAST));
+		Optional<Integer> totalCountOptional = _page.getTotalCountOptional();
+
+		if (totalCountOptional.isPresent()) {
+			_pageMessageMapper.mapLastPageURL(
+				_jsonObjectBuilder,
+				createCollectionPageURL(url, _page, PageType.LAST));
+		}
 
 		if (_page.hasNext()) {
 			_pageMessageMapper.mapNextPageURL(
@@ -774,13 +1201,20 @@ public class PageWriter<T> {
 		}
 	}
 
+	private final BatchSingleModelFunction _batchSingleModelFunction;
+	private final Executor _itemExecutor;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
+	private final int _parallelItemsThreshold;
 	private final PathFunction _pathFunction;
 	private final RepresentorFunction _representorFunction;
-	private final RequestInfo _requestInfo;
+	private RequestInfo _requestInfo;
+	private Thread _requestThread;
+	private final BlockingQueue<Runnable> _requestThreadTasks;
 	private final ResourceNameFunction _resourceNameFunction;
 	private final SingleModelFunction _singleModelFunction;
+	private final Map<Class<? extends Identifier>,
+		Map<Object, Optional<SingleModel>>> _singleModels;
 
 }
\ No newline at end of file
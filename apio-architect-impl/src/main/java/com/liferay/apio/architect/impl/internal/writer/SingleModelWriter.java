@@ -37,6 +37,9 @@ import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -89,67 +92,40 @@ public class SingleModelWriter<T> {
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
+		Optional<JSONObjectBuilder> optional = _writeSingleModel();
 
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
+		return optional.map(
+			JSONObjectBuilder::build
+		).map(
+			JsonObject::toString
+		);
+	}
 
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
+	/**
+	 * Writes the handled {@link SingleModel} directly to the provided writer.
+	 * This method behaves like {@link #write()}, but streams the
+	 * representation to the writer instead of creating an intermediate {@code
+	 * String}. If no {@code Representor} or {@code Path} exists for the model,
+	 * nothing is written to the writer.
+	 *
+	 * @param  writer the writer where the single model is written
+	 * @return {@code true} if the single model was written; {@code false}
+	 *         otherwise
+	 * @throws IOException if the single model couldn't be written
+	 * @review
+	 */
+	public boolean write(Writer writer) throws IOException {
+		Optional<JSONObjectBuilder> optional = _writeSingleModel();
 
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
+		if (!optional.isPresent()) {
+			return false;
 		}
 
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
-
-		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
-
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		List<Operation> operations = _singleModel.getOperations();
-
-		OperationWriter operationWriter = new OperationWriter(
-			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		operations.forEach(operationWriter::write);
-
-		fieldsWriter.writeRelatedModels(
-			singleModel -> getPathOptional(
-				singleModel, _pathFunction, _representorFunction::apply),
-			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
-				singleModel, _jsonObjectBuilder, embeddedPathElements),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
 
-		_writeNestedResources(
-			_representorFunction::apply, _singleModel, _jsonObjectBuilder,
-			null);
+		jsonObjectBuilder.writeTo(writer);
 
-		_writeNestedLists(
-			_representorFunction::apply, _singleModel, _jsonObjectBuilder,
-			null);
-
-		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
-
-		JsonObject jsonObject = _jsonObjectBuilder.build();
-
-		return Optional.of(jsonObject.toString());
+		return true;
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -773,6 +749,68 @@ public class SingleModelWriter<T> {
 		);
 	}
 
+	private Optional<JSONObjectBuilder> _writeSingleModel() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		List<Operation> operations = _singleModel.getOperations();
+
+		OperationWriter operationWriter = new OperationWriter(
+			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		operations.forEach(operationWriter::write);
+
+		fieldsWriter.writeRelatedModels(
+			singleModel -> getPathOptional(
+				singleModel, _pathFunction, _representorFunction::apply),
+			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
+				singleModel, _jsonObjectBuilder, embeddedPathElements),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url));
+
+		_writeNestedResources(
+			_representorFunction::apply, _singleModel, _jsonObjectBuilder,
+			null);
+
+		_writeNestedLists(
+			_representorFunction::apply, _singleModel, _jsonObjectBuilder,
+			null);
+
+		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final PathFunction _pathFunction;
 	private final RepresentorFunction _representorFunction;
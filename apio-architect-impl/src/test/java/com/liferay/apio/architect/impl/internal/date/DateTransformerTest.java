@@ -42,6 +42,20 @@ public class DateTransformerTest {
 		assertThat(dateTry, is(aFailTry()));
 	}
 
+	@Test
+	public void testAsDateWithSingleDigitHourReturnsFailure() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-06-15T9:00Z");
+
+		assertThat(dateTry, is(aFailTry()));
+	}
+
+	@Test
+	public void testAsDateWithTrailingCharactersReturnsFailure() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-06-15T09:00Z+02:00");
+
+		assertThat(dateTry, is(aFailTry()));
+	}
+
 	@Test
 	public void testAsDateWithValidDateReturnsSuccess() {
 		Try<Date> dateTry = DateTransformer.asDate("2016-06-15T09:00Z");
@@ -20,6 +20,7 @@ import static com.liferay.apio.architect.operation.HTTPMethod.POST;
 import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.core.Is.is;
 
 import java.lang.reflect.Constructor;
@@ -60,6 +61,14 @@ public class ExceptionSupplierUtilTest {
 		assertThat(notAllowedException.getMessage(), is(expected));
 	}
 
+	@Test
+	public void testNotAllowedReturnsExceptionWithoutStackTrace() {
+		NotAllowedException notAllowedException = notAllowed(
+			POST, "a", "b", "c").get();
+
+		assertThat(notAllowedException.getStackTrace(), is(emptyArray()));
+	}
+
 	@Test
 	public void testNotAllowedWithOneComponentPathDoesNotAddSlashes() {
 		NotAllowedException notAllowedException = notAllowed(PUT, "a").get();
@@ -78,6 +87,13 @@ public class ExceptionSupplierUtilTest {
 		assertThat(notFoundException.getMessage(), is(expected));
 	}
 
+	@Test
+	public void testNotFoundReturnsExceptionWithoutStackTrace() {
+		NotFoundException notFoundException = notFound("a", "b", "c").get();
+
+		assertThat(notFoundException.getStackTrace(), is(emptyArray()));
+	}
+
 	@Test
 	public void testNotFoundWithOneComponentPathDoesNotAddSlashes() {
 		NotFoundException notFoundException = notFound("a").get();
@@ -0,0 +1,394 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.endpoint;
+
+import static com.liferay.apio.architect.impl.internal.unsafe.Unsafe.unsafeCast;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
+import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
+import javax.ws.rs.core.GenericEntity;
+
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageEndpointImplTest {
+
+	@Test
+	public void testGetCollectionItemSingleModelFallsBackToSyncGetter() {
+		ItemRoutes<String, String> itemRoutes = Mockito.mock(ItemRoutes.class);
+
+		Mockito.when(
+			itemRoutes.getAsyncItemFunctionOptional()
+		).thenReturn(
+			Optional.empty()
+		);
+
+		PageEndpointImpl<String, String> pageEndpointImpl =
+			_createPageEndpointImpl(
+				itemRoutes, null, Optional.empty(),
+				id -> Try.success(_createSingleModel(id)));
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		pageEndpointImpl.getCollectionItemSingleModel("Apio", asyncResponse);
+
+		Try<SingleModel<String>> singleModelTry = _getResumedTry(asyncResponse);
+
+		SingleModel<String> singleModel = singleModelTry.getUnchecked();
+
+		assertThat(singleModel.getModel(), is("Apio"));
+	}
+
+	@Test
+	public void testGetCollectionItemSingleModelResumesAfterAsyncGetter() {
+		CompletableFuture<SingleModel<String>> completableFuture =
+			new CompletableFuture<>();
+
+		ItemRoutes<String, String> itemRoutes = Mockito.mock(ItemRoutes.class);
+
+		AsyncGetItemFunction<String, String> asyncGetItemFunction =
+			httpServletRequest -> id -> Try.success(completableFuture);
+
+		Mockito.when(
+			itemRoutes.getAsyncItemFunctionOptional()
+		).thenReturn(
+			Optional.of(asyncGetItemFunction)
+		);
+
+		PageEndpointImpl<String, String> pageEndpointImpl =
+			_createPageEndpointImpl(
+				itemRoutes, null, Optional.empty(),
+				__ -> Try.fail(new IllegalStateException()));
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		pageEndpointImpl.getCollectionItemSingleModel("Apio", asyncResponse);
+
+		Mockito.verify(
+			asyncResponse
+		).setTimeout(
+			60, SECONDS
+		);
+
+		Mockito.verify(
+			asyncResponse, Mockito.never()
+		).resume(
+			Mockito.any(Object.class)
+		);
+
+		completableFuture.complete(_createSingleModel("Apio"));
+
+		Try<SingleModel<String>> singleModelTry = _getResumedTry(asyncResponse);
+
+		SingleModel<String> singleModel = singleModelTry.getUnchecked();
+
+		assertThat(singleModel.getModel(), is("Apio"));
+	}
+
+	@Test
+	public void testGetCollectionPageFallsBackToSyncGetter() {
+		Page<String> page = Mockito.mock(Page.class);
+
+		CollectionRoutes<String, String> collectionRoutes = Mockito.mock(
+			CollectionRoutes.class);
+
+		GetPageFunction<String> getPageFunction =
+			httpServletRequest -> Try.success(page);
+
+		Mockito.when(
+			collectionRoutes.getAsyncGetPageFunctionOptional()
+		).thenReturn(
+			Optional.empty()
+		);
+
+		Mockito.when(
+			collectionRoutes.getGetPageFunctionOptional()
+		).thenReturn(
+			Optional.of(getPageFunction)
+		);
+
+		PageEndpointImpl<String, String> pageEndpointImpl =
+			_createPageEndpointImpl(
+				null, collectionRoutes, Optional.empty(),
+				__ -> Try.fail(new IllegalStateException()));
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		pageEndpointImpl.getCollectionPage(asyncResponse);
+
+		Try<Page<String>> pageTry = _getResumedTry(asyncResponse);
+
+		assertThat(pageTry.getUnchecked(), is(page));
+	}
+
+	@Test
+	public void testGetCollectionPageUnwrapsAsyncGetterFailure() {
+		CompletableFuture<Page<String>> completableFuture =
+			new CompletableFuture<>();
+
+		CollectionRoutes<String, String> collectionRoutes = Mockito.mock(
+			CollectionRoutes.class);
+
+		AsyncGetPageFunction<String> asyncGetPageFunction =
+			httpServletRequest -> Try.success(
+				completableFuture.thenApply(Function.identity()));
+
+		Mockito.when(
+			collectionRoutes.getAsyncGetPageFunctionOptional()
+		).thenReturn(
+			Optional.of(asyncGetPageFunction)
+		);
+
+		PageEndpointImpl<String, String> pageEndpointImpl =
+			_createPageEndpointImpl(
+				null, collectionRoutes, Optional.empty(),
+				__ -> Try.fail(new IllegalStateException()));
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		pageEndpointImpl.getCollectionPage(asyncResponse);
+
+		completableFuture.completeExceptionally(new NotFoundException());
+
+		Try<Page<String>> pageTry = _getResumedTry(asyncResponse);
+
+		assertThat(pageTry.isFailure(), is(true));
+
+		pageTry.ifFailure(
+			exception -> assertThat(
+				exception, is(instanceOf(NotFoundException.class))));
+	}
+
+	@Test
+	public void testGetNestedCollectionPageFallsBackToSyncGetter() {
+		Page<String> page = Mockito.mock(Page.class);
+
+		NestedCollectionRoutes<String, String, Object> nestedCollectionRoutes =
+			Mockito.mock(NestedCollectionRoutes.class);
+
+		NestedGetPageFunction<String, Object> nestedGetPageFunction =
+			httpServletRequest -> path -> identifier -> {
+				assertThat(path.getId(), is("Apio"));
+				assertThat(identifier, is("Apio identifier"));
+
+				return Try.success(page);
+			};
+
+		Mockito.when(
+			nestedCollectionRoutes.getAsyncNestedGetPageFunctionOptional()
+		).thenReturn(
+			Optional.empty()
+		);
+
+		Mockito.when(
+			nestedCollectionRoutes.getNestedGetPageFunctionOptional()
+		).thenReturn(
+			Optional.of(nestedGetPageFunction)
+		);
+
+		PageEndpointImpl<String, String> pageEndpointImpl =
+			_createPageEndpointImpl(
+				null, null, Optional.of(nestedCollectionRoutes),
+				id -> Try.success(_createSingleModel(id)));
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		pageEndpointImpl.getNestedCollectionPage(
+			"Apio", "nested", asyncResponse);
+
+		Try<Page<String>> pageTry = _getResumedTry(asyncResponse);
+
+		assertThat(pageTry.getUnchecked(), is(page));
+	}
+
+	@Test
+	public void testGetNestedCollectionPageResumesAfterAsyncGetter() {
+		Page<String> page = Mockito.mock(Page.class);
+
+		NestedCollectionRoutes<String, String, Object> nestedCollectionRoutes =
+			Mockito.mock(NestedCollectionRoutes.class);
+
+		AsyncNestedGetPageFunction<String, Object> asyncNestedGetPageFunction =
+			httpServletRequest -> path -> identifier -> {
+				assertThat(path.getId(), is("Apio"));
+				assertThat(identifier, is("Apio identifier"));
+
+				return Try.success(CompletableFuture.completedFuture(page));
+			};
+
+		Mockito.when(
+			nestedCollectionRoutes.getAsyncNestedGetPageFunctionOptional()
+		).thenReturn(
+			Optional.of(asyncNestedGetPageFunction)
+		);
+
+		PageEndpointImpl<String, String> pageEndpointImpl =
+			_createPageEndpointImpl(
+				null, null, Optional.of(nestedCollectionRoutes),
+				id -> Try.success(_createSingleModel(id)));
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		pageEndpointImpl.getNestedCollectionPage(
+			"Apio", "nested", asyncResponse);
+
+		Try<Page<String>> pageTry = _getResumedTry(asyncResponse);
+
+		assertThat(pageTry.getUnchecked(), is(page));
+	}
+
+	@Test
+	public void testTimeoutResumesWithServiceUnavailable() {
+		CollectionRoutes<String, String> collectionRoutes = Mockito.mock(
+			CollectionRoutes.class);
+
+		AsyncGetPageFunction<String> asyncGetPageFunction =
+			httpServletRequest -> Try.success(new CompletableFuture<>());
+
+		Mockito.when(
+			collectionRoutes.getAsyncGetPageFunctionOptional()
+		).thenReturn(
+			Optional.of(asyncGetPageFunction)
+		);
+
+		PageEndpointImpl<String, String> pageEndpointImpl =
+			_createPageEndpointImpl(
+				null, collectionRoutes, Optional.empty(),
+				__ -> Try.fail(new IllegalStateException()));
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		pageEndpointImpl.getCollectionPage(asyncResponse);
+
+		ArgumentCaptor<TimeoutHandler> argumentCaptor = ArgumentCaptor.forClass(
+			TimeoutHandler.class);
+
+		Mockito.verify(
+			asyncResponse
+		).setTimeoutHandler(
+			argumentCaptor.capture()
+		);
+
+		TimeoutHandler timeoutHandler = argumentCaptor.getValue();
+
+		timeoutHandler.handleTimeout(asyncResponse);
+
+		Try<Page<String>> pageTry = _getResumedTry(asyncResponse);
+
+		assertThat(pageTry.isFailure(), is(true));
+
+		pageTry.ifFailure(
+			exception -> assertThat(
+				exception, is(instanceOf(ServiceUnavailableException.class))));
+	}
+
+	private static PageEndpointImpl<String, String> _createPageEndpointImpl(
+		ItemRoutes<String, String> itemRoutes,
+		CollectionRoutes<String, String> collectionRoutes,
+		Optional<NestedCollectionRoutes<String, String, Object>> optional,
+		Function<String, Try<SingleModel<String>>> singleModelFunction) {
+
+		RelatedCollection<?> relatedCollection = Mockito.mock(
+			RelatedCollection.class);
+
+		Mockito.when(
+			relatedCollection.getIdentifierClass()
+		).thenReturn(
+			unsafeCast(NestedIdentifier.class)
+		);
+
+		Representor<String> representor = Mockito.mock(Representor.class);
+
+		Mockito.when(
+			representor.getRelatedCollections()
+		).thenAnswer(
+			__ -> Stream.of(relatedCollection)
+		);
+
+		Mockito.when(
+			representor.getIdentifier(Mockito.anyString())
+		).thenAnswer(
+			invocation -> invocation.getArgument(0) + " identifier"
+		);
+
+		return new PageEndpointImpl<>(
+			"name", null,
+			__ -> Optional.of(unsafeCast(NestedIdentifier.class)),
+			singleModelFunction, () -> Optional.ofNullable(collectionRoutes),
+			() -> Optional.of(representor),
+			() -> Optional.ofNullable(itemRoutes), __ -> optional,
+			Path::getId);
+	}
+
+	private static SingleModel<String> _createSingleModel(String model) {
+		return new SingleModelImpl<>(model, "name", emptyList());
+	}
+
+	private static <U> Try<U> _getResumedTry(AsyncResponse asyncResponse) {
+		ArgumentCaptor<GenericEntity> argumentCaptor = ArgumentCaptor.forClass(
+			GenericEntity.class);
+
+		Mockito.verify(
+			asyncResponse
+		).resume(
+			argumentCaptor.capture()
+		);
+
+		GenericEntity<?> genericEntity = argumentCaptor.getValue();
+
+		return unsafeCast(genericEntity.getEntity());
+	}
+
+	private interface NestedIdentifier extends Identifier<String> {
+	}
+
+}
\ No newline at end of file
@@ -72,6 +72,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -516,6 +517,18 @@ public class FormUtilTest {
 		fieldFormBiConsumer.accept("double", doubleList -> doubleList::add);
 	}
 
+	@Test
+	public void testGetRequiredDoubleIgnoresExponent() {
+		List<Double> list = new ArrayList<>();
+
+		FieldFormBiConsumer<List<Double>, Double> fieldFormBiConsumer =
+			getRequiredDouble(_valueBody("1e3"), list);
+
+		fieldFormBiConsumer.accept("double", doubleList -> doubleList::add);
+
+		assertThat(list, is(Arrays.asList(1.0D)));
+	}
+
 	@Test
 	public void testGetRequiredDoubleListExtractsDoubles() {
 		List<Double> list = new ArrayList<>();
@@ -548,6 +561,27 @@ public class FormUtilTest {
 		fieldFormBiConsumer.accept("list", doubleList -> doubleList::addAll);
 	}
 
+	@Test
+	public void testGetRequiredDoubleUsesDefaultLocaleNumberFormat() {
+		Locale locale = Locale.getDefault();
+
+		Locale.setDefault(Locale.GERMANY);
+
+		try {
+			List<Double> list = new ArrayList<>();
+
+			FieldFormBiConsumer<List<Double>, Double> fieldFormBiConsumer =
+				getRequiredDouble(_valueBody("42.5"), list);
+
+			fieldFormBiConsumer.accept("double", doubleList -> doubleList::add);
+
+			assertThat(list, is(Arrays.asList(425.0D)));
+		}
+		finally {
+			Locale.setDefault(locale);
+		}
+	}
+
 	@Test
 	public void testGetRequiredFileExtractsFile() {
 		List<BinaryFile> list = new ArrayList<>();
@@ -634,6 +668,22 @@ public class FormUtilTest {
 		_validateLongList(list);
 	}
 
+	@Test
+	public void testGetRequiredLongExtractsNineteenDigitLong() {
+		List<Long> list = new ArrayList<>();
+
+		FieldFormBiConsumer<List<Long>, List<Long>> fieldFormBiConsumer =
+			getRequiredLongList(
+				_valueListBody("1234567890123456789", "-1234567890123456789"),
+				list);
+
+		fieldFormBiConsumer.accept("list", longList -> longList::addAll);
+
+		assertThat(
+			list,
+			is(Arrays.asList(1234567890123456789L, -1234567890123456789L)));
+	}
+
 	@Test(expected = BadRequestException.class)
 	public void testGetRequiredLongFailsIfNotALong() {
 		List<Long> list = new ArrayList<>();
@@ -654,6 +704,18 @@ public class FormUtilTest {
 		fieldFormBiConsumer.accept("long", longList -> longList::add);
 	}
 
+	@Test
+	public void testGetRequiredLongIgnoresExponent() {
+		List<Long> list = new ArrayList<>();
+
+		FieldFormBiConsumer<List<Long>, Long> fieldFormBiConsumer =
+			getRequiredLong(_valueBody("1e3"), list);
+
+		fieldFormBiConsumer.accept("long", longList -> longList::add);
+
+		assertThat(list, is(Arrays.asList(1L)));
+	}
+
 	@Test
 	public void testGetRequiredLongListExtractsLongs() {
 		List<Long> list = new ArrayList<>();
@@ -686,6 +748,27 @@ public class FormUtilTest {
 		fieldFormBiConsumer.accept("list", longList -> longList::addAll);
 	}
 
+	@Test
+	public void testGetRequiredLongUsesDefaultLocaleNumberFormat() {
+		Locale locale = Locale.getDefault();
+
+		Locale.setDefault(Locale.GERMANY);
+
+		try {
+			List<Long> list = new ArrayList<>();
+
+			FieldFormBiConsumer<List<Long>, Long> fieldFormBiConsumer =
+				getRequiredLong(_valueBody("1.000"), list);
+
+			fieldFormBiConsumer.accept("long", longList -> longList::add);
+
+			assertThat(list, is(Arrays.asList(1000L)));
+		}
+		finally {
+			Locale.setDefault(locale);
+		}
+	}
+
 	@Test
 	public void testGetRequiredStringExtractsString() {
 		List<String> list = new ArrayList<>();
@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.jaxrs.json.filter;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.impl.internal.pagination.PageImpl;
+import com.liferay.apio.architect.impl.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.internal.representor.RepresentorImpl;
+import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.impl.internal.version.VersionUtil;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.Representor.Builder;
+
+import java.lang.reflect.Field;
+
+import java.net.URI;
+
+import java.util.Date;
+import java.util.Optional;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.UriInfo;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ConditionalRequestFilterTest {
+
+	@Test
+	public void testFilterAddsHeadersToSingleModelResponses()
+		throws Exception {
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("GET", null);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(
+				new SingleModelImpl<>(2, "name", emptyList()), headers);
+
+		_createConditionalRequestFilter().filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.getFirst(ETAG), is(_createEntityTag("2")));
+		assertThat(headers.getFirst(LAST_MODIFIED), is(new Date(2)));
+
+		Mockito.verify(
+			containerResponseContext, Mockito.never()
+		).setStatus(
+			Mockito.anyInt()
+		);
+	}
+
+	@Test
+	public void testFilterAnswersNotModifiedIfWeakEntityTagMatches()
+		throws Exception {
+
+		String ifNoneMatch = _createEntityTag("2").toString();
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("GET", ifNoneMatch);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.putSingle(CONTENT_TYPE, "application/json");
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(
+				new SingleModelImpl<>(2, "name", emptyList()), headers);
+
+		_createConditionalRequestFilter().filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.getFirst(CONTENT_TYPE), is(nullValue()));
+		assertThat(headers.getFirst(ETAG), is(_createEntityTag("2")));
+
+		Mockito.verify(
+			containerResponseContext
+		).setEntity(
+			null
+		);
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			304
+		);
+	}
+
+	@Test
+	public void testFilterDoesNotAddLastModifiedToPageResponses()
+		throws Exception {
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("GET", null);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(
+				new PageImpl<>(
+					"name", new PageItems<>(singletonList(2), 1),
+					new PaginationImpl(10, 1), emptyList()),
+				headers);
+
+		_createConditionalRequestFilter().filter(
+			containerRequestContext, containerResponseContext);
+
+		EntityTag entityTag = (EntityTag)headers.getFirst(ETAG);
+
+		assertThat(entityTag.isWeak(), is(true));
+		assertThat(headers.containsKey(LAST_MODIFIED), is(false));
+	}
+
+	@Test
+	public void testFilterIgnoresNonGetRequests() throws Exception {
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("POST", null);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(
+				new SingleModelImpl<>(2, "name", emptyList()), headers);
+
+		_createConditionalRequestFilter().filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.isEmpty(), is(true));
+
+		Mockito.verify(
+			containerResponseContext, Mockito.never()
+		).setStatus(
+			Mockito.anyInt()
+		);
+	}
+
+	private static EntityTag _createEntityTag(String version) {
+		return VersionUtil.createEntityTag(
+			version, "localhost/p/name", "application/json", null);
+	}
+
+	/**
+	 * Creates a representor whose version and last modified date are the
+	 * item's value.
+	 */
+	private static Representor<Integer> _createRepresentor() {
+		Builder<Integer, Integer> builder = new RepresentorImpl.BuilderImpl<>(
+			IntegerIdentifier.class);
+
+		return builder.types(
+			"Type"
+		).identifier(
+			integer -> integer
+		).addLastModified(
+			Date::new
+		).addVersion(
+			String::valueOf
+		).build();
+	}
+
+	/**
+	 * Mocks a container request context whose {@code Request} answers with a
+	 * {@code 304 Not Modified} response if the {@code If-None-Match} header
+	 * matches the weak entity tag, like the JAX-RS runtime does.
+	 */
+	private static ContainerRequestContext _mockContainerRequestContext(
+		String method, String ifNoneMatch) {
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			method
+		);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString(ACCEPT)
+		).thenReturn(
+			"application/json"
+		);
+
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getRequestUri()
+		).thenReturn(
+			URI.create("localhost/p/name")
+		);
+
+		Mockito.when(
+			containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		Request request = Mockito.mock(Request.class);
+
+		Mockito.when(
+			request.evaluatePreconditions(
+				Mockito.any(Date.class), Mockito.any(EntityTag.class))
+		).thenAnswer(
+			invocation -> _notModified(ifNoneMatch, invocation.getArgument(1))
+		);
+
+		Mockito.when(
+			request.evaluatePreconditions(Mockito.any(EntityTag.class))
+		).thenAnswer(
+			invocation -> _notModified(ifNoneMatch, invocation.getArgument(0))
+		);
+
+		Mockito.when(
+			containerRequestContext.getRequest()
+		).thenReturn(
+			request
+		);
+
+		return containerRequestContext;
+	}
+
+	private static ContainerResponseContext _mockContainerResponseContext(
+		Object value, MultivaluedMap<String, Object> headers) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getStatus()
+		).thenReturn(
+			200
+		);
+
+		Mockito.when(
+			containerResponseContext.getEntity()
+		).thenReturn(
+			Try.success(value)
+		);
+
+		Mockito.when(
+			containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		return containerResponseContext;
+	}
+
+	private static ResponseBuilder _notModified(
+		String ifNoneMatch, EntityTag entityTag) {
+
+		if ((ifNoneMatch == null) ||
+			!entityTag.equals(EntityTag.valueOf(ifNoneMatch))) {
+
+			return null;
+		}
+
+		return Response.notModified(entityTag);
+	}
+
+	private ConditionalRequestFilter _createConditionalRequestFilter()
+		throws Exception {
+
+		ConditionalRequestFilter conditionalRequestFilter =
+			new ConditionalRequestFilter();
+
+		RepresentableManager representableManager = Mockito.mock(
+			RepresentableManager.class);
+
+		Mockito.<Optional<Representor<Integer>>>when(
+			representableManager.getRepresentorOptional("name")
+		).thenReturn(
+			Optional.of(_createRepresentor())
+		);
+
+		Field field = ConditionalRequestFilter.class.getDeclaredField(
+			"_representableManager");
+
+		field.setAccessible(true);
+
+		field.set(conditionalRequestFilter, representableManager);
+
+		return conditionalRequestFilter;
+	}
+
+	private interface IntegerIdentifier extends Identifier<Integer> {
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.jaxrs.json.filter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.functional.Try;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import java.util.Date;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RangeRequestFilterTest {
+
+	@Test
+	public void testFilterAnswersNotSatisfiableIfRangeIsOutOfTheFile()
+		throws IOException {
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("GET", "bytes=20-30", null);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.putSingle(CONTENT_TYPE, "text/plain");
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(_createBinaryFile(), headers);
+
+		_rangeRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.getFirst("Content-Range"), is("bytes */10"));
+		assertThat(headers.getFirst(CONTENT_TYPE), is(nullValue()));
+
+		Mockito.verify(
+			containerResponseContext
+		).setEntity(
+			null
+		);
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			416
+		);
+	}
+
+	@Test
+	public void testFilterAnswersPartialContentIfIfRangeMatches()
+		throws IOException {
+
+		Path path = Files.createTempFile("binary", ".txt");
+
+		path.toFile().deleteOnExit();
+
+		Files.write(path, "0123456789".getBytes(UTF_8));
+
+		Instant instant = Instant.ofEpochSecond(1465981200L);
+
+		Files.setLastModifiedTime(path, FileTime.from(instant));
+
+		String ifRange = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+			instant.atZone(ZoneOffset.UTC));
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("GET", "bytes=2-5", ifRange);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(
+				new BinaryFile(path, "text/plain"), headers);
+
+		_rangeRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.getFirst("Content-Range"), is("bytes 2-5/10"));
+		assertThat(headers.getFirst(LAST_MODIFIED), is(Date.from(instant)));
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			206
+		);
+	}
+
+	@Test
+	public void testFilterAnswersPartialContentIfRangeIsSingle()
+		throws IOException {
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("GET", "bytes=2-5", null);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(_createBinaryFile(), headers);
+
+		_rangeRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.getFirst("Accept-Ranges"), is("bytes"));
+		assertThat(headers.getFirst("Content-Range"), is("bytes 2-5/10"));
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			206
+		);
+	}
+
+	@Test
+	public void testFilterIgnoresNonGetRequests() throws IOException {
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("POST", "bytes=2-5", null);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(_createBinaryFile(), headers);
+
+		_rangeRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.isEmpty(), is(true));
+
+		Mockito.verify(
+			containerResponseContext, Mockito.never()
+		).setStatus(
+			Mockito.anyInt()
+		);
+	}
+
+	@Test
+	public void testFilterIgnoresRangeIfIfRangeDoesNotMatch()
+		throws IOException {
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext(
+				"GET", "bytes=2-5", "Wed, 15 Jun 2016 09:00:00 GMT");
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(_createBinaryFile(), headers);
+
+		_rangeRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		assertThat(headers.getFirst("Accept-Ranges"), is("bytes"));
+		assertThat(headers.containsKey("Content-Range"), is(false));
+
+		Mockito.verify(
+			containerResponseContext, Mockito.never()
+		).setStatus(
+			Mockito.anyInt()
+		);
+	}
+
+	private static BinaryFile _createBinaryFile() {
+		return new BinaryFile(
+			new ByteArrayInputStream("0123456789".getBytes(UTF_8)), 10L,
+			"text/plain");
+	}
+
+	private static ContainerRequestContext _mockContainerRequestContext(
+		String method, String range, String ifRange) {
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			method
+		);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString("Range")
+		).thenReturn(
+			range
+		);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString("If-Range")
+		).thenReturn(
+			ifRange
+		);
+
+		return containerRequestContext;
+	}
+
+	private static ContainerResponseContext _mockContainerResponseContext(
+		BinaryFile binaryFile, MultivaluedMap<String, Object> headers) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getStatus()
+		).thenReturn(
+			200
+		);
+
+		Mockito.when(
+			containerResponseContext.getEntity()
+		).thenReturn(
+			Try.success(binaryFile)
+		);
+
+		Mockito.when(
+			containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		return containerResponseContext;
+	}
+
+	private final RangeRequestFilter _rangeRequestFilter =
+		new RangeRequestFilter();
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.jaxrs.json.reader;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.form.Body;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class JSONBodyMessageBodyReaderTest {
+
+	@Test(expected = BadRequestException.class)
+	public void testReadingAPrimitiveThrowsBadRequest() throws IOException {
+		_readBody("\"Apio\"");
+	}
+
+	@Test
+	public void testReadingAnArrayReturnsItsObjectsAsMembers()
+		throws IOException {
+
+		Body body = _readBody(
+			"[{\"name\": \"First\"}, 42, {\"name\": \"Second\"}]");
+
+		Optional<List<Body>> optional = body.getBodyMembersOptional();
+
+		List<Body> bodies = optional.get();
+
+		assertThat(bodies, hasSize(2));
+
+		Body firstBody = bodies.get(0);
+
+		assertThat(
+			firstBody.getValueOptional("name"),
+			is(optionalWithValue(is("First"))));
+
+		Body secondBody = bodies.get(1);
+
+		assertThat(
+			secondBody.getValueOptional("name"),
+			is(optionalWithValue(is("Second"))));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testReadingAnEmptyBodyThrowsBadRequest() throws IOException {
+		_readBody("");
+	}
+
+	@Test
+	public void testReadingAnObjectReturnsItsPrimitivesAndLists()
+		throws IOException {
+
+		Body body = _readBody(
+			"{\"string\": \"Apio\", \"number\": 42.10, \"boolean\": true, " +
+				"\"null\": null, \"object\": {\"string\": \"Nested\"}, " +
+				"\"list\": [\"Apio\", 42, false, {}, []]}");
+
+		assertThat(
+			body.getValueOptional("string"), is(optionalWithValue(is("Apio"))));
+		assertThat(
+			body.getValueOptional("number"),
+			is(optionalWithValue(is("42.10"))));
+		assertThat(
+			body.getValueOptional("boolean"),
+			is(optionalWithValue(is("true"))));
+		assertThat(body.getValueOptional("null"), is(emptyOptional()));
+		assertThat(body.getValueOptional("object"), is(emptyOptional()));
+		assertThat(body.getValueOptional("list"), is(emptyOptional()));
+		assertThat(body.getValueListOptional("string"), is(emptyOptional()));
+		assertThat(
+			body.getValueListOptional("list"),
+			is(optionalWithValue(contains("Apio", "42", "false"))));
+		assertThat(body.getBodyMembersOptional(), is(emptyOptional()));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testReadingTrailingContentThrowsBadRequest()
+		throws IOException {
+
+		_readBody("{\"name\": \"Apio\"} {}");
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testReadingUnfinishedObjectThrowsBadRequest()
+		throws IOException {
+
+		_readBody("{\"name\": \"Apio\"");
+	}
+
+	private static Body _readBody(String json) throws IOException {
+		JSONBodyMessageBodyReader jsonBodyMessageBodyReader =
+			new JSONBodyMessageBodyReader();
+
+		return jsonBodyMessageBodyReader.readFrom(
+			Body.class, null, null, null, null,
+			new ByteArrayInputStream(json.getBytes(UTF_8)));
+	}
+
+}
\ No newline at end of file
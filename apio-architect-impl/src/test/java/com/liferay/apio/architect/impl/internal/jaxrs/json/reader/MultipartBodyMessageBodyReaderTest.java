@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.jaxrs.json.reader;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.form.Body;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import java.lang.reflect.Field;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MultipartBodyMessageBodyReaderTest {
+
+	@Test
+	public void testReadingKeepsEveryPart() throws Exception {
+		Body body = _readBody(false, 10);
+
+		assertThat(_getValue(body, "name"), is("Apio"));
+		assertThat(_getValueList(body, "tags"), contains("first", "second"));
+
+		BinaryFile smallBinaryFile = _getFileList(body, "files").get(0);
+
+		assertThat(smallBinaryFile.getMimeType(), is("text/plain"));
+		assertThat(smallBinaryFile.getSize(), is(5L));
+		assertThat(_read(smallBinaryFile.getInputStream()), is("small"));
+
+		BinaryFile largeBinaryFile = _getFile(body, "file");
+
+		assertThat(largeBinaryFile.getSize(), is(100L));
+		assertThat(_read(largeBinaryFile.getInputStream()), is(_LARGE));
+	}
+
+	@Test
+	public void testReadingIgnoresMalformedMemoryThreshold() throws Exception {
+		Body body = _readBody(true, "Apio");
+
+		BinaryFile largeBinaryFile = _getFile(body, "file");
+
+		assertThat(largeBinaryFile.getSize(), is(100L));
+		assertThat(_read(largeBinaryFile.getInputStream()), is(_LARGE));
+	}
+
+	@Test
+	public void testStreamingFailsIfPartsFollowTheLargeFile() throws Exception {
+		String multipart = String.join(
+			"",
+			_part(
+				"name=\"file\"; filename=\"large.txt\"\r\n" +
+					"Content-Type: text/plain",
+				_LARGE),
+			_part("name=\"name\"", "Apio"), "--boundary--\r\n");
+
+		Body body = _readBody(multipart, true, 10);
+
+		assertThat(body.getValueOptional("name"), is(emptyOptional()));
+
+		BinaryFile largeBinaryFile = _getFile(body, "file");
+
+		try {
+			_read(largeBinaryFile.getInputStream());
+
+			throw new AssertionError("The file shouldn't be read completely");
+		}
+		catch (BadRequestException bre) {
+			assertThat(
+				bre.getMessage(),
+				is(
+					"Files bigger than the memory threshold must be sent as " +
+						"the last part of the request"));
+		}
+	}
+
+	@Test
+	public void testStreamingKeepsFilesUnderTheThresholdInMemory()
+		throws Exception {
+
+		Body body = _readBody(true, 1024);
+
+		assertThat(_getValue(body, "name"), is("Apio"));
+
+		BinaryFile largeBinaryFile = _getFile(body, "file");
+
+		assertThat(largeBinaryFile.getSize(), is(100L));
+		assertThat(_read(largeBinaryFile.getInputStream()), is(_LARGE));
+	}
+
+	@Test
+	public void testStreamingKeepsTheLastLargeFileLive() throws Exception {
+		Body body = _readBody(true, 10);
+
+		assertThat(_getValue(body, "name"), is("Apio"));
+		assertThat(_getValueList(body, "tags"), contains("first", "second"));
+
+		BinaryFile smallBinaryFile = _getFileList(body, "files").get(0);
+
+		assertThat(smallBinaryFile.getMimeType(), is("text/plain"));
+		assertThat(smallBinaryFile.getSize(), is(5L));
+		assertThat(_read(smallBinaryFile.getInputStream()), is("small"));
+
+		BinaryFile largeBinaryFile = _getFile(body, "file");
+
+		assertThat(largeBinaryFile.getMimeType(), is("text/plain"));
+		assertThat(largeBinaryFile.getSize(), is(-1L));
+		assertThat(_read(largeBinaryFile.getInputStream()), is(_LARGE));
+	}
+
+	private static BinaryFile _getFile(Body body, String key) {
+		Optional<BinaryFile> optional = body.getFileOptional(key);
+
+		return optional.get();
+	}
+
+	private static List<BinaryFile> _getFileList(Body body, String key) {
+		Optional<List<BinaryFile>> optional = body.getFileListOptional(key);
+
+		return optional.get();
+	}
+
+	private static String _getValue(Body body, String key) {
+		Optional<String> optional = body.getValueOptional(key);
+
+		return optional.get();
+	}
+
+	private static List<String> _getValueList(Body body, String key) {
+		Optional<List<String>> optional = body.getValueListOptional(key);
+
+		return optional.get();
+	}
+
+	private static String _part(String disposition, String content) {
+		return "--boundary\r\nContent-Disposition: form-data; " + disposition +
+			"\r\n\r\n" + content + "\r\n";
+	}
+
+	private static String _read(InputStream inputStream) {
+		Scanner scanner = new Scanner(inputStream, "UTF-8");
+
+		return scanner.useDelimiter(
+			"\\A"
+		).next();
+	}
+
+	private static Body _readBody(boolean streaming, Object memoryThreshold)
+		throws Exception {
+
+		String multipart = String.join(
+			"", _part("name=\"name\"", "Apio"),
+			_part("name=\"tags[0]\"", "first"),
+			_part(
+				"name=\"files[0]\"; filename=\"small.txt\"\r\n" +
+					"Content-Type: text/plain",
+				"small"),
+			_part("name=\"tags[1]\"", "second"),
+			_part(
+				"name=\"file\"; filename=\"large.txt\"\r\n" +
+					"Content-Type: text/plain",
+				_LARGE),
+			"--boundary--\r\n");
+
+		return _readBody(multipart, streaming, memoryThreshold);
+	}
+
+	private static Body _readBody(
+			String multipart, boolean streaming, Object memoryThreshold)
+		throws Exception {
+
+		ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(
+			multipart.getBytes(UTF_8));
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getCharacterEncoding()
+		).thenReturn(
+			"UTF-8"
+		);
+
+		Mockito.when(
+			httpServletRequest.getContentType()
+		).thenReturn(
+			"multipart/form-data; boundary=boundary"
+		);
+
+		Mockito.when(
+			httpServletRequest.getInputStream()
+		).thenReturn(
+			new ServletInputStream() {
+
+				@Override
+				public int read() {
+					return byteArrayInputStream.read();
+				}
+
+				@Override
+				public int read(byte[] bytes, int offset, int length) {
+					return byteArrayInputStream.read(bytes, offset, length);
+				}
+
+			}
+		);
+
+		Mockito.when(
+			httpServletRequest.getMethod()
+		).thenReturn(
+			"POST"
+		);
+
+		MultipartBodyMessageBodyReader multipartBodyMessageBodyReader =
+			new MultipartBodyMessageBodyReader();
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("multipart.memory.threshold", memoryThreshold);
+		properties.put("multipart.streaming", streaming);
+
+		multipartBodyMessageBodyReader.activate(properties);
+
+		Field field = MultipartBodyMessageBodyReader.class.getDeclaredField(
+			"_httpServletRequest");
+
+		field.setAccessible(true);
+
+		field.set(multipartBodyMessageBodyReader, httpServletRequest);
+
+		return multipartBodyMessageBodyReader.readFrom(
+			Body.class, null, null, null, null, null);
+	}
+
+	private static final String _LARGE = String.join(
+		"", Collections.nCopies(10, "0123456789"));
+
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.jaxrs.json.writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.functional.Try;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BinaryResourceBodyWriterTest {
+
+	@Test
+	public void testWriterCopiesRangeOfStreamThatDoesNotSkip()
+		throws IOException {
+
+		InputStream inputStream = new FilterInputStream(
+			new ByteArrayInputStream(_CONTENT.getBytes(UTF_8))) {
+
+			@Override
+			public long skip(long n) {
+				return 0;
+			}
+
+		};
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.putSingle("Content-Range", "bytes 2-5/10");
+
+		String content = _write(
+			new BinaryFile(inputStream, 10L, "text/plain"), headers);
+
+		assertThat(content, is("2345"));
+		assertThat(headers.getFirst(CONTENT_LENGTH), is(4L));
+	}
+
+	@Test
+	public void testWriterCopiesWholeStream() throws IOException {
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		String content = _write(
+			new BinaryFile(
+				new ByteArrayInputStream(_CONTENT.getBytes(UTF_8)), 10L,
+				"text/plain"),
+			headers);
+
+		assertThat(content, is(_CONTENT));
+		assertThat(headers.getFirst(CONTENT_LENGTH), is(10L));
+		assertThat(headers.getFirst(CONTENT_TYPE), is("text/plain"));
+	}
+
+	@Test
+	public void testWriterTransfersRangeOfPath() throws IOException {
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.putSingle("Content-Range", "bytes 3-9/10");
+
+		String content = _write(
+			new BinaryFile(_createPath(), "text/plain"), headers);
+
+		assertThat(content, is("3456789"));
+		assertThat(headers.getFirst(CONTENT_LENGTH), is(7L));
+	}
+
+	@Test
+	public void testWriterTransfersWholePath() throws IOException {
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		String content = _write(
+			new BinaryFile(_createPath(), "text/plain"), headers);
+
+		assertThat(content, is(_CONTENT));
+		assertThat(headers.getFirst(CONTENT_LENGTH), is(10L));
+		assertThat(headers.getFirst(CONTENT_TYPE), is("text/plain"));
+	}
+
+	private static Path _createPath() throws IOException {
+		Path path = Files.createTempFile("binary", ".txt");
+
+		path.toFile().deleteOnExit();
+
+		return Files.write(path, _CONTENT.getBytes(UTF_8));
+	}
+
+	private static String _write(
+			BinaryFile binaryFile, MultivaluedMap<String, Object> headers)
+		throws IOException {
+
+		BinaryResourceBodyWriter binaryResourceBodyWriter =
+			new BinaryResourceBodyWriter();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		binaryResourceBodyWriter.writeTo(
+			(Try.Success<BinaryFile>)Try.success(binaryFile), null, null, null,
+			null, headers, byteArrayOutputStream);
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private static final String _CONTENT = "0123456789";
+
+}
\ No newline at end of file
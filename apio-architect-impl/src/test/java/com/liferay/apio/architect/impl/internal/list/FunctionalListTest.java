@@ -34,6 +34,39 @@ import org.junit.Test;
  */
 public class FunctionalListTest {
 
+	@Test
+	public void testDottedStringFromMultiElementListJoinsElements() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		String dottedString = stringFunctionalList.dottedString();
+
+		assertThat(dottedString, is("element1.element2.element3.element4"));
+	}
+
+	@Test
+	public void testDottedStringFromOneElementListReturnsElement() {
+		FunctionalList<String> stringFunctionalList = new FunctionalList<>(
+			null, "test");
+
+		assertThat(stringFunctionalList.dottedString(), is("test"));
+	}
+
+	@Test
+	public void testListsCreatedFromSameListDoNotShareElements() {
+		FunctionalList<String> stringFunctionalList = new FunctionalList<>(
+			null, "element1");
+
+		FunctionalList<String> stringFunctionalList1 = new FunctionalList<>(
+			stringFunctionalList, "element2");
+		FunctionalList<String> stringFunctionalList2 = new FunctionalList<>(
+			stringFunctionalList, "element3");
+
+		assertThat(stringFunctionalList1.tailStream(), contains("element2"));
+		assertThat(stringFunctionalList2.tailStream(), contains("element3"));
+		assertThat(
+			stringFunctionalList2.dottedString(), is("element1.element3"));
+	}
+
 	@Test
 	public void testRetrievingHeadFromMultiElementListReturnsFirstElement() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
@@ -129,6 +162,13 @@ public class FunctionalListTest {
 		assertThat(stream, empty());
 	}
 
+	@Test
+	public void testSizeReturnsNumberOfElements() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		assertThat(stringFunctionalList.size(), is(4));
+	}
+
 	private FunctionalList<String> _getFunctionalList() {
 		FunctionalList<String> stringFunctionalList1 = new FunctionalList<>(
 			null, "element1");
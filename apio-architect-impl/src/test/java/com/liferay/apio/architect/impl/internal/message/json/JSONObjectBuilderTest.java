@@ -33,6 +33,9 @@ import com.google.gson.JsonObject;
 
 import com.liferay.apio.architect.test.util.json.Conditions;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -451,6 +454,32 @@ public class JSONObjectBuilderTest {
 		assertThat(getJsonObject(), is(_aJsonObjectWithTheSolution));
 	}
 
+	@Test
+	public void testInvokingWriteToWritesTheSameStringAsToString()
+		throws IOException {
+
+		_jsonObjectBuilder.nestedField(
+			"object", "inner"
+		).stringValue(
+			"<Hello World!>"
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+			arrayValueStep -> arrayValueStep.addNumber(42),
+			arrayValueStep -> arrayValueStep.addBoolean(true)
+		);
+
+		StringWriter stringWriter = new StringWriter();
+
+		_jsonObjectBuilder.writeTo(stringWriter);
+
+		JsonObject jsonObject = getJsonObject();
+
+		assertThat(stringWriter.toString(), is(jsonObject.toString()));
+	}
+
 	protected JsonObject getJsonObject() {
 		return _jsonObjectBuilder.build();
 	}
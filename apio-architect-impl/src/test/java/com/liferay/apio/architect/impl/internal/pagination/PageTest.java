@@ -16,6 +16,7 @@ package com.liferay.apio.architect.impl.internal.pagination;
 
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static java.util.Collections.emptyList;
@@ -26,14 +27,17 @@ import static org.hamcrest.core.Is.is;
 
 import com.liferay.apio.architect.impl.internal.operation.OperationImpl;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.DeferredCountPageItems;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -58,6 +62,74 @@ public class PageTest {
 			"name", _pageItems, pagination, _path, _operations);
 	}
 
+	@Test
+	public void testCursorPageHasNextIfNextCursorIsPresent() {
+		Page<String> page = new PageImpl<>(
+			"", new PageItems<>(Collections.singleton("apio"), "next"),
+			new PaginationImpl(1, 1, "current"), _path, emptyList());
+
+		assertThat(
+			page.getCursorOptional(), is(optionalWithValue(is("current"))));
+		assertThat(
+			page.getNextCursorOptional(), is(optionalWithValue(is("next"))));
+		assertThat(page.getTotalCountOptional(), is(emptyOptional()));
+		assertThat(page.hasNext(), is(true));
+		assertThat(page.hasPrevious(), is(false));
+	}
+
+	@Test
+	public void testCursorPageHasNoNextIfNextCursorIsNotPresent() {
+		Page<String> page = new PageImpl<>(
+			"", new PageItems<>(Collections.singleton("apio"), 10, null),
+			new PaginationImpl(1, 4, "current"), _path, emptyList());
+
+		assertThat(page.getNextCursorOptional(), is(emptyOptional()));
+		assertThat(
+			page.getTotalCountOptional(), is(optionalWithValue(is(10))));
+		assertThat(page.hasNext(), is(false));
+		assertThat(page.hasPrevious(), is(false));
+	}
+
+	@Test
+	public void testDeferredTotalCountIsComputedOnce() {
+		AtomicInteger calls = new AtomicInteger();
+
+		PageItems<String> pageItems = new DeferredCountPageItems<>(
+			Collections.singleton("apio"),
+			() -> {
+				calls.incrementAndGet();
+
+				return 10;
+			});
+
+		Page<String> page = new PageImpl<>(
+			"", pageItems, new PaginationImpl(1, 4), _path, emptyList());
+
+		assertThat(calls.get(), is(0));
+		assertThat(page.getTotalCount(), is(10));
+		assertThat(page.getLastPageNumber(), is(10));
+		assertThat(page.hasNext(), is(true));
+		assertThat(calls.get(), is(1));
+	}
+
+	@Test
+	public void testDeferredTotalCountIsNotComputedIfOmitted() {
+		AtomicInteger calls = new AtomicInteger();
+
+		PageItems<String> pageItems = new DeferredCountPageItems<>(
+			Collections.singleton("apio"), calls::incrementAndGet);
+
+		Page<String> page = new PageImpl<>(
+			"", pageItems, new PaginationImpl(1, 4, null, true), _path,
+			emptyList());
+
+		assertThat(page.getTotalCountOptional(), is(emptyOptional()));
+		assertThat(page.getLastPageNumber(), is(5));
+		assertThat(page.hasNext(), is(true));
+		assertThat(page.hasPrevious(), is(true));
+		assertThat(calls.get(), is(0));
+	}
+
 	@Test
 	public void testGetItemsPerPageReturnsItemsPerPage() {
 		assertThat(_page.getItemsPerPage(), is(1));
@@ -128,6 +200,15 @@ public class PageTest {
 		assertThat(page.hasNext(), is(false));
 	}
 
+	@Test
+	public void testHasNextWithoutTotalCountReturnsFalseWhenPageIsNotFull() {
+		Page<String> page = new PageImpl<>(
+			"", _pageItems, new PaginationImpl(30, 1, null, true), _path,
+			emptyList());
+
+		assertThat(page.hasNext(), is(false));
+	}
+
 	@Test
 	public void testHasNextReturnsTrueWhenThereIsNext() {
 		assertThat(_page.hasNext(), is(true));
@@ -149,6 +230,20 @@ public class PageTest {
 		assertThat(_page.hasPrevious(), is(true));
 	}
 
+	@Test
+	public void testPageNumberPageIgnoresRequestedCursor() {
+		for (String cursor : Arrays.asList("", "current")) {
+			Page<String> page = new PageImpl<>(
+				"", new PageItems<>(Collections.singleton("apio"), 10),
+				new PaginationImpl(1, 4, cursor), _path, emptyList());
+
+			assertThat(page.getCursorOptional(), is(emptyOptional()));
+			assertThat(page.getLastPageNumber(), is(10));
+			assertThat(page.hasNext(), is(true));
+			assertThat(page.hasPrevious(), is(true));
+		}
+	}
+
 	private List<Operation> _operations;
 	private Page<String> _page;
 	private PageItems<String> _pageItems;
@@ -17,10 +17,17 @@ package com.liferay.apio.architect.impl.internal.provider;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import com.liferay.apio.architect.impl.internal.list.FunctionalList;
+import com.liferay.apio.architect.impl.internal.response.control.Embedded;
+
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+
 import org.junit.Test;
 
 import org.mockito.Mockito;
@@ -30,6 +37,24 @@ import org.mockito.Mockito;
  */
 public class EmbeddedProviderTest {
 
+	@Test(expected = BadRequestException.class)
+	public void testEmbeddedProviderRejectsTooDeepPaths() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("embedded.max.depth", "2");
+
+		_getPredicate("embedded.inner.other", properties);
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testEmbeddedProviderRejectsTooManyPaths() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("embedded.max.count", "2");
+
+		_getPredicate("embedded,other,another", properties);
+	}
+
 	@Test
 	public void testEmbeddedProviderReturnsAlwaysFalseIfMissingParam() {
 		Predicate<String> predicate = _getPredicate(null);
@@ -48,6 +73,25 @@ public class EmbeddedProviderTest {
 		assertThat(predicate.test("randomThing"), is(false));
 	}
 
+	@Test
+	public void testEmbeddedProviderReturnValidEmbeddedForPathElements() {
+		Embedded embedded = _getPredicate(
+			"embedded.inner.other", new HashMap<>());
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			null, "embedded");
+
+		FunctionalList<String> innerPathElements = new FunctionalList<>(
+			embeddedPathElements, "inner");
+
+		FunctionalList<String> otherPathElements = new FunctionalList<>(
+			embeddedPathElements, "other");
+
+		assertThat(embedded.isEmbedded(embeddedPathElements), is(true));
+		assertThat(embedded.isEmbedded(innerPathElements), is(true));
+		assertThat(embedded.isEmbedded(otherPathElements), is(false));
+	}
+
 	@Test
 	public void testEmbeddedProviderReturnValidEmbeddedIfNested() {
 		Predicate<String> predicate = _getPredicate("embedded.inner.other");
@@ -59,8 +103,16 @@ public class EmbeddedProviderTest {
 	}
 
 	private Predicate<String> _getPredicate(String embedded) {
+		return _getPredicate(embedded, new HashMap<>());
+	}
+
+	private Embedded _getPredicate(
+		String embedded, Map<String, Object> properties) {
+
 		EmbeddedProvider embeddedProvider = new EmbeddedProvider();
 
+		embeddedProvider.activate(properties);
+
 		HttpServletRequest httpServletRequest = Mockito.mock(
 			HttpServletRequest.class);
 
@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.impl.internal.provider;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -30,6 +33,26 @@ import org.mockito.Mockito;
  */
 public class PaginationProviderTest {
 
+	@Test
+	public void testPaginationProviderKeepsEmptyCursor() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("after")
+		).thenReturn(
+			""
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(
+			pagination.getCursorOptional(), is(optionalWithValue(is(""))));
+	}
+
 	@Test
 	public void testPaginationProviderReturnDefaultValuesIfError() {
 		PaginationProvider paginationProvider = new PaginationProvider();
@@ -100,6 +123,55 @@ public class PaginationProviderTest {
 
 		assertThat(pagination.getPageNumber(), is(6));
 		assertThat(pagination.getItemsPerPage(), is(42));
+		assertThat(pagination.getCursorOptional(), is(emptyOptional()));
+		assertThat(pagination.isTotalCountOmitted(), is(false));
+	}
+
+	@Test
+	public void testPaginationProviderReturnsPaginationWithoutTotalCount() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("total_count")
+		).thenReturn(
+			"false"
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(pagination.isTotalCountOmitted(), is(true));
+	}
+
+	@Test
+	public void testPaginationProviderReturnsPaginationWithCursorIfAfter() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("after")
+		).thenReturn(
+			"cursor"
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("per_page")
+		).thenReturn(
+			"42"
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(
+			pagination.getCursorOptional(),
+			is(optionalWithValue(is("cursor"))));
+		assertThat(pagination.getItemsPerPage(), is(42));
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.range;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ByteRangeTest {
+
+	@Test
+	public void testFromContentRangeWithInvalidHeaderReturnsEmpty() {
+		assertThat(ByteRange.fromContentRange(null), is(emptyOptional()));
+		assertThat(
+			ByteRange.fromContentRange("bytes */100"), is(emptyOptional()));
+		assertThat(
+			ByteRange.fromContentRange("bytes 10-5/100"), is(emptyOptional()));
+		assertThat(
+			ByteRange.fromContentRange("bytes 0-100/100"),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testFromContentRangeWithValidHeaderReturnsRange() {
+		ByteRange byteRange = _get(
+			ByteRange.fromContentRange("bytes 10-19/100"));
+
+		assertThat(byteRange.getFirst(), is(10L));
+		assertThat(byteRange.getLast(), is(19L));
+		assertThat(byteRange.getLength(), is(10L));
+		assertThat(byteRange.getSize(), is(100L));
+	}
+
+	@Test
+	public void testFromRangeWithClosedRangeReturnsRange() {
+		ByteRange byteRange = _get(ByteRange.fromRange("bytes=10-19", 100));
+
+		assertThat(byteRange.isSatisfiable(), is(true));
+		assertThat(byteRange.toContentRange(), is("bytes 10-19/100"));
+	}
+
+	@Test
+	public void testFromRangeWithInvalidHeaderReturnsEmpty() {
+		assertThat(ByteRange.fromRange(null, 100), is(emptyOptional()));
+		assertThat(ByteRange.fromRange("bytes=-", 100), is(emptyOptional()));
+		assertThat(
+			ByteRange.fromRange("bytes=20-10", 100), is(emptyOptional()));
+		assertThat(
+			ByteRange.fromRange("bytes=0-1,5-6", 100), is(emptyOptional()));
+		assertThat(ByteRange.fromRange("items=0-1", 100), is(emptyOptional()));
+	}
+
+	@Test
+	public void testFromRangeWithLastAfterSizeIsTruncated() {
+		ByteRange byteRange = _get(ByteRange.fromRange("bytes=90-200", 100));
+
+		assertThat(byteRange.toContentRange(), is("bytes 90-99/100"));
+	}
+
+	@Test
+	public void testFromRangeWithOpenRangeReturnsRangeUntilEnd() {
+		ByteRange byteRange = _get(ByteRange.fromRange("bytes=40-", 100));
+
+		assertThat(byteRange.getLength(), is(60L));
+		assertThat(byteRange.toContentRange(), is("bytes 40-99/100"));
+	}
+
+	@Test
+	public void testFromRangeWithStartAfterSizeIsNotSatisfiable() {
+		ByteRange byteRange = _get(ByteRange.fromRange("bytes=100-", 100));
+
+		assertThat(byteRange.isSatisfiable(), is(false));
+	}
+
+	@Test
+	public void testFromRangeWithSuffixRangeReturnsLastBytes() {
+		ByteRange byteRange = _get(ByteRange.fromRange("bytes=-30", 100));
+
+		assertThat(byteRange.toContentRange(), is("bytes 70-99/100"));
+
+		ByteRange wholeByteRange = _get(ByteRange.fromRange("bytes=-500", 100));
+
+		assertThat(wholeByteRange.toContentRange(), is("bytes 0-99/100"));
+	}
+
+	@Test
+	public void testFromRangeWithZeroSuffixIsNotSatisfiable() {
+		ByteRange byteRange = _get(ByteRange.fromRange("bytes=-0", 100));
+
+		assertThat(byteRange.isSatisfiable(), is(false));
+	}
+
+	private static ByteRange _get(Optional<ByteRange> optional) {
+		assertThat(optional.isPresent(), is(true));
+
+		return optional.get();
+	}
+
+}
\ No newline at end of file
@@ -17,6 +17,8 @@ package com.liferay.apio.architect.impl.internal.representor;
 import static com.liferay.apio.architect.impl.internal.representor.RepresentorTestUtil.testFields;
 import static com.liferay.apio.architect.impl.internal.representor.RepresentorTestUtil.testRelatedModel;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
 import static java.util.Arrays.asList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,8 +40,10 @@ import java.io.InputStreamReader;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -98,6 +102,8 @@ public class RepresentorTest {
 			"date2", dummy -> dummy.date2
 		).addDate(
 			"nullDate", __ -> null
+		).addLastModified(
+			dummy -> dummy.date2
 		).addLink(
 			"link1", "Link 1"
 		).addLink(
@@ -136,6 +142,8 @@ public class RepresentorTest {
 			"stringList1", dummy -> dummy.stringList1
 		).addStringList(
 			"stringList2", dummy -> dummy.stringList2
+		).addVersion(
+			dummy -> "version" + dummy.id
 		).build();
 	}
 
@@ -168,6 +176,13 @@ public class RepresentorTest {
 		assertThat(_representor.getIdentifier(_dummy), is(23));
 	}
 
+	@Test
+	public void testLastModified() {
+		Optional<Date> optional = _representor.getLastModifiedOptional(_dummy);
+
+		assertThat(optional, is(optionalWithValue(is(_dummy.date2))));
+	}
+
 	@Test
 	public void testLinks() {
 		testFields(
@@ -273,6 +288,13 @@ public class RepresentorTest {
 		assertThat(types, contains("Type 1", "Type 2", "Type 3"));
 	}
 
+	@Test
+	public void testVersion() {
+		Optional<String> optional = _representor.getVersionOptional(_dummy);
+
+		assertThat(optional, is(optionalWithValue(is("version23"))));
+	}
+
 	private List<Class> _classes;
 	private final Dummy _dummy = new Dummy(23);
 	private List<String> _keys;
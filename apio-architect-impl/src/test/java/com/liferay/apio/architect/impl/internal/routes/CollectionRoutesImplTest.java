@@ -28,10 +28,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
 
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.exception.PartialBatchCreationException;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.impl.internal.routes.CollectionRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
@@ -41,12 +46,20 @@ import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.CollectionRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.ws.rs.BadRequestException;
 
 import org.junit.Test;
 
@@ -55,6 +68,228 @@ import org.junit.Test;
  */
 public class CollectionRoutesImplTest {
 
+	@Test
+	public void testAsyncGetterFailureIsReturnedByTheGetPageFunction() {
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null);
+
+		CompletableFuture<PageItems<String>> completableFuture =
+			new CompletableFuture<>();
+
+		completableFuture.completeExceptionally(
+			new IllegalStateException("Apio"));
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addAsyncGetter(
+			__ -> completableFuture
+		).build();
+
+		Try<Page<String>> pageTry = collectionRoutes.getGetPageFunctionOptional(
+		).get(
+		).apply(
+			null
+		);
+
+		assertThat(pageTry.isFailure(), is(true));
+
+		pageTry.ifFailure(
+			exception -> {
+				assertThat(
+					exception, is(instanceOf(IllegalStateException.class)));
+				assertThat(exception.getMessage(), is("Apio"));
+			});
+	}
+
+	@Test
+	public void testBatchCreatorCreatesItemsInChunks() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
+
+		List<Integer> chunkSizes = new ArrayList<>();
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addBatchCreator(
+			(List<Map<String, Object>> list, String string) -> {
+				assertThat(string, is("Apio"));
+
+				chunkSizes.add(list.size());
+
+				return _getKeys(list);
+			},
+			String.class, HAS_ADDING_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		Page<String> page = collectionRoutes.getBatchCreateItemFunctionOptional(
+		).get(
+		).apply(
+			null
+		).apply(
+			_createBatchBody(250)
+		).getUnchecked();
+
+		assertThat(chunkSizes, contains(100, 100, 50));
+		assertThat(page.getItems(), hasSize(250));
+		assertThat(page.getItems(), hasItem("Item249"));
+		assertThat(page.getResourceName(), is("name"));
+		assertThat(page.getTotalCount(), is(250));
+
+		List<Operation> operations = page.getOperations();
+
+		assertThat(operations, hasSize(1));
+
+		Operation operation = operations.get(0);
+
+		assertThat(operation.getFormOptional(), is(optionalWithValue()));
+		assertThat(operation.getHttpMethod(), is(POST));
+		assertThat(operation.getName(), is("name/batch"));
+	}
+
+	@Test
+	public void testBatchCreatorDoesNotAddOperationWithoutPermission() {
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null);
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addBatchCreator(
+			this::_getKeys, __ -> false, FORM_BUILDER_FUNCTION
+		).build();
+
+		Page<String> page = collectionRoutes.getBatchCreateItemFunctionOptional(
+		).get(
+		).apply(
+			null
+		).apply(
+			Body.create(Collections.singletonList(_body))
+		).getUnchecked();
+
+		assertThat(page.getItems(), hasSize(1));
+		assertThat(page.getOperations(), hasSize(0));
+	}
+
+	@Test
+	public void testBatchCreatorFailsIfBodyHasNoMembers() {
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null);
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addBatchCreator(
+			this::_getKeys, HAS_ADDING_PERMISSION_FUNCTION,
+			FORM_BUILDER_FUNCTION
+		).build();
+
+		Try<Page<String>> pageTry =
+			collectionRoutes.getBatchCreateItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				_body
+			);
+
+		assertThat(pageTry.isFailure(), is(true));
+
+		pageTry.ifFailure(
+			exception -> assertThat(
+				exception, is(instanceOf(BadRequestException.class))));
+	}
+
+	@Test
+	public void testBatchCreatorReturnsCreatedItemsIfAChunkFails() {
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null);
+
+		List<Integer> chunkSizes = new ArrayList<>();
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addBatchCreator(
+			(List<Map<String, Object>> list) -> {
+				chunkSizes.add(list.size());
+
+				if (chunkSizes.size() == 3) {
+					throw new BadRequestException("Apio");
+				}
+
+				return _getKeys(list);
+			},
+			HAS_ADDING_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Try<Page<String>> pageTry =
+			collectionRoutes.getBatchCreateItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				_createBatchBody(250)
+			);
+
+		assertThat(chunkSizes, contains(100, 100, 50));
+		assertThat(pageTry.isFailure(), is(true));
+
+		pageTry.ifFailure(
+			exception -> {
+				assertThat(
+					exception,
+					is(instanceOf(PartialBatchCreationException.class)));
+
+				PartialBatchCreationException partialBatchCreationException =
+					(PartialBatchCreationException)exception;
+
+				List<?> createdItems =
+					partialBatchCreationException.getCreatedItems();
+
+				assertThat(createdItems, hasSize(200));
+				assertThat(createdItems.get(199), is("Item199"));
+				assertThat(
+					partialBatchCreationException.getItemsCount(), is(250));
+				assertThat(
+					exception.getCause(),
+					is(instanceOf(BadRequestException.class)));
+			});
+	}
+
+	@Test
+	public void testBatchCreatorReturnsFirstChunkFailureUnchanged() {
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null);
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addBatchCreator(
+			(List<Map<String, Object>> list) -> {
+				throw new BadRequestException("Apio");
+			},
+			HAS_ADDING_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Try<Page<String>> pageTry =
+			collectionRoutes.getBatchCreateItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				_createBatchBody(250)
+			);
+
+		assertThat(pageTry.isFailure(), is(true));
+
+		pageTry.ifFailure(
+			exception -> assertThat(
+				exception, is(instanceOf(BadRequestException.class))));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, ?> builder = new BuilderImpl<>(
@@ -74,6 +309,17 @@ public class CollectionRoutesImplTest {
 			collectionRoutes.getGetPageFunctionOptional();
 
 		assertThat(getPageFunctionOptional, is(emptyOptional()));
+
+		Optional<AsyncGetPageFunction<String>> asyncGetPageFunctionOptional =
+			collectionRoutes.getAsyncGetPageFunctionOptional();
+
+		assertThat(asyncGetPageFunctionOptional, is(emptyOptional()));
+
+		Optional<BatchCreateItemFunction<String>>
+			batchCreateItemFunctionOptional =
+				collectionRoutes.getBatchCreateItemFunctionOptional();
+
+		assertThat(batchCreateItemFunctionOptional, is(emptyOptional()));
 	}
 
 	@Test
@@ -126,6 +372,27 @@ public class CollectionRoutesImplTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	@Test
+	public void testOneParameterAsyncGetterCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addCreator(
+			this::_testAndReturnNoParameterCreatorRoute,
+			HAS_ADDING_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).addAsyncGetter(
+			pagination -> CompletableFuture.completedFuture(
+				_testAndReturnNoParameterGetterRoute(pagination))
+		).build();
+
+		assertThat(neededProviders.size(), is(0));
+
+		_testAsyncGetPageFunction(collectionRoutes);
+		_testCollectionRoutes(collectionRoutes);
+	}
+
 	@Test
 	public void testOneParameterBuilderMethodsCreatesValidRoutes() {
 		Set<String> neededProviders = new TreeSet<>();
@@ -167,6 +434,29 @@ public class CollectionRoutesImplTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	@Test
+	public void testTwoParameterAsyncGetterCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, ?> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
+
+		CollectionRoutes<String, ?> collectionRoutes = builder.addCreator(
+			this::_testAndReturnOneParameterCreatorRoute, String.class,
+			HAS_ADDING_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).addAsyncGetter(
+			(pagination, string) -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnOneParameterGetterRoute(
+					pagination, string)),
+			String.class
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		_testAsyncGetPageFunction(collectionRoutes);
+		_testCollectionRoutes(collectionRoutes);
+	}
+
 	@Test
 	public void testTwoParameterBuilderMethodsCreatesValidRoutes() {
 		Set<String> neededProviders = new TreeSet<>();
@@ -186,6 +476,28 @@ public class CollectionRoutesImplTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	private Body _createBatchBody(int size) {
+		IntStream intStream = IntStream.range(0, size);
+
+		List<Body> bodies = intStream.mapToObj(
+			i -> (Body)__ -> Optional.of("Item" + i)
+		).collect(
+			Collectors.toList()
+		);
+
+		return Body.create(bodies);
+	}
+
+	private List<String> _getKeys(List<Map<String, Object>> list) {
+		Stream<Map<String, Object>> stream = list.stream();
+
+		return stream.map(
+			map -> (String)map.get("key")
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	private String _testAndReturnFourParameterCreatorRoute(
 		Map<String, Object> body, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -272,6 +584,26 @@ public class CollectionRoutesImplTest {
 		return _testAndReturnOneParameterGetterRoute(pagination, string);
 	}
 
+	private void _testAsyncGetPageFunction(
+		CollectionRoutes<String, ?> collectionRoutes) {
+
+		CompletionStage<Page<String>> completionStage =
+			collectionRoutes.getAsyncGetPageFunctionOptional(
+			).get(
+			).apply(
+				null
+			).getUnchecked();
+
+		CompletableFuture<Page<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		Page<String> page = completableFuture.join();
+
+		assertThat(page.getItems(), contains("Apio"));
+		assertThat(page.getResourceName(), is("name"));
+		assertThat(page.getOperations(), hasSize(1));
+	}
+
 	private void _testCollectionRoutes(
 		CollectionRoutes<String, ?> collectionRoutes) {
 
@@ -29,6 +29,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
@@ -39,11 +41,15 @@ import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.Test;
 
@@ -62,6 +68,18 @@ public class ItemRoutesImplTest {
 
 		ItemRoutes<String, Long> itemRoutes = builder.build();
 
+		Optional<AsyncGetItemFunction<String, Long>>
+			asyncGetItemFunctionOptional =
+				itemRoutes.getAsyncItemFunctionOptional();
+
+		assertThat(asyncGetItemFunctionOptional, is(emptyOptional()));
+
+		Optional<BatchGetItemFunction<String, Long>>
+			batchGetItemFunctionOptional =
+				itemRoutes.getBatchItemFunctionOptional();
+
+		assertThat(batchGetItemFunctionOptional, is(emptyOptional()));
+
 		Optional<DeleteItemConsumer<Long>> deleteItemConsumerOptional =
 			itemRoutes.getDeleteConsumerOptional();
 
@@ -87,7 +105,10 @@ public class ItemRoutesImplTest {
 		Builder<String, Long> builder = new BuilderImpl<>(
 			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
 
-		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnFourParameterBatchGetterRoute, String.class,
+			Long.class, Boolean.class, Integer.class
+		).addGetter(
 			this::_testAndReturnFourParameterGetterRoute, String.class,
 			Long.class, Boolean.class, Integer.class
 		).addRemover(
@@ -117,7 +138,10 @@ public class ItemRoutesImplTest {
 		Builder<String, Long> builder = new BuilderImpl<>(
 			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
 
-		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnThreeParameterBatchGetterRoute, String.class,
+			Long.class, Boolean.class
+		).addGetter(
 			this::_testAndReturnThreeParameterGetterRoute, String.class,
 			Long.class, Boolean.class
 		).addRemover(
@@ -138,6 +162,34 @@ public class ItemRoutesImplTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	@Test
+	public void testOneParameterAsyncGetterCreatesValidRoutes()
+		throws Exception {
+
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnNoParameterBatchGetterRoute
+		).addAsyncGetter(
+			identifier -> CompletableFuture.completedFuture(
+				_testAndReturnNoParameterGetterRoute(identifier))
+		).addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		assertThat(neededProviders.size(), is(0));
+
+		_testAsyncGetItemFunction(itemRoutes);
+		_testItemRoutes(itemRoutes);
+	}
+
 	@Test
 	public void testOneParameterBuilderMethodsCreatesValidRoutes()
 		throws Exception {
@@ -147,7 +199,9 @@ public class ItemRoutesImplTest {
 		Builder<String, Long> builder = new BuilderImpl<>(
 			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
 
-		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnNoParameterBatchGetterRoute
+		).addGetter(
 			this::_testAndReturnNoParameterGetterRoute
 		).addRemover(
 			this::_testAndReturnNoParameterRemoverRoute,
@@ -171,7 +225,10 @@ public class ItemRoutesImplTest {
 		Builder<String, Long> builder = new BuilderImpl<>(
 			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
 
-		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnTwoParameterBatchGetterRoute, String.class,
+			Long.class
+		).addGetter(
 			this::_testAndReturnTwoParameterGetterRoute, String.class,
 			Long.class
 		).addRemover(
@@ -189,6 +246,36 @@ public class ItemRoutesImplTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	@Test
+	public void testTwoParameterAsyncGetterCreatesValidRoutes()
+		throws Exception {
+
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnOneParameterBatchGetterRoute, String.class
+		).addAsyncGetter(
+			(identifier, string) -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnOneParameterGetterRoute(
+					identifier, string)),
+			String.class
+		).addRemover(
+			this::_testOneParameterRemoverRoute, String.class,
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnOneParameterUpdaterRoute, String.class,
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		_testAsyncGetItemFunction(itemRoutes);
+		_testItemRoutes(itemRoutes);
+	}
+
 	@Test
 	public void testTwoParameterBuilderMethodsCreatesValidRoutes()
 		throws Exception {
@@ -198,7 +285,9 @@ public class ItemRoutesImplTest {
 		Builder<String, Long> builder = new BuilderImpl<>(
 			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null);
 
-		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnOneParameterBatchGetterRoute, String.class
+		).addGetter(
 			this::_testAndReturnOneParameterGetterRoute, String.class
 		).addRemover(
 			this::_testOneParameterRemoverRoute, String.class,
@@ -213,6 +302,16 @@ public class ItemRoutesImplTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	private Map<Long, String> _testAndReturnFourParameterBatchGetterRoute(
+		Collection<Long> identifiers, String string, Long aLong,
+		Boolean aBoolean, Integer integer) {
+
+		assertThat(integer, is(2017));
+
+		return _testAndReturnThreeParameterBatchGetterRoute(
+			identifiers, string, aLong, aBoolean);
+	}
+
 	private String _testAndReturnFourParameterGetterRoute(
 		Long identifier, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -233,6 +332,14 @@ public class ItemRoutesImplTest {
 			identifier, body, string, aLong, aBoolean);
 	}
 
+	private Map<Long, String> _testAndReturnNoParameterBatchGetterRoute(
+		Collection<Long> identifiers) {
+
+		assertThat(identifiers, contains(42L));
+
+		return Collections.singletonMap(42L, "Apio");
+	}
+
 	private String _testAndReturnNoParameterGetterRoute(Long identifier) {
 		assertThat(identifier, is(42L));
 
@@ -255,6 +362,14 @@ public class ItemRoutesImplTest {
 		return "Updated";
 	}
 
+	private Map<Long, String> _testAndReturnOneParameterBatchGetterRoute(
+		Collection<Long> identifiers, String string) {
+
+		assertThat(string, is("Apio"));
+
+		return _testAndReturnNoParameterBatchGetterRoute(identifiers);
+	}
+
 	private String _testAndReturnOneParameterGetterRoute(
 		Long identifier, String string) {
 
@@ -271,6 +386,16 @@ public class ItemRoutesImplTest {
 		return _testAndReturnNoParameterUpdaterRoute(identifier, body);
 	}
 
+	private Map<Long, String> _testAndReturnThreeParameterBatchGetterRoute(
+		Collection<Long> identifiers, String string, Long aLong,
+		Boolean aBoolean) {
+
+		assertThat(aBoolean, is(true));
+
+		return _testAndReturnTwoParameterBatchGetterRoute(
+			identifiers, string, aLong);
+	}
+
 	private String _testAndReturnThreeParameterGetterRoute(
 		Long identifier, String string, Long aLong, Boolean aBoolean) {
 
@@ -289,6 +414,14 @@ public class ItemRoutesImplTest {
 			identifier, body, string, aLong);
 	}
 
+	private Map<Long, String> _testAndReturnTwoParameterBatchGetterRoute(
+		Collection<Long> identifiers, String string, Long aLong) {
+
+		assertThat(aLong, is(42L));
+
+		return _testAndReturnOneParameterBatchGetterRoute(identifiers, string);
+	}
+
 	private String _testAndReturnTwoParameterGetterRoute(
 		Long identifier, String string, Long aLong) {
 
@@ -305,6 +438,28 @@ public class ItemRoutesImplTest {
 		return _testAndReturnOneParameterUpdaterRoute(identifier, body, string);
 	}
 
+	private void _testAsyncGetItemFunction(
+		ItemRoutes<String, Long> itemRoutes) {
+
+		CompletionStage<SingleModel<String>> completionStage =
+			itemRoutes.getAsyncItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				42L
+			).getUnchecked();
+
+		CompletableFuture<SingleModel<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		SingleModel<String> singleModel = completableFuture.join();
+
+		assertThat(singleModel.getResourceName(), is("name"));
+		assertThat(singleModel.getModel(), is("Apio"));
+		assertThat(singleModel.getOperations(), hasSize(2));
+	}
+
 	private void _testFourParameterRemoverRoute(
 		Long identifier, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -333,6 +488,22 @@ public class ItemRoutesImplTest {
 
 		assertThat(map.get("key"), is(valueOptional.get()));
 
+		Map<Long, SingleModel<String>> singleModels = optional.flatMap(
+			ItemRoutes::getBatchItemFunctionOptional
+		).get(
+		).apply(
+			null
+		).apply(
+			Collections.singletonList(42L)
+		).getUnchecked();
+
+		assertThat(singleModels.keySet(), contains(42L));
+
+		SingleModel<String> batchSingleModel = singleModels.get(42L);
+
+		assertThat(batchSingleModel.getResourceName(), is("name"));
+		assertThat(batchSingleModel.getModel(), is("Apio"));
+
 		SingleModel<String> singleModel = optional.flatMap(
 			ItemRoutes::getItemFunctionOptional
 		).get(
@@ -30,6 +30,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.form.Body;
@@ -49,6 +50,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.Test;
 
@@ -77,6 +80,11 @@ public class NestedCollectionRoutesImplTest {
 			nestedCollectionRoutes.getNestedGetPageFunctionOptional();
 
 		assertThat(optional2, is(emptyOptional()));
+
+		Optional<AsyncNestedGetPageFunction<String, Long>> optional3 =
+			nestedCollectionRoutes.getAsyncNestedGetPageFunctionOptional();
+
+		assertThat(optional3, is(emptyOptional()));
 	}
 
 	@Test
@@ -133,6 +141,30 @@ public class NestedCollectionRoutesImplTest {
 		_testNestedCollectionRoutes(nestedCollectionRoutes);
 	}
 
+	@Test
+	public void testOneParameterAsyncGetterCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long, Long> builder = new BuilderImpl<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION, neededProviders::add,
+			__ -> null);
+
+		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes =
+			builder.addCreator(
+				this::_testAndReturnNoParameterCreatorRoute,
+				hasNestedAddingPermissionFunction(), FORM_BUILDER_FUNCTION
+			).addAsyncGetter(
+				(pagination, identifier) -> CompletableFuture.completedFuture(
+					_testAndReturnNoParameterGetterRoute(
+						pagination, identifier))
+			).build();
+
+		assertThat(neededProviders.size(), is(0));
+
+		_testAsyncNestedGetPageFunction(nestedCollectionRoutes);
+		_testNestedCollectionRoutes(nestedCollectionRoutes);
+	}
+
 	@Test
 	public void testOneParameterBuilderMethodsCreatesValidRoutes() {
 		Set<String> neededProviders = new TreeSet<>();
@@ -179,6 +211,32 @@ public class NestedCollectionRoutesImplTest {
 		_testNestedCollectionRoutes(nestedCollectionRoutes);
 	}
 
+	@Test
+	public void testTwoParameterAsyncGetterCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long, Long> builder = new BuilderImpl<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION, neededProviders::add,
+			__ -> null);
+
+		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes =
+			builder.addCreator(
+				this::_testAndReturnOneParameterCreatorRoute, String.class,
+				hasNestedAddingPermissionFunction(), FORM_BUILDER_FUNCTION
+			).addAsyncGetter(
+				(pagination, identifier, string) ->
+					CompletableFuture.supplyAsync(
+						() -> _testAndReturnOneParameterGetterRoute(
+							pagination, identifier, string)),
+				String.class
+			).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		_testAsyncNestedGetPageFunction(nestedCollectionRoutes);
+		_testNestedCollectionRoutes(nestedCollectionRoutes);
+	}
+
 	@Test
 	public void testTwoParameterBuilderMethodsCreatesValidRoutes() {
 		Set<String> neededProviders = new TreeSet<>();
@@ -294,6 +352,32 @@ public class NestedCollectionRoutesImplTest {
 			pagination, identifier, string);
 	}
 
+	private void _testAsyncNestedGetPageFunction(
+		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes) {
+
+		Path path = new Path("name", "42");
+
+		CompletionStage<Page<String>> completionStage =
+			nestedCollectionRoutes.getAsyncNestedGetPageFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				path
+			).apply(
+				42L
+			).getUnchecked();
+
+		CompletableFuture<Page<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		Page<String> page = completableFuture.join();
+
+		assertThat(page.getItems(), contains("Apio"));
+		assertThat(page.getPathOptional(), optionalWithValue(equalTo(path)));
+		assertThat(page.getResourceName(), is("nested"));
+	}
+
 	private void _testNestedCollectionRoutes(
 		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes) {
 
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.impl.internal.url;
 
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createAbsoluteURL;
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createBinaryURL;
+import static com.liferay.apio.architect.impl.internal.url.URLCreator.createCollectionCursorPageURL;
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createCollectionURL;
 import static com.liferay.apio.architect.impl.internal.url.URLCreator.createNestedCollectionURL;
@@ -70,6 +71,28 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/relative/url"));
 	}
 
+	@Test
+	public void testCreateAbsoluteURLEncodesInvalidCharacters() {
+		String url = createAbsoluteURL(_applicationURL, "/a b/\u00f1/%20/100%");
+
+		assertThat(url, is("www.liferay.com/a%20b/%C3%B1/%20/100%25"));
+	}
+
+	@Test
+	public void testCreateAbsoluteURLJoinsWithASingleSlash() {
+		ApplicationURL applicationURL = () -> "www.liferay.com/";
+
+		assertThat(
+			createAbsoluteURL(applicationURL, "/relative/url"),
+			is("www.liferay.com/relative/url"));
+		assertThat(
+			createAbsoluteURL(applicationURL, "relative/url"),
+			is("www.liferay.com/relative/url"));
+		assertThat(
+			createAbsoluteURL(_applicationURL, "relative/url"),
+			is("www.liferay.com/relative/url"));
+	}
+
 	@Test
 	public void testCreateAbsoluteURLWithNullReturnsNull() {
 		String url = createAbsoluteURL(_applicationURL, null);
@@ -86,6 +109,19 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/b/name/id/binary"));
 	}
 
+	@Test
+	public void testCreateCollectionCursorPageURL() {
+		assertThat(
+			createCollectionCursorPageURL("www.liferay.com", null, 30),
+			is("www.liferay.com?per_page=30"));
+		assertThat(
+			createCollectionCursorPageURL("www.liferay.com", "", 30),
+			is("www.liferay.com?after=&per_page=30"));
+		assertThat(
+			createCollectionCursorPageURL("www.liferay.com", "a+b/c=", 30),
+			is("www.liferay.com?after=a%2Bb%2Fc%3D&per_page=30"));
+	}
+
 	@Test
 	public void testCreateCollectionPageURL() {
 		Pagination pagination = Mockito.mock(Pagination.class);
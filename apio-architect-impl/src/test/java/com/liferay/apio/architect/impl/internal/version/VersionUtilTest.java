@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.version;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.impl.internal.pagination.PageImpl;
+import com.liferay.apio.architect.impl.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.internal.representor.RepresentorImpl;
+import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.Representor.Builder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class VersionUtilTest {
+
+	@Test
+	public void testCreateEntityTagChangesWithVariants() {
+		EntityTag entityTag = VersionUtil.createEntityTag("1", "a", "b");
+
+		assertThat(entityTag.isWeak(), is(true));
+		assertThat(entityTag, is(VersionUtil.createEntityTag("1", "a", "b")));
+		assertThat(
+			entityTag, is(not(VersionUtil.createEntityTag("2", "a", "b"))));
+		assertThat(
+			entityTag, is(not(VersionUtil.createEntityTag("1", "a", "c"))));
+	}
+
+	@Test
+	public void testPageVersionChangesIfAnItemChanges() {
+		Representor<Integer> representor = _createRepresentor();
+
+		Optional<String> optional = VersionUtil.getVersionOptional(
+			_createPage(2, 4), representor);
+
+		assertThat(
+			optional,
+			is(optionalWithValue(is("name,1,10,Optional[2],Optional.empty," +
+				"2:2,4:4"))));
+
+		assertThat(
+			optional,
+			is(not(VersionUtil.getVersionOptional(
+				_createPage(2, 6), representor))));
+	}
+
+	@Test
+	public void testPageVersionIsEmptyIfAnItemHasNone() {
+		Optional<String> optional = VersionUtil.getVersionOptional(
+			_createPage(2, 3), _createRepresentor());
+
+		assertThat(optional, is(emptyOptional()));
+	}
+
+	@Test
+	public void testSingleModelWithoutFunctionsHasNoVersion() {
+		Builder<Integer, Integer> builder = new RepresentorImpl.BuilderImpl<>(
+			IntegerIdentifier.class);
+
+		Representor<Integer> representor = builder.types(
+			"Type"
+		).identifier(
+			integer -> integer
+		).build();
+
+		SingleModelImpl<Integer> singleModel = new SingleModelImpl<>(
+			2, "name", emptyList());
+
+		assertThat(
+			VersionUtil.getLastModifiedOptional(singleModel, representor),
+			is(emptyOptional()));
+		assertThat(
+			VersionUtil.getVersionOptional(singleModel, representor),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testSingleModelWithFunctionsHasVersion() {
+		Representor<Integer> representor = _createRepresentor();
+
+		SingleModelImpl<Integer> singleModel = new SingleModelImpl<>(
+			2, "name", emptyList());
+
+		assertThat(
+			VersionUtil.getLastModifiedOptional(singleModel, representor),
+			is(optionalWithValue(is(new Date(2)))));
+		assertThat(
+			VersionUtil.getVersionOptional(singleModel, representor),
+			is(optionalWithValue(is("2"))));
+	}
+
+	private static Page<Integer> _createPage(Integer... integers) {
+		List<Integer> list = asList(integers);
+
+		return new PageImpl<>(
+			"name", new PageItems<>(list, list.size()),
+			new PaginationImpl(10, 1), emptyList());
+	}
+
+	/**
+	 * Creates a representor whose version and last modified date are only
+	 * present for even numbers.
+	 */
+	private static Representor<Integer> _createRepresentor() {
+		Builder<Integer, Integer> builder = new RepresentorImpl.BuilderImpl<>(
+			IntegerIdentifier.class);
+
+		return builder.types(
+			"Type"
+		).identifier(
+			integer -> integer
+		).addLastModified(
+			integer -> ((integer % 2) == 0) ? new Date(integer) : null
+		).addVersion(
+			integer -> ((integer % 2) == 0) ? String.valueOf(integer) : null
+		).build();
+	}
+
+	private interface IntegerIdentifier extends Identifier<Integer> {
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.impl.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.representor.Representable;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.router.ItemRouter;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testClearingDuringComputationDoesNotPublishTheValues() {
+		AtomicInteger counter = new AtomicInteger();
+
+		INSTANCE.getNameOptional(
+			"className",
+			() -> {
+				counter.incrementAndGet();
+
+				INSTANCE.putName("className", "name");
+
+				INSTANCE.clear();
+			});
+
+		assertThat(INSTANCE.getNamesOptional(), is(emptyOptional()));
+
+		INSTANCE.getNameOptional("className", counter::incrementAndGet);
+
+		assertThat(counter.get(), is(2));
+	}
+
+	@Test
+	public void testClearingManagedClassOnlyClearsDependentValues() {
+		Representor representor = Mockito.mock(Representor.class);
+		ItemRoutes itemRoutes = Mockito.mock(ItemRoutes.class);
+
+		INSTANCE.getRepresentorOptional(
+			"name", () -> INSTANCE.putRepresentor("name", representor));
+		INSTANCE.getItemRoutesOptional(
+			"name", () -> INSTANCE.putItemRoutes("name", itemRoutes));
+
+		INSTANCE.clear(ItemRouter.class);
+
+		AtomicInteger counter = new AtomicInteger();
+
+		assertThat(
+			INSTANCE.getRepresentorOptional("name", counter::incrementAndGet),
+			is(optionalWithValue()));
+		assertThat(
+			INSTANCE.getItemRoutesOptional("name", counter::incrementAndGet),
+			is(emptyOptional()));
+		assertThat(counter.get(), is(1));
+	}
+
+	@Test
+	public void testComputedValuesArePublishedOnce() {
+		AtomicInteger counter = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			INSTANCE.getNameOptional(
+				"className",
+				() -> {
+					counter.incrementAndGet();
+
+					INSTANCE.putName("className", "name");
+				});
+		}
+
+		assertThat(counter.get(), is(1));
+		assertThat(
+			INSTANCE.getNameOptional("className", counter::incrementAndGet),
+			is(optionalWithValue(is("name"))));
+	}
+
+	@Test
+	public void testMessageMapperSelectionIsCachedByAcceptHeader() {
+		PageMessageMapper pageMessageMapper = () -> "application/json";
+
+		Request request = Mockito.mock(Request.class);
+
+		Mockito.when(
+			request.selectVariant(Mockito.anyList())
+		).thenReturn(
+			new Variant(APPLICATION_JSON_TYPE, (String)null, null)
+		);
+
+		HttpHeaders httpHeaders = Mockito.mock(HttpHeaders.class);
+
+		Mockito.when(
+			httpHeaders.getHeaderString(ACCEPT)
+		).thenReturn(
+			"application/json"
+		);
+
+		for (int i = 0; i < 3; i++) {
+			Optional<PageMessageMapper<Object>> optional =
+				INSTANCE.getPageMessageMapperOptional(
+					request, httpHeaders,
+					() -> INSTANCE.putPageMessageMapper(
+						APPLICATION_JSON_TYPE, pageMessageMapper));
+
+			assertThat(optional, is(optionalWithValue(is(pageMessageMapper))));
+		}
+
+		Mockito.verify(
+			request, Mockito.times(1)
+		).selectVariant(
+			Mockito.anyList()
+		);
+	}
+
+	@Test
+	public void testNestedComputationsArePublishedTogether() {
+		INSTANCE.getRootResourceNames(
+			() -> {
+				INSTANCE.getNameOptional(
+					"className", () -> INSTANCE.putName("className", "name"));
+
+				assertThat(
+					INSTANCE.getNamesOptional(), is(optionalWithValue()));
+
+				INSTANCE.putRootResourceName("name");
+			});
+
+		List<String> rootResourceNames = INSTANCE.getRootResourceNames(
+			() -> INSTANCE.putRootResourceName("other"));
+
+		assertThat(rootResourceNames, contains("name"));
+	}
+
+	@Test
+	public void testPathIdentifierMapperIsCachedUntilItsServicesChange() {
+		AtomicInteger counter = new AtomicInteger();
+
+		PathIdentifierMapper pathIdentifierMapper = Mockito.mock(
+			PathIdentifierMapper.class);
+
+		Function<String, Optional<PathIdentifierMapper>> function = name -> {
+			counter.incrementAndGet();
+
+			return Optional.of(pathIdentifierMapper);
+		};
+
+		for (int i = 0; i < 3; i++) {
+			Optional<PathIdentifierMapper> optional =
+				INSTANCE.getPathIdentifierMapperOptional("name", function);
+
+			assertThat(optional.get(), is(pathIdentifierMapper));
+		}
+
+		assertThat(counter.get(), is(1));
+
+		INSTANCE.clear(ItemRouter.class);
+
+		INSTANCE.getPathIdentifierMapperOptional("name", function);
+
+		assertThat(counter.get(), is(1));
+
+		INSTANCE.clear(PathIdentifierMapper.class);
+
+		INSTANCE.getPathIdentifierMapperOptional("name", function);
+
+		assertThat(counter.get(), is(2));
+
+		INSTANCE.clear(Representable.class);
+
+		INSTANCE.getPathIdentifierMapperOptional("name", function);
+
+		assertThat(counter.get(), is(3));
+	}
+
+	@Test
+	public void testPathIdentifierMapperIsNotCachedIfNotFound() {
+		AtomicInteger counter = new AtomicInteger();
+
+		Function<String, Optional<PathIdentifierMapper>> function = name -> {
+			counter.incrementAndGet();
+
+			return Optional.empty();
+		};
+
+		for (int i = 0; i < 3; i++) {
+			Optional<PathIdentifierMapper> optional =
+				INSTANCE.getPathIdentifierMapperOptional("unknown", function);
+
+			assertThat(optional.isPresent(), is(false));
+		}
+
+		assertThat(counter.get(), is(3));
+	}
+
+	@Test
+	public void testRenderedDocumentIsCachedUntilAServiceChanges() {
+		AtomicInteger counter = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			byte[] bytes = INSTANCE.getRenderedDocument(
+				"key", () -> _render(counter));
+
+			assertThat(new String(bytes), is("document"));
+		}
+
+		assertThat(counter.get(), is(1));
+
+		INSTANCE.clear(Object.class);
+
+		INSTANCE.getRenderedDocument("key", () -> _render(counter));
+
+		assertThat(counter.get(), is(2));
+	}
+
+	@Test
+	public void testRenderedDocumentIsEvictedOldestFirstWhenCacheIsFull() {
+		AtomicInteger counter = new AtomicInteger();
+
+		for (int i = 0; i < 100; i++) {
+			INSTANCE.getRenderedDocument("key" + i, () -> _render(counter));
+		}
+
+		assertThat(counter.get(), is(100));
+
+		INSTANCE.getRenderedDocument("key99", () -> _render(counter));
+
+		assertThat(counter.get(), is(100));
+
+		INSTANCE.getRenderedDocument("key0", () -> _render(counter));
+
+		assertThat(counter.get(), is(101));
+	}
+
+	@Test
+	public void testRenderedDocumentIsNotCachedIfClearedWhileRendering() {
+		AtomicInteger counter = new AtomicInteger();
+
+		INSTANCE.getRenderedDocument(
+			"key",
+			() -> {
+				INSTANCE.clear(ItemRouter.class);
+
+				return _render(counter);
+			});
+
+		INSTANCE.getRenderedDocument("key", () -> _render(counter));
+
+		assertThat(counter.get(), is(2));
+	}
+
+	private static byte[] _render(AtomicInteger counter) {
+		counter.incrementAndGet();
+
+		return "document".getBytes();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.wiring.osgi.manager.provider;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.base.BaseManager;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
+
+import java.lang.reflect.Field;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProviderManagerImplTest {
+
+	@Test
+	public void testCacheableProviderCachesEmptyContext() throws Exception {
+		AtomicInteger counter = new AtomicInteger();
+
+		ProviderManagerImpl providerManagerImpl = _createProviderManagerImpl(
+			httpServletRequest -> {
+				counter.incrementAndGet();
+
+				return null;
+			});
+
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest();
+
+		for (int i = 0; i < 3; i++) {
+			Optional<String> optional = providerManagerImpl.provideOptional(
+				httpServletRequest, String.class);
+
+			assertThat(optional, is(emptyOptional()));
+		}
+
+		assertThat(counter.get(), is(1));
+	}
+
+	@Test
+	public void testCacheableProviderCreatesContextForEachRequest()
+		throws Exception {
+
+		AtomicInteger counter = new AtomicInteger();
+
+		ProviderManagerImpl providerManagerImpl = _createProviderManagerImpl(
+			httpServletRequest -> "Context" + counter.incrementAndGet());
+
+		String context1 = providerManagerImpl.provideMandatory(
+			_mockHttpServletRequest(), String.class);
+		String context2 = providerManagerImpl.provideMandatory(
+			_mockHttpServletRequest(), String.class);
+
+		assertThat(context1, is("Context1"));
+		assertThat(context2, is("Context2"));
+	}
+
+	@Test
+	public void testCacheableProviderReusesContextDuringRequest()
+		throws Exception {
+
+		AtomicInteger counter = new AtomicInteger();
+
+		ProviderManagerImpl providerManagerImpl = _createProviderManagerImpl(
+			httpServletRequest -> "Context" + counter.incrementAndGet());
+
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest();
+
+		for (int i = 0; i < 3; i++) {
+			String context = providerManagerImpl.provideMandatory(
+				httpServletRequest, String.class);
+
+			assertThat(context, is("Context1"));
+		}
+
+		assertThat(counter.get(), is(1));
+	}
+
+	@Test
+	public void testNonCacheableProviderCreatesContextEveryTime()
+		throws Exception {
+
+		AtomicInteger counter = new AtomicInteger();
+
+		ProviderManagerImpl providerManagerImpl = _createProviderManagerImpl(
+			new Provider<String>() {
+
+				@Override
+				public String createContext(
+					HttpServletRequest httpServletRequest) {
+
+					return "Context" + counter.incrementAndGet();
+				}
+
+				@Override
+				public boolean isCacheable() {
+					return false;
+				}
+
+			});
+
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest();
+
+		String context1 = providerManagerImpl.provideMandatory(
+			httpServletRequest, String.class);
+		String context2 = providerManagerImpl.provideMandatory(
+			httpServletRequest, String.class);
+
+		assertThat(context1, is("Context1"));
+		assertThat(context2, is("Context2"));
+
+		Mockito.verify(
+			httpServletRequest, Mockito.never()
+		).setAttribute(
+			Mockito.anyString(), Mockito.any()
+		);
+	}
+
+	private static ProviderManagerImpl _createProviderManagerImpl(
+			Provider<String> provider)
+		throws Exception {
+
+		ProviderManagerImpl providerManagerImpl = new ProviderManagerImpl();
+
+		@SuppressWarnings("unchecked")
+		ServiceTrackerMap<String, Provider> serviceTrackerMap = Mockito.mock(
+			ServiceTrackerMap.class);
+
+		Mockito.when(
+			serviceTrackerMap.getService(String.class.getName())
+		).thenReturn(
+			provider
+		);
+
+		Field field = BaseManager.class.getDeclaredField("serviceTrackerMap");
+
+		field.setAccessible(true);
+
+		field.set(providerManagerImpl, serviceTrackerMap);
+
+		return providerManagerImpl;
+	}
+
+	/**
+	 * Mocks a request that keeps its attributes, like a real request does.
+	 */
+	private static HttpServletRequest _mockHttpServletRequest() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Mockito.anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArgument(0))
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.put(
+				invocation.getArgument(0), invocation.getArgument(1))
+		).when(
+			httpServletRequest
+		).setAttribute(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		return httpServletRequest;
+	}
+
+}
\ No newline at end of file
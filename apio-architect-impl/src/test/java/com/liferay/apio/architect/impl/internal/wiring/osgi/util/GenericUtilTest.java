@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.wiring.osgi.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.internal.wiring.osgi.manager.cache.ManagerCache;
+
+import java.lang.reflect.Type;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class GenericUtilTest {
+
+	@Test
+	public void testClearingTheManagerCacheClearsTypeArguments() {
+		Class<?> clazz = StringLengthFunction.class;
+
+		Type type = clazz.getGenericInterfaces()[0];
+
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentFromTypeTry(
+				type, Function.class);
+
+		ManagerCache.INSTANCE.clear(Object.class);
+
+		Try<Class<Object>> newClassTry =
+			GenericUtil.getFirstGenericTypeArgumentFromTypeTry(
+				type, Function.class);
+
+		assertThat(newClassTry.getUnchecked(), is(String.class));
+		assertThat(newClassTry, is(not(sameInstance(classTry))));
+	}
+
+	@Test
+	public void testGetFirstGenericTypeArgumentFromTypeIsCached() {
+		Class<?> clazz = StringLengthFunction.class;
+
+		Type type = clazz.getGenericInterfaces()[0];
+
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentFromTypeTry(
+				type, Function.class);
+
+		assertThat(classTry.getUnchecked(), is(String.class));
+		assertThat(
+			GenericUtil.getFirstGenericTypeArgumentFromTypeTry(
+				type, Function.class),
+			is(sameInstance(classTry)));
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentFromSuperclassIsResolved() {
+		Try<Class<Object>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			ChildStringLengthFunction.class, Function.class, 1);
+
+		assertThat(classTry.getUnchecked(), is(Integer.class));
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentIsCached() {
+		Try<Class<Object>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			StringLengthFunction.class, Function.class, 0);
+
+		assertThat(classTry.getUnchecked(), is(String.class));
+		assertThat(
+			GenericUtil.getGenericTypeArgumentTry(
+				StringLengthFunction.class, Function.class, 0),
+			is(sameInstance(classTry)));
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentOfMissingInterfaceFails() {
+		Try<Class<Object>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			StringLengthFunction.class, List.class, 0);
+
+		assertThat(classTry.isFailure(), is(true));
+	}
+
+	private static class ChildStringLengthFunction
+		extends StringLengthFunction {
+	}
+
+	private static class StringLengthFunction
+		implements Function<String, Integer> {
+
+		@Override
+		public Integer apply(String string) {
+			return string.length();
+		}
+
+	}
+
+}
\ No newline at end of file
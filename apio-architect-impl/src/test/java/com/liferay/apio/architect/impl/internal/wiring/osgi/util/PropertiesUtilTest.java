@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.wiring.osgi.util;
+
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.impl.internal.wiring.osgi.util.PropertiesUtil.getPositiveInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PropertiesUtilTest {
+
+	@Test
+	public void testGetBooleanReturnsDefaultValueIfMissing() {
+		Map<String, Object> properties = new HashMap<>();
+
+		assertThat(getBoolean(properties, "key", true), is(true));
+
+		properties.put("key", "false");
+
+		assertThat(getBoolean(properties, "key", true), is(false));
+	}
+
+	@Test
+	public void testGetIntegerReturnsDefaultValueIfMalformed() {
+		Map<String, Object> properties = new HashMap<>();
+
+		assertThat(getInteger(properties, "key", 42), is(42));
+
+		properties.put("key", "Apio");
+
+		assertThat(getInteger(properties, "key", 42), is(42));
+
+		properties.put("key", " -1 ");
+
+		assertThat(getInteger(properties, "key", 42), is(-1));
+
+		properties.put("key", 7);
+
+		assertThat(getInteger(properties, "key", 42), is(7));
+	}
+
+	@Test
+	public void testGetPositiveIntegerReturnsDefaultValueIfNotPositive() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("key", "0");
+
+		assertThat(getPositiveInteger(properties, "key", 42), is(42));
+
+		properties.put("key", "Apio");
+
+		assertThat(getPositiveInteger(properties, "key", 42), is(42));
+
+		properties.put("key", "3");
+
+		assertThat(getPositiveInteger(properties, "key", 42), is(3));
+	}
+
+}
\ No newline at end of file
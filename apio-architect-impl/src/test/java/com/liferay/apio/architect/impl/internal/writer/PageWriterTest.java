@@ -0,0 +1,396 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.internal.writer;
+
+import static com.liferay.apio.architect.test.util.writer.MockWriterUtil.getRequestInfo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import com.liferay.apio.architect.impl.internal.alias.BatchSingleModelFunction;
+import com.liferay.apio.architect.impl.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.impl.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.impl.internal.pagination.PageImpl;
+import com.liferay.apio.architect.impl.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.internal.request.RequestInfo;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.pagination.DeferredCountPageItems;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageWriterTest {
+
+	@Test
+	public void testWriterOmitsTotalCountAndLastPageURL() {
+		Collection<RootModel> items = Arrays.asList(
+			() -> "1", () -> "2", () -> "3");
+
+		PageItems<RootModel> pageItems = new DeferredCountPageItems<>(
+			items,
+			() -> {
+				throw new AssertionError("The count shouldn't be computed");
+			});
+
+		Page<RootModel> page = new PageImpl<>(
+			"root", pageItems, new PaginationImpl(3, 2, null, true),
+			new Path("name", "id"), Collections.emptyList());
+
+		JsonObject jsonObject = _writeJSONLD(page);
+
+		assertThat(jsonObject.has("totalItems"), is(false));
+
+		JsonObject viewJsonObject = jsonObject.getAsJsonObject("view");
+
+		String collectionURL = "localhost/o/api/p/name/id/root";
+
+		assertThat(
+			viewJsonObject.get("next").getAsString(),
+			is(collectionURL + "?page=3&per_page=3"));
+		assertThat(
+			viewJsonObject.get("previous").getAsString(),
+			is(collectionURL + "?page=1&per_page=3"));
+		assertThat(viewJsonObject.has("last"), is(false));
+	}
+
+	@Test
+	public void testWriterWritesCursorPageURLsWithoutTotalCount() {
+		Collection<RootModel> items = Arrays.asList(
+			() -> "1", () -> "2", () -> "3");
+
+		Page<RootModel> page = new PageImpl<>(
+			"root", new PageItems<>(items, "3"), new PaginationImpl(3, 1, "0"),
+			new Path("name", "id"), Collections.emptyList());
+
+		JsonObject jsonObject = _writeJSONLD(page);
+
+		assertThat(jsonObject.has("totalItems"), is(false));
+
+		JsonObject viewJsonObject = jsonObject.getAsJsonObject("view");
+
+		String collectionURL = "localhost/o/api/p/name/id/root";
+
+		assertThat(
+			viewJsonObject.get("@id").getAsString(),
+			is(collectionURL + "?after=0&per_page=3"));
+		assertThat(
+			viewJsonObject.get("first").getAsString(),
+			is(collectionURL + "?after=&per_page=3"));
+		assertThat(
+			viewJsonObject.get("next").getAsString(),
+			is(collectionURL + "?after=3&per_page=3"));
+		assertThat(viewJsonObject.has("last"), is(false));
+		assertThat(viewJsonObject.has("previous"), is(false));
+	}
+
+	@Test
+	public void testWriterWritesPageURLsIfTheCursorIsIgnored() {
+		Collection<RootModel> items = Arrays.asList(
+			() -> "1", () -> "2", () -> "3");
+
+		Page<RootModel> page = new PageImpl<>(
+			"root", new PageItems<>(items, 9), new PaginationImpl(3, 2, "0"),
+			new Path("name", "id"), Collections.emptyList());
+
+		JsonObject jsonObject = _writeJSONLD(page);
+
+		assertThat(jsonObject.get("totalItems").getAsInt(), is(9));
+
+		JsonObject viewJsonObject = jsonObject.getAsJsonObject("view");
+
+		String collectionURL = "localhost/o/api/p/name/id/root";
+
+		assertThat(
+			viewJsonObject.get("@id").getAsString(),
+			is(collectionURL + "?page=2&per_page=3"));
+		assertThat(
+			viewJsonObject.get("last").getAsString(),
+			is(collectionURL + "?page=3&per_page=3"));
+		assertThat(
+			viewJsonObject.get("next").getAsString(),
+			is(collectionURL + "?page=3&per_page=3"));
+		assertThat(
+			viewJsonObject.get("previous").getAsString(),
+			is(collectionURL + "?page=1&per_page=3"));
+	}
+
+	@Test
+	public void testWriterFetchesRelatedModelsWithBatchFunction() {
+		List<Collection<Object>> batchCalls = new ArrayList<>();
+		List<Object> singleCalls = new ArrayList<>();
+
+		PageWriter<RootModel> pageWriter = _getPageWriter(
+			(identifier, identifierClass) -> {
+				if (identifierClass.equals(FirstEmbeddedId.class)) {
+					singleCalls.add(identifier);
+				}
+
+				return MockWriterUtil.getSingleModel(
+					identifier, identifierClass);
+			},
+			(identifiers, identifierClass) -> {
+				if (!identifierClass.equals(FirstEmbeddedId.class)) {
+					return Optional.empty();
+				}
+
+				batchCalls.add(new ArrayList<>(identifiers));
+
+				Map<Object, SingleModel> singleModels = new LinkedHashMap<>();
+
+				identifiers.forEach(
+					identifier -> MockWriterUtil.getSingleModel(
+						identifier, identifierClass
+					).ifPresent(
+						singleModel -> singleModels.put(identifier, singleModel)
+					));
+
+				return Optional.of(singleModels);
+			});
+
+		String batchJson = pageWriter.write();
+
+		assertThat(
+			batchCalls,
+			contains(contains("first", "second", "third", "fourth")));
+		assertThat(singleCalls.isEmpty(), is(true));
+
+		String json = _getPageWriter(
+			MockWriterUtil::getSingleModel,
+			(identifiers, identifierClass) -> Optional.empty()
+		).write();
+
+		assertThat(batchJson, is(json));
+	}
+
+	@Test
+	public void testWriterRendersItemsInParallelInTheirOriginalOrder() {
+		Page<RootModel> page = _createPage(50);
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Executor executor = runnable -> {
+			counter.incrementAndGet();
+
+			ForkJoinPool.commonPool().execute(runnable);
+		};
+
+		assertThat(_writeJSONLD(page, executor, 51), is(_writeJSONLD(page)));
+		assertThat(counter.get(), is(0));
+
+		assertThat(_writeJSONLD(page, executor, 50), is(_writeJSONLD(page)));
+		assertThat(counter.get(), is(50));
+	}
+
+	@Test
+	public void testWriterRendersRejectedItemsInTheRequestThread() {
+		Page<RootModel> page = _createPage(10);
+
+		Executor executor = runnable -> {
+			throw new RejectedExecutionException();
+		};
+
+		assertThat(_writeJSONLD(page, executor, 1), is(_writeJSONLD(page)));
+	}
+
+	@Test
+	public void testWriterResolvesEachRelatedModelOnlyOnce() {
+		List<Object> singleCalls = new ArrayList<>();
+
+		PageWriter<RootModel> pageWriter = _getPageWriter(
+			(identifier, identifierClass) -> {
+				if (identifierClass.equals(FirstEmbeddedId.class)) {
+					singleCalls.add(identifier);
+				}
+
+				return MockWriterUtil.getSingleModel(
+					identifier, identifierClass);
+			},
+			(identifiers, identifierClass) -> Optional.empty());
+
+		pageWriter.write();
+
+		assertThat(
+			singleCalls, contains("first", "second", "third", "fourth"));
+	}
+
+	@Test
+	public void testWriterResolvesRelatedModelsInTheRequestThread() {
+		Page<RootModel> page = _createPage(50);
+
+		Thread requestThread = Thread.currentThread();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+		try {
+			JsonObject jsonObject = _writeJSONLD(
+				page, executorService, 1,
+				(identifier, identifierClass) -> {
+					_assertIsThread(requestThread);
+
+					return MockWriterUtil.getSingleModel(
+						identifier, identifierClass);
+				},
+				() -> {
+					_assertIsThread(requestThread);
+
+					return Locale.getDefault();
+				});
+
+			assertThat(jsonObject, is(_writeJSONLD(page)));
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Fails like a request proxy does when it's used outside the request's
+	 * thread.
+	 */
+	private static void _assertIsThread(Thread thread) {
+		if (thread != Thread.currentThread()) {
+			throw new IllegalStateException("Not in the request's thread");
+		}
+	}
+
+	private static Page<RootModel> _createPage(int size) {
+		List<RootModel> items = new ArrayList<>();
+
+		for (int i = 0; i < size; i++) {
+			String id = String.valueOf(i);
+
+			items.add(() -> id);
+		}
+
+		return new PageImpl<>(
+			"root", new PageItems<>(items, size), new PaginationImpl(size, 1),
+			new Path("name", "id"), Collections.emptyList());
+	}
+
+	private PageWriter<RootModel> _getPageWriter(
+		SingleModelFunction singleModelFunction,
+		BatchSingleModelFunction batchSingleModelFunction) {
+
+		Collection<RootModel> items = Arrays.asList(
+			() -> "1", () -> "2", () -> "3");
+
+		Page<RootModel> page = new PageImpl<>(
+			"root", new PageItems<>(items, 9), new PaginationImpl(3, 2),
+			new Path("name", "id"), Collections.emptyList());
+
+		return PageWriter.create(
+			builder -> builder.page(
+				page
+			).pageMessageMapper(
+				() -> "mediaType"
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				MockWriterUtil::getRepresentorOptional
+			).requestInfo(
+				getRequestInfo()
+			).singleModelFunction(
+				singleModelFunction
+			).batchSingleModelFunction(
+				batchSingleModelFunction
+			).build());
+	}
+
+	private JsonObject _writeJSONLD(Page<RootModel> page) {
+		return _writeJSONLD(page, null, 0);
+	}
+
+	private JsonObject _writeJSONLD(
+		Page<RootModel> page, Executor executor, int threshold) {
+
+		return _writeJSONLD(
+			page, executor, threshold, MockWriterUtil::getSingleModel,
+			Locale::getDefault);
+	}
+
+	private JsonObject _writeJSONLD(
+		Page<RootModel> page, Executor executor, int threshold,
+		SingleModelFunction singleModelFunction,
+		AcceptLanguage acceptLanguage) {
+
+		RequestInfo requestInfo = RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> "localhost"
+			).applicationURL(
+				() -> "localhost/o/api"
+			).embedded(
+				Arrays.asList("embedded1", "embedded1.embedded")::contains
+			).fields(
+				__ -> string -> true
+			).language(
+				acceptLanguage
+			).build());
+
+		PageWriter<RootModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				page
+			).pageMessageMapper(
+				new JSONLDPageMessageMapper<>()
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				MockWriterUtil::getRepresentorOptional
+			).requestInfo(
+				requestInfo
+			).singleModelFunction(
+				singleModelFunction
+			).parallelItemRendering(
+				executor, threshold
+			).build());
+
+		return new Gson().fromJson(pageWriter.write(), JsonObject.class);
+	}
+
+}
@@ -21,6 +21,9 @@ import static org.hamcrest.Matchers.is;
 
 import com.liferay.apio.architect.impl.internal.single.model.SingleModelImpl;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import java.util.Collections;
 import java.util.Optional;
 
@@ -55,4 +58,33 @@ public class SingleModelWriterTest {
 		assertThat(optional, is(emptyOptional()));
 	}
 
+	@Test
+	public void testWriterWritesNothingIfNoRepresentorOrPathIsFound()
+		throws IOException {
+
+		SingleModelWriter<String> singleModelWriter = SingleModelWriter.create(
+			builder -> builder.singleModel(
+				new SingleModelImpl<>("Apio", "", Collections.emptyList())
+			).modelMessageMapper(
+				() -> "mediaType"
+			).pathFunction(
+				(resourceName, identifier) -> Optional.empty()
+			).resourceNameFunction(
+				__ -> Optional.empty()
+			).representorFunction(
+				__ -> Optional.empty()
+			).requestInfo(
+				null
+			).singleModelFunction(
+				(o, aClass) -> Optional.empty()
+			).build());
+
+		StringWriter stringWriter = new StringWriter();
+
+		boolean written = singleModelWriter.write(stringWriter);
+
+		assertThat(written, is(false));
+		assertThat(stringWriter.toString(), is(""));
+	}
+
 }
\ No newline at end of file
@@ -28,9 +28,9 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -161,6 +161,30 @@ public class PersonModel {
 		);
 	}
 
+	/**
+	 * Returns a page of persons, as specified by the ID of the person that
+	 * precedes the page. The persons are ordered by ID, so the page is found
+	 * without walking the persons before it.
+	 *
+	 * @param  afterId the ID of the person that precedes the page
+	 * @param  count the maximum number of persons in the page
+	 * @return the page of persons
+	 */
+	public static List<PersonModel> getPageAfter(long afterId, int count) {
+		ConcurrentNavigableMap<Long, PersonModel> personModels =
+			_personModels.tailMap(afterId, false);
+
+		Collection<PersonModel> values = personModels.values();
+
+		Stream<PersonModel> stream = values.stream();
+
+		return stream.limit(
+			count
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	/**
 	 * Deletes a person that matches the specified ID.
 	 *
@@ -311,8 +335,8 @@ public class PersonModel {
 	}
 
 	private static final AtomicLong _count = new AtomicLong(0);
-	private static final Map<Long, PersonModel> _personModels =
-		new ConcurrentHashMap<>();
+	private static final ConcurrentNavigableMap<Long, PersonModel>
+		_personModels = new ConcurrentSkipListMap<>();
 
 	private final String _avatar;
 	private final Date _birthDate;
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.sample.internal.resource;
 import static com.liferay.apio.architect.sample.internal.auth.PermissionChecker.hasPermission;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.pagination.DeferredCountPageItems;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.representor.Representor;
@@ -98,6 +99,8 @@ public class BlogPostingCollectionResource
 			"dateCreated", BlogPostingModel::getCreateDate
 		).addDate(
 			"dateModified", BlogPostingModel::getModifiedDate
+		).addLastModified(
+			BlogPostingModel::getModifiedDate
 		).addLinkedModel(
 			"creator", PersonIdentifier.class, BlogPostingModel::getCreatorId
 		).addNestedList(
@@ -164,9 +167,9 @@ public class BlogPostingCollectionResource
 	private PageItems<BlogPostingModel> _getPageItems(Pagination pagination) {
 		List<BlogPostingModel> blogPostingModels = BlogPostingModel.getPage(
 			pagination.getStartPosition(), pagination.getEndPosition());
-		int count = BlogPostingModel.getCount();
 
-		return new PageItems<>(blogPostingModels, count);
+		return new DeferredCountPageItems<>(
+			blogPostingModels, BlogPostingModel::getCount);
 	}
 
 	private BlogPostingModel _updateBlogPostingModel(
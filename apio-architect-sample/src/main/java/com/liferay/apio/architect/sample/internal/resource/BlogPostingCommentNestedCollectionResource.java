@@ -17,6 +17,7 @@ package com.liferay.apio.architect.sample.internal.resource;
 import static com.liferay.apio.architect.sample.internal.auth.PermissionChecker.hasPermission;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.pagination.DeferredCountPageItems;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.representor.Representor;
@@ -145,9 +146,10 @@ public class BlogPostingCommentNestedCollectionResource implements
 			BlogPostingCommentModel.getPage(
 				blogPostingModelId, pagination.getStartPosition(),
 				pagination.getEndPosition());
-		int count = BlogPostingCommentModel.getCount(blogPostingModelId);
 
-		return new PageItems<>(blogPostingCommentModels, count);
+		return new DeferredCountPageItems<>(
+			blogPostingCommentModels,
+			() -> BlogPostingCommentModel.getCount(blogPostingModelId));
 	}
 
 	private BlogPostingCommentModel _updateBlogPostingComment(
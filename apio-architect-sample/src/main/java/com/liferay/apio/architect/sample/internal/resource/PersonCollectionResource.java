@@ -17,6 +17,8 @@ package com.liferay.apio.architect.sample.internal.resource;
 import static com.liferay.apio.architect.sample.internal.auth.PermissionChecker.hasPermission;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.pagination.DeferredCountPageItems;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.representor.Representor;
@@ -29,9 +31,13 @@ import com.liferay.apio.architect.sample.internal.identifier.PersonIdentifier;
 import com.liferay.apio.architect.sample.internal.model.PersonModel;
 import com.liferay.apio.architect.sample.internal.model.PostalAddressModel;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.NotFoundException;
 
@@ -69,7 +75,9 @@ public class PersonCollectionResource
 	public ItemRoutes<PersonModel, Long> itemRoutes(
 		ItemRoutes.Builder<PersonModel, Long> builder) {
 
-		return builder.addGetter(
+		return builder.addBatchGetter(
+			this::_getPeople
+		).addGetter(
 			this::_getPerson
 		).addRemover(
 			this::_deletePerson, Credentials.class,
@@ -144,11 +152,60 @@ public class PersonCollectionResource
 	}
 
 	private PageItems<PersonModel> _getPageItems(Pagination pagination) {
+		Optional<String> cursorOptional = pagination.getCursorOptional();
+
+		if (cursorOptional.isPresent()) {
+			return _getPageItems(pagination, cursorOptional.get());
+		}
+
 		List<PersonModel> personModels = PersonModel.getPage(
 			pagination.getStartPosition(), pagination.getEndPosition());
-		int count = PersonModel.getCount();
 
-		return new PageItems<>(personModels, count);
+		return new DeferredCountPageItems<>(
+			personModels, PersonModel::getCount);
+	}
+
+	private PageItems<PersonModel> _getPageItems(
+		Pagination pagination, String cursor) {
+
+		long afterId = Long.MIN_VALUE;
+
+		if (!cursor.isEmpty()) {
+			afterId = Try.fromFallible(
+				() -> Long.parseLong(cursor)
+			).orElseThrow(
+				() -> new BadRequestException("Invalid cursor " + cursor)
+			);
+		}
+
+		int itemsPerPage = pagination.getItemsPerPage();
+
+		List<PersonModel> personModels = PersonModel.getPageAfter(
+			afterId, itemsPerPage + 1);
+
+		if (personModels.size() <= itemsPerPage) {
+			return new PageItems<>(personModels, null);
+		}
+
+		personModels = personModels.subList(0, itemsPerPage);
+
+		PersonModel personModel = personModels.get(itemsPerPage - 1);
+
+		return new PageItems<>(
+			personModels, String.valueOf(personModel.getId()));
+	}
+
+	private Map<Long, PersonModel> _getPeople(Collection<Long> ids) {
+		Map<Long, PersonModel> personModels = new HashMap<>();
+
+		for (Long id : ids) {
+			Optional<PersonModel> optional = PersonModel.get(id);
+
+			optional.ifPresent(
+				personModel -> personModels.put(id, personModel));
+		}
+
+		return personModels;
 	}
 
 	private PersonModel _getPerson(long id) {